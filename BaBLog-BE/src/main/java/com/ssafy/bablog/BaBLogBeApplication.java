@@ -12,7 +12,8 @@ import org.springframework.scheduling.annotation.EnableScheduling;
         "com.ssafy.bablog.meal_log.repository.mapper",
         "com.ssafy.bablog.food.repository.mapper",
         "com.ssafy.bablog.member_nutrient.repository.mapper",
-        "com.ssafy.bablog.report.repository.mapper"
+        "com.ssafy.bablog.report.repository.mapper",
+        "com.ssafy.bablog.security.repository.mapper"
 })
 @EnableScheduling
 public class BaBLogBeApplication {
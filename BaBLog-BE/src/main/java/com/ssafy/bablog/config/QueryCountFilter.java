@@ -0,0 +1,74 @@
+package com.ssafy.bablog.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * 요청마다 MyBatis 문장 수를 세어 남긴다.
+ * - 응답 헤더 `X-Query-Count` (`QueryCountHeaderAdvice`가 본문을 쓰기 직전에 설정)
+ * - 분포 `http.server.requests.queries` (method, uri=매핑 패턴)
+ * - 같은 문장이 `query-count.repeat-threshold`회를 넘게 실행되면 N+1 의심으로 WARN 로그
+ * 보안 필터에서 실행되는 조회도 포함하도록 가장 먼저 실행된다.
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class QueryCountFilter extends OncePerRequestFilter {
+
+    public static final String HEADER = "X-Query-Count";
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${query-count.enabled:true}")
+    private boolean enabled;
+
+    @Value("${query-count.repeat-threshold:5}")
+    private int repeatThreshold;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        try (QueryCounter.Scope scope = QueryCounter.open()) {
+            filterChain.doFilter(request, response);
+            report(request, scope);
+        }
+    }
+
+    private void report(HttpServletRequest request, QueryCounter.Scope scope) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern == null ? "UNKNOWN" : pattern.toString();
+        DistributionSummary.builder("http.server.requests.queries")
+                .description("MyBatis statements executed per request")
+                .tag("method", request.getMethod())
+                .tag("uri", uri)
+                .register(meterRegistry)
+                .record(scope.total());
+
+        Map<String, Integer> repeated = scope.repeatedOver(repeatThreshold);
+        if (!repeated.isEmpty()) {
+            log.warn("Possible N+1 on {} {}: {} statements in total, repeated {}",
+                    request.getMethod(), uri, scope.total(), repeated);
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.ssafy.bablog.config;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * 응답 본문을 쓰기 직전(커밋 전)에 지금까지 실행된 문장 수를 `X-Query-Count` 헤더로 내보낸다.
+ * StreamingResponseBody 등 본문 변환을 거치지 않는 응답에는 붙지 않는다.
+ */
+@ControllerAdvice
+public class QueryCountHeaderAdvice implements ResponseBodyAdvice<Object> {
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body,
+                                  MethodParameter returnType,
+                                  MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request,
+                                  ServerHttpResponse response) {
+        QueryCounter.Scope scope = QueryCounter.current();
+        if (scope != null) {
+            response.getHeaders().set(QueryCountFilter.HEADER, Integer.toString(scope.total()));
+        }
+        return body;
+    }
+}
@@ -0,0 +1,105 @@
+package com.ssafy.bablog.config;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 현재 스레드(요청)에서 실행된 MyBatis 문장 수를 센다.
+ * - 웹 요청은 `QueryCountFilter`가 범위를 열고 닫는다. 범위가 없으면 record()는 아무것도 하지 않는다.
+ * - 테스트에서는 직접 범위를 열어 호출 수를 검증할 수 있다.
+ * <pre>
+ * try (QueryCounter.Scope scope = QueryCounter.open()) {
+ *     mealService.getSummary(memberId, date);
+ *     scope.assertAtMost(3);
+ *     scope.assertNoRepeatsOver(1);
+ * }
+ * </pre>
+ * 비동기 스트리밍 응답처럼 다른 스레드에서 실행된 문장은 포함되지 않는다.
+ */
+public final class QueryCounter {
+
+    private static final ThreadLocal<Scope> CURRENT = new ThreadLocal<>();
+
+    private QueryCounter() {
+    }
+
+    public static Scope open() {
+        Scope scope = new Scope(CURRENT.get());
+        CURRENT.set(scope);
+        return scope;
+    }
+
+    public static Scope current() {
+        return CURRENT.get();
+    }
+
+    static void record(String statementId) {
+        Scope scope = CURRENT.get();
+        if (scope != null) {
+            scope.record(statementId);
+        }
+    }
+
+    public static final class Scope implements AutoCloseable {
+        private final Scope parent;
+        private final Map<String, Integer> counts = new HashMap<>();
+        private int total;
+
+        private Scope(Scope parent) {
+            this.parent = parent;
+        }
+
+        private void record(String statementId) {
+            total++;
+            counts.merge(statementId, 1, Integer::sum);
+            if (parent != null) {
+                parent.record(statementId);
+            }
+        }
+
+        public int total() {
+            return total;
+        }
+
+        public int count(String statementId) {
+            return counts.getOrDefault(statementId, 0);
+        }
+
+        /**
+         * threshold회를 넘게 실행된 문장과 실행 횟수 (많은 순)
+         */
+        public Map<String, Integer> repeatedOver(int threshold) {
+            Map<String, Integer> repeated = new LinkedHashMap<>();
+            counts.entrySet().stream()
+                    .filter(entry -> entry.getValue() > threshold)
+                    .sorted(Map.Entry.<String, Integer>comparingByValue().reversed())
+                    .forEach(entry -> repeated.put(entry.getKey(), entry.getValue()));
+            return repeated;
+        }
+
+        public void assertAtMost(int maxStatements) {
+            if (total > maxStatements) {
+                throw new AssertionError("Expected at most " + maxStatements + " statements but was " + total + ": " + counts);
+            }
+        }
+
+        public void assertNoRepeatsOver(int threshold) {
+            Map<String, Integer> repeated = repeatedOver(threshold);
+            if (!repeated.isEmpty()) {
+                throw new AssertionError("Statements executed more than " + threshold + " times: " + repeated);
+            }
+        }
+
+        @Override
+        public void close() {
+            if (CURRENT.get() == this) {
+                if (parent == null) {
+                    CURRENT.remove();
+                } else {
+                    CURRENT.set(parent);
+                }
+            }
+        }
+    }
+}
@@ -1,9 +1,12 @@
 package com.ssafy.bablog.food.controller;
 
 import com.ssafy.bablog.food.controller.dto.FoodResponse;
+import com.ssafy.bablog.food.controller.dto.FoodSuggestionResponse;
 import com.ssafy.bablog.food.service.FoodService;
+import com.ssafy.bablog.security.MemberPrincipal;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
@@ -19,14 +22,44 @@ public class FoodController {
     private final FoodService foodService;
 
     /**
-     * 음식명/제조사 키워드 검색 (부분 일치)
+     * 음식명/제조사 키워드 검색 (부분 일치, 완전 일치 > 접두 일치 > 부분 일치 순)
      */
     @GetMapping("/search")
     public ResponseEntity<List<FoodResponse>> search(
             @RequestParam(value = "name", required = false) String name,
-            @RequestParam(value = "vendor", required = false) String vendor
+            @RequestParam(value = "vendor", required = false) String vendor,
+            @RequestParam(value = "page", defaultValue = "0") int page,
+            @RequestParam(value = "size", defaultValue = "20") int size
     ) {
-        List<FoodResponse> responses = foodService.search(name, vendor).stream()
+        List<FoodResponse> responses = foodService.search(name, vendor, page, size).stream()
+                .map(FoodResponse::from)
+                .toList();
+        return ResponseEntity.ok(responses);
+    }
+
+    /**
+     * 음식명 자동완성 ("닭가", 초성 "ㄷㄱㅅ" 모두 접두 일치)
+     */
+    @GetMapping("/autocomplete")
+    public ResponseEntity<List<FoodSuggestionResponse>> autocomplete(
+            @RequestParam("q") String query,
+            @RequestParam(value = "size", defaultValue = "10") int size
+    ) {
+        List<FoodSuggestionResponse> responses = foodService.autocomplete(query, size).stream()
+                .map(FoodSuggestionResponse::from)
+                .toList();
+        return ResponseEntity.ok(responses);
+    }
+
+    /**
+     * 내가 자주 추가한 음식 (기록이 없으면 전체 인기 음식)
+     */
+    @GetMapping("/frequent")
+    public ResponseEntity<List<FoodResponse>> frequent(
+            @AuthenticationPrincipal MemberPrincipal principal,
+            @RequestParam(value = "size", defaultValue = "10") int size
+    ) {
+        List<FoodResponse> responses = foodService.frequent(principal.getId(), size).stream()
                 .map(FoodResponse::from)
                 .toList();
         return ResponseEntity.ok(responses);
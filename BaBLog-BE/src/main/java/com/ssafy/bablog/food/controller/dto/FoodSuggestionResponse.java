@@ -0,0 +1,19 @@
+package com.ssafy.bablog.food.controller.dto;
+
+import com.ssafy.bablog.food.service.FoodAutocompleteIndex;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class FoodSuggestionResponse {
+    private Long id;
+    private String name;
+    private String vendor;
+
+    public static FoodSuggestionResponse from(FoodAutocompleteIndex.Suggestion suggestion) {
+        return new FoodSuggestionResponse(suggestion.id(), suggestion.name(), suggestion.vendor());
+    }
+}
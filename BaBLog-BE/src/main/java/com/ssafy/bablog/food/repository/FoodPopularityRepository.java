@@ -0,0 +1,30 @@
+package com.ssafy.bablog.food.repository;
+
+import com.ssafy.bablog.food.repository.mapper.FoodUsageCount;
+
+import java.util.List;
+
+public interface FoodPopularityRepository {
+    /**
+     * 마지막 체크포인트 이후 추가된 meal_food를 전체/회원별 인기 집계에 누적한다.
+     * 구간의 끝은 settleSeconds보다 먼저 만들어진 행까지로, 커밋이 늦은 트랜잭션의 행을 건너뛰지 않는다.
+     * @return 반영한 meal_food 구간의 끝 id (새 데이터가 없으면 기존 체크포인트)
+     */
+    long accumulateSinceCheckpoint(int settleSeconds);
+
+    long findCheckpoint();
+
+    /**
+     * 이미 집계에 들어간 meal_food(id가 체크포인트 이하)의 음식이 바뀌었으면 fromFoodId를 1 빼고 toFoodId를 1 더한다.
+     * toFoodId가 null이면 삭제. 아직 집계 전인 행은 집계 시점의 값이 반영되므로 건드리지 않는다.
+     */
+    void reassignUsage(Long memberId, Long mealFoodId, Long fromFoodId, Long toFoodId);
+
+    List<Long> findMemberIdsInRange(long afterId, long toId);
+
+    List<FoodUsageCount> findGlobalCounts();
+
+    List<Long> findGlobalTopFoodIds(int limit);
+
+    List<Long> findMemberTopFoodIds(Long memberId, int limit);
+}
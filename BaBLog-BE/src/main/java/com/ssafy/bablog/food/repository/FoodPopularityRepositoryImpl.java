@@ -0,0 +1,75 @@
+package com.ssafy.bablog.food.repository;
+
+import com.ssafy.bablog.food.repository.mapper.FoodPopularityMapper;
+import com.ssafy.bablog.food.repository.mapper.FoodUsageCount;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Repository
+public class FoodPopularityRepositoryImpl implements FoodPopularityRepository {
+
+    private final FoodPopularityMapper mapper;
+
+    public FoodPopularityRepositoryImpl(FoodPopularityMapper mapper) {
+        this.mapper = mapper;
+    }
+
+    @Override
+    @Transactional
+    public long accumulateSinceCheckpoint(int settleSeconds) {
+        Long checkpoint = mapper.lockCheckpoint();
+        long afterId = checkpoint == null ? 0L : checkpoint;
+        long toId = mapper.findSettledMaxMealFoodId(settleSeconds);
+        if (toId <= afterId) {
+            return afterId;
+        }
+        mapper.accumulateGlobal(afterId, toId);
+        mapper.accumulateMember(afterId, toId);
+        mapper.updateCheckpoint(toId);
+        return toId;
+    }
+
+    @Override
+    public long findCheckpoint() {
+        Long checkpoint = mapper.findCheckpoint();
+        return checkpoint == null ? 0L : checkpoint;
+    }
+
+    @Override
+    @Transactional
+    public void reassignUsage(Long memberId, Long mealFoodId, Long fromFoodId, Long toFoodId) {
+        // 공유 잠금: 진행 중인 누적이 커밋된 뒤의 체크포인트로 판단한다
+        Long checkpoint = mapper.lockCheckpointShared();
+        if (checkpoint == null || mealFoodId > checkpoint) {
+            return;
+        }
+        mapper.adjustGlobal(fromFoodId, -1);
+        mapper.adjustMember(memberId, fromFoodId, -1);
+        if (toFoodId != null) {
+            mapper.adjustGlobal(toFoodId, 1);
+            mapper.adjustMember(memberId, toFoodId, 1);
+        }
+    }
+
+    @Override
+    public List<Long> findMemberIdsInRange(long afterId, long toId) {
+        return mapper.findMemberIdsInRange(afterId, toId);
+    }
+
+    @Override
+    public List<FoodUsageCount> findGlobalCounts() {
+        return mapper.findGlobalCounts();
+    }
+
+    @Override
+    public List<Long> findGlobalTopFoodIds(int limit) {
+        return mapper.findGlobalTopFoodIds(limit);
+    }
+
+    @Override
+    public List<Long> findMemberTopFoodIds(Long memberId, int limit) {
+        return mapper.findMemberTopFoodIds(memberId, limit);
+    }
+}
@@ -2,11 +2,19 @@ package com.ssafy.bablog.food.repository;
 
 import com.ssafy.bablog.food.domain.Food;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
 public interface FoodRepository {
     Optional<Food> findById(Long foodId);
 
-    List<Food> search(String nameKeyword, String vendorKeyword);
+    List<Food> search(String nameKeyword, String vendorKeyword, int offset, int limit);
+
+    List<Food> findByIds(List<Long> ids);
+
+    /**
+     * 검색 색인용 id/name/vendor/updated_at만 조회 (since가 null이면 전체)
+     */
+    List<Food> findIndexEntriesUpdatedSince(LocalDateTime since);
 }
@@ -4,6 +4,7 @@ import com.ssafy.bablog.food.domain.Food;
 import com.ssafy.bablog.food.repository.mapper.FoodMapper;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -22,7 +23,20 @@ public class FoodRepositoryImpl implements FoodRepository {
     }
 
     @Override
-    public List<Food> search(String nameKeyword, String vendorKeyword) {
-        return foodMapper.search(nameKeyword, vendorKeyword);
+    public List<Food> search(String nameKeyword, String vendorKeyword, int offset, int limit) {
+        return foodMapper.search(nameKeyword, vendorKeyword, offset, limit);
+    }
+
+    @Override
+    public List<Food> findByIds(List<Long> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return List.of();
+        }
+        return foodMapper.findByIds(ids);
+    }
+
+    @Override
+    public List<Food> findIndexEntriesUpdatedSince(LocalDateTime since) {
+        return foodMapper.findIndexEntriesUpdatedSince(since);
     }
 }
@@ -4,11 +4,19 @@ import com.ssafy.bablog.food.domain.Food;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Mapper
 public interface FoodMapper {
     Food findById(@Param("id") Long id);
 
-    List<Food> search(@Param("nameKeyword") String nameKeyword, @Param("vendorKeyword") String vendorKeyword);
+    List<Food> search(@Param("nameKeyword") String nameKeyword,
+                      @Param("vendorKeyword") String vendorKeyword,
+                      @Param("offset") int offset,
+                      @Param("limit") int limit);
+
+    List<Food> findByIds(@Param("ids") List<Long> ids);
+
+    List<Food> findIndexEntriesUpdatedSince(@Param("since") LocalDateTime since);
 }
@@ -0,0 +1,35 @@
+package com.ssafy.bablog.food.repository.mapper;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.util.List;
+
+@Mapper
+public interface FoodPopularityMapper {
+    Long lockCheckpoint();
+
+    Long findCheckpoint();
+
+    Long lockCheckpointShared();
+
+    long findSettledMaxMealFoodId(@Param("settleSeconds") int settleSeconds);
+
+    List<Long> findMemberIdsInRange(@Param("afterId") long afterId, @Param("toId") long toId);
+
+    int accumulateGlobal(@Param("afterId") long afterId, @Param("toId") long toId);
+
+    int accumulateMember(@Param("afterId") long afterId, @Param("toId") long toId);
+
+    int adjustGlobal(@Param("foodId") Long foodId, @Param("delta") int delta);
+
+    int adjustMember(@Param("memberId") Long memberId, @Param("foodId") Long foodId, @Param("delta") int delta);
+
+    void updateCheckpoint(@Param("lastMealFoodId") long lastMealFoodId);
+
+    List<FoodUsageCount> findGlobalCounts();
+
+    List<Long> findGlobalTopFoodIds(@Param("limit") int limit);
+
+    List<Long> findMemberTopFoodIds(@Param("memberId") Long memberId, @Param("limit") int limit);
+}
@@ -0,0 +1,11 @@
+package com.ssafy.bablog.food.repository.mapper;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class FoodUsageCount {
+    private Long foodId;
+    private Long usageCount;
+}
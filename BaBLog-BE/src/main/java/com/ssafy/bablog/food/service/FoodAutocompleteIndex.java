@@ -0,0 +1,494 @@
+package com.ssafy.bablog.food.service;
+
+import com.ssafy.bablog.food.domain.Food;
+import com.ssafy.bablog.food.repository.FoodPopularityRepository;
+import com.ssafy.bablog.food.repository.FoodRepository;
+import com.ssafy.bablog.food.repository.mapper.FoodUsageCount;
+import com.ssafy.bablog.food.util.HangulJamo;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 음식명 자동완성 색인
+ * - 키: 음식명(및 단어 시작 위치부터의 부분 문자열)의 자모 분해 문자열, 초성 문자열
+ * - 구조: 키를 정렬해 하나의 char[]에 이어 붙이고 offset(int[])으로 구분, 접두 범위는 이진 탐색으로 찾는다
+ * - 짧은 접두(자모 2개 이하)와 키가 MAX_SCAN_KEYS개를 넘는 접두는 상위 K개를 미리 계산해 두고, 나머지 접두만 범위를 훑는다
+ * - 순위: 사용 횟수(food_popularity) 내림차순, 같으면 짧은 이름
+ * 시작 시/매일 새로 만든 불변 색인을 통째로 교체하고, 그 사이 추가/수정된 음식은 `food.search.refresh-ms`마다
+ * updated_at 기준으로 읽어 작은 추가분(Pending)에 넣는다. 조회는 색인 결과(수정된 문서 제외)와 추가분을 합쳐 순위를 매긴다.
+ * 추가분이 `food.autocomplete.max-pending`을 넘으면 색인을 새로 만든다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FoodAutocompleteIndex {
+
+    public static final int MAX_SUGGESTIONS = 20;
+    private static final int CACHED_PREFIX_LENGTH = 2;
+    private static final int MAX_WORD_STARTS = 4;
+    private static final int MAX_SCAN_KEYS = 512;
+
+    private final FoodRepository foodRepository;
+    private final FoodPopularityRepository foodPopularityRepository;
+    private final FoodPopularityService foodPopularityService;
+
+    @Value("${food.autocomplete.enabled:true}")
+    private boolean enabled;
+
+    @Value("${food.autocomplete.max-pending:5000}")
+    private int maxPending;
+
+    private volatile Snapshot snapshot;
+    private volatile Pending pending = Pending.EMPTY;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void load() {
+        if (!enabled) {
+            return;
+        }
+        long started = System.currentTimeMillis();
+        List<Food> foods = foodRepository.findIndexEntriesUpdatedSince(null);
+        Map<Long, Long> usage = new HashMap<>();
+        for (FoodUsageCount count : foodPopularityRepository.findGlobalCounts()) {
+            usage.put(count.getFoodId(), count.getUsageCount());
+        }
+        Snapshot next = new Snapshot(foods, usage);
+        // 추가분의 문서 번호는 이전 색인 기준이므로 먼저 비운다 (잠깐 최근 변경이 빠질 뿐 다른 문서를 가리지 않는다)
+        pending = Pending.EMPTY;
+        snapshot = next;
+        log.info("Food autocomplete index loaded: {} foods in {} ms", foods.size(), System.currentTimeMillis() - started);
+    }
+
+    @Scheduled(cron = "${food.search.rebuild-cron:0 30 4 * * *}")
+    public void rebuild() {
+        load();
+    }
+
+    /**
+     * 색인을 만든 뒤 추가/수정된 음식을 추가분에 반영한다. 추가분은 통째로 새로 만들어 교체하므로 조회와 잠금이 필요 없다.
+     */
+    @Scheduled(fixedDelayString = "${food.search.refresh-ms:60000}", initialDelayString = "${food.search.refresh-ms:60000}")
+    public synchronized void refresh() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            return;
+        }
+        Pending previous = pending;
+        LocalDateTime since = previous.lastUpdatedAt != null ? previous.lastUpdatedAt : current.lastUpdatedAt;
+        List<Food> changed = foodRepository.findIndexEntriesUpdatedSince(since);
+        if (changed.isEmpty()) {
+            return;
+        }
+        if (previous.entries.size() + changed.size() > maxPending) {
+            load();
+            return;
+        }
+        pending = previous.with(changed, current, foodPopularityService);
+    }
+
+    public boolean isReady() {
+        return snapshot != null;
+    }
+
+    /**
+     * 입력 중인 문자열로 상위 size개 음식을 반환. 초성만 입력하면 초성 키로, 그 외에는 자모 키로 접두 검색한다.
+     */
+    public List<Suggestion> suggest(String query, int size) {
+        Snapshot current = snapshot;
+        if (current == null || query == null || size <= 0) {
+            return List.of();
+        }
+        int limit = Math.min(size, MAX_SUGGESTIONS);
+        boolean chosungOnly = HangulJamo.isChosungOnly(query);
+        String prefix = chosungOnly ? HangulJamo.chosung(query) : HangulJamo.decompose(query);
+        int[] docs = chosungOnly
+                ? current.chosungTable.top(prefix, limit, current.rankKeys)
+                : current.jamoTable.top(prefix, limit, current.rankKeys);
+
+        Pending added = pending;
+        if (added.entries.isEmpty()) {
+            List<Suggestion> suggestions = new ArrayList<>(docs.length);
+            for (int doc : docs) {
+                suggestions.add(new Suggestion(current.ids[doc], current.names[doc], current.vendors[doc]));
+            }
+            return suggestions;
+        }
+
+        // 색인 결과에서 수정된 문서를 빼고 추가분의 일치 항목과 합쳐 다시 순위를 매긴다
+        List<Ranked> merged = new ArrayList<>(docs.length + 4);
+        for (int doc : docs) {
+            if (!added.hiddenDocs.get(doc)) {
+                merged.add(new Ranked(current.rankKeys[doc],
+                        new Suggestion(current.ids[doc], current.names[doc], current.vendors[doc])));
+            }
+        }
+        if (!prefix.isEmpty()) {
+            for (PendingEntry entry : added.entries) {
+                if (entry.matches(prefix, chosungOnly)) {
+                    merged.add(new Ranked(entry.rankKey, entry.suggestion));
+                }
+            }
+        }
+        merged.sort((a, b) -> Long.compare(b.rankKey(), a.rankKey()));
+        List<Suggestion> suggestions = new ArrayList<>(Math.min(limit, merged.size()));
+        for (int i = 0; i < merged.size() && i < limit; i++) {
+            suggestions.add(merged.get(i).suggestion());
+        }
+        return suggestions;
+    }
+
+    public record Suggestion(Long id, String name, String vendor) {
+    }
+
+    private record Ranked(long rankKey, Suggestion suggestion) {
+    }
+
+    // 클수록 우선: 상위 비트 사용 횟수, 하위 16비트 (0xFFFF - 이름 길이)
+    private static long rankKey(long usageCount, String name) {
+        long used = Math.min(usageCount, Long.MAX_VALUE >> 17);
+        return (used << 16) | (0xFFFF - Math.min(name.length(), 0xFFFF));
+    }
+
+    // "닭가슴살 샐러드"는 "닭가슴살샐러드", "샐러드" 둘 다 접두 일치 대상
+    private static List<String> wordSuffixes(String name) {
+        String[] words = name.split("\\s+");
+        List<String> suffixes = new ArrayList<>(Math.min(words.length, MAX_WORD_STARTS));
+        for (int start = 0; start < words.length && start < MAX_WORD_STARTS; start++) {
+            String suffix = String.join("", Arrays.copyOfRange(words, start, words.length));
+            if (!suffix.isEmpty()) {
+                suffixes.add(suffix);
+            }
+        }
+        return suffixes;
+    }
+
+    /**
+     * 색인 이후 추가/수정된 음식. hiddenDocs는 수정되어 색인 쪽 항목을 가려야 하는 문서 번호.
+     */
+    private static final class Pending {
+        private static final Pending EMPTY = new Pending(List.of(), new BitSet(), null);
+
+        private final List<PendingEntry> entries;
+        private final BitSet hiddenDocs;
+        private final LocalDateTime lastUpdatedAt;
+
+        private Pending(List<PendingEntry> entries, BitSet hiddenDocs, LocalDateTime lastUpdatedAt) {
+            this.entries = entries;
+            this.hiddenDocs = hiddenDocs;
+            this.lastUpdatedAt = lastUpdatedAt;
+        }
+
+        private Pending with(List<Food> changed, Snapshot snapshot, FoodPopularityService popularity) {
+            Map<Long, PendingEntry> byId = new LinkedHashMap<>();
+            for (PendingEntry entry : entries) {
+                byId.put(entry.suggestion.id(), entry);
+            }
+            Set<Long> changedIds = new HashSet<>();
+            LocalDateTime latest = lastUpdatedAt != null ? lastUpdatedAt : snapshot.lastUpdatedAt;
+            for (Food food : changed) {
+                changedIds.add(food.getId());
+                byId.put(food.getId(), PendingEntry.of(food, popularity.usageCount(food.getId())));
+                if (food.getUpdatedAt() != null && (latest == null || food.getUpdatedAt().isAfter(latest))) {
+                    latest = food.getUpdatedAt();
+                }
+            }
+            BitSet hidden = (BitSet) hiddenDocs.clone();
+            for (int doc = 0; doc < snapshot.ids.length; doc++) {
+                if (changedIds.contains(snapshot.ids[doc])) {
+                    hidden.set(doc);
+                }
+            }
+            return new Pending(new ArrayList<>(byId.values()), hidden, latest);
+        }
+    }
+
+    private static final class PendingEntry {
+        private final Suggestion suggestion;
+        private final long rankKey;
+        private final List<String> jamoKeys;
+        private final List<String> chosungKeys;
+
+        private PendingEntry(Suggestion suggestion, long rankKey, List<String> jamoKeys, List<String> chosungKeys) {
+            this.suggestion = suggestion;
+            this.rankKey = rankKey;
+            this.jamoKeys = jamoKeys;
+            this.chosungKeys = chosungKeys;
+        }
+
+        private static PendingEntry of(Food food, long usageCount) {
+            String name = food.getName() == null ? "" : food.getName().trim();
+            List<String> jamoKeys = new ArrayList<>();
+            List<String> chosungKeys = new ArrayList<>();
+            for (String suffix : wordSuffixes(name)) {
+                jamoKeys.add(HangulJamo.decompose(suffix));
+                chosungKeys.add(HangulJamo.chosung(suffix));
+            }
+            return new PendingEntry(new Suggestion(food.getId(), name, food.getVendor()), rankKey(usageCount, name),
+                    jamoKeys, chosungKeys);
+        }
+
+        private boolean matches(String prefix, boolean chosungOnly) {
+            for (String key : chosungOnly ? chosungKeys : jamoKeys) {
+                if (key.startsWith(prefix)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    private static final class Snapshot {
+        private final long[] ids;
+        private final String[] names;
+        private final String[] vendors;
+        // 클수록 우선: 상위 비트 사용 횟수, 하위 16비트 (0xFFFF - 이름 길이)
+        private final long[] rankKeys;
+        private final PrefixTable jamoTable;
+        private final PrefixTable chosungTable;
+        private final LocalDateTime lastUpdatedAt;
+
+        private Snapshot(List<Food> foods, Map<Long, Long> usage) {
+            int size = foods.size();
+            ids = new long[size];
+            names = new String[size];
+            vendors = new String[size];
+            rankKeys = new long[size];
+            List<String> jamoKeys = new ArrayList<>(size * 2);
+            List<String> chosungKeys = new ArrayList<>(size * 2);
+            IntBuffer jamoDocs = new IntBuffer(size * 2);
+            IntBuffer chosungDocs = new IntBuffer(size * 2);
+            LocalDateTime latest = null;
+
+            for (int doc = 0; doc < size; doc++) {
+                Food food = foods.get(doc);
+                String name = food.getName() == null ? "" : food.getName().trim();
+                ids[doc] = food.getId();
+                names[doc] = name;
+                vendors[doc] = food.getVendor();
+                rankKeys[doc] = rankKey(usage.getOrDefault(food.getId(), 0L), name);
+                if (food.getUpdatedAt() != null && (latest == null || food.getUpdatedAt().isAfter(latest))) {
+                    latest = food.getUpdatedAt();
+                }
+
+                for (String suffix : wordSuffixes(name)) {
+                    jamoKeys.add(HangulJamo.decompose(suffix));
+                    jamoDocs.add(doc);
+                    chosungKeys.add(HangulJamo.chosung(suffix));
+                    chosungDocs.add(doc);
+                }
+            }
+            lastUpdatedAt = latest;
+            jamoTable = new PrefixTable(jamoKeys, jamoDocs.toArray(), rankKeys);
+            chosungTable = new PrefixTable(chosungKeys, chosungDocs.toArray(), rankKeys);
+        }
+    }
+
+    /**
+     * 정렬된 키 테이블. 키 문자는 하나의 char[]에 모으고 i번째 키는 [offsets[i], offsets[i + 1]) 구간이다.
+     */
+    private static final class PrefixTable {
+        private final char[] pool;
+        private final int[] offsets;
+        private final int[] docs;
+        private final Map<String, int[]> cachedTop = new HashMap<>();
+
+        private PrefixTable(List<String> keys, int[] keyDocs, long[] rankKeys) {
+            Integer[] order = new Integer[keys.size()];
+            for (int i = 0; i < order.length; i++) {
+                order[i] = i;
+            }
+            Arrays.sort(order, (a, b) -> keys.get(a).compareTo(keys.get(b)));
+
+            int totalLength = 0;
+            for (String key : keys) {
+                totalLength += key.length();
+            }
+            pool = new char[totalLength];
+            offsets = new int[order.length + 1];
+            docs = new int[order.length];
+            int cursor = 0;
+            for (int i = 0; i < order.length; i++) {
+                String key = keys.get(order[i]);
+                key.getChars(0, key.length(), pool, cursor);
+                offsets[i] = cursor;
+                docs[i] = keyDocs[order[i]];
+                cursor += key.length();
+            }
+            offsets[order.length] = cursor;
+
+            cacheWidePrefixes(0, docs.length, 0, rankKeys);
+        }
+
+        /**
+         * 범위가 넓어 매번 훑기 비싼 접두(길이 CACHED_PREFIX_LENGTH 이하, 또는 키가 MAX_SCAN_KEYS개 초과)의 상위 K개를 미리 계산.
+         * [from, to)는 길이 depth의 같은 접두를 가진 정렬 구간이며, 다음 글자별로 나눠 좁은 구간이 될 때까지 내려간다.
+         */
+        private void cacheWidePrefixes(int from, int to, int depth, long[] rankKeys) {
+            int i = from;
+            while (i < to) {
+                int start = offsets[i];
+                if (offsets[i + 1] - start <= depth) {
+                    i++;
+                    continue;
+                }
+                char next = pool[start + depth];
+                int j = i + 1;
+                while (j < to && offsets[j + 1] - offsets[j] > depth && pool[offsets[j] + depth] == next) {
+                    j++;
+                }
+                int prefixLength = depth + 1;
+                if (prefixLength <= CACHED_PREFIX_LENGTH || j - i > MAX_SCAN_KEYS) {
+                    cachedTop.put(new String(pool, start, prefixLength), select(i, j, MAX_SUGGESTIONS, rankKeys));
+                    cacheWidePrefixes(i, j, prefixLength, rankKeys);
+                }
+                i = j;
+            }
+        }
+
+        private int[] top(String prefix, int limit, long[] rankKeys) {
+            if (prefix.isEmpty()) {
+                return new int[0];
+            }
+            int[] cached = cachedTop.get(prefix);
+            if (cached != null) {
+                return cached.length <= limit ? cached : Arrays.copyOf(cached, limit);
+            }
+            if (prefix.length() <= CACHED_PREFIX_LENGTH) {
+                return new int[0];
+            }
+            // 미리 계산하지 않은 접두는 키가 MAX_SCAN_KEYS개 이하인 구간이다
+            int from = lowerBound(prefix);
+            return select(from, upperBound(prefix, from), limit, rankKeys);
+        }
+
+        // [from, to) 범위에서 rankKey 상위 limit개 문서를 중복 없이 선택
+        private int[] select(int from, int to, int limit, long[] rankKeys) {
+            int[] best = new int[limit];
+            int count = 0;
+            for (int i = from; i < to; i++) {
+                int doc = docs[i];
+                if (contains(best, count, doc)) {
+                    continue;
+                }
+                if (count == limit && !better(doc, best[count - 1], rankKeys)) {
+                    continue;
+                }
+                int position = count < limit ? count++ : count - 1;
+                while (position > 0 && better(doc, best[position - 1], rankKeys)) {
+                    best[position] = best[position - 1];
+                    position--;
+                }
+                best[position] = doc;
+            }
+            return Arrays.copyOf(best, count);
+        }
+
+        private static boolean better(int doc, int other, long[] rankKeys) {
+            if (rankKeys[doc] != rankKeys[other]) {
+                return rankKeys[doc] > rankKeys[other];
+            }
+            return doc < other;
+        }
+
+        private static boolean contains(int[] values, int count, int value) {
+            for (int i = 0; i < count; i++) {
+                if (values[i] == value) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        // prefix 이상인 첫 키 위치
+        private int lowerBound(String prefix) {
+            int low = 0;
+            int high = docs.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (compare(mid, prefix) < 0) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        // from부터 prefix로 시작하지 않는 첫 키 위치
+        private int upperBound(String prefix, int from) {
+            int low = from;
+            int high = docs.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (startsWith(mid, prefix)) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        private int compare(int index, String prefix) {
+            int start = offsets[index];
+            int length = offsets[index + 1] - start;
+            int common = Math.min(length, prefix.length());
+            for (int i = 0; i < common; i++) {
+                int diff = pool[start + i] - prefix.charAt(i);
+                if (diff != 0) {
+                    return diff;
+                }
+            }
+            return length - prefix.length();
+        }
+
+        private boolean startsWith(int index, String prefix) {
+            int start = offsets[index];
+            if (offsets[index + 1] - start < prefix.length()) {
+                return false;
+            }
+            for (int i = 0; i < prefix.length(); i++) {
+                if (pool[start + i] != prefix.charAt(i)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    private static final class IntBuffer {
+        private int[] values;
+        private int size;
+
+        private IntBuffer(int capacity) {
+            values = new int[Math.max(capacity, 4)];
+        }
+
+        private void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        private int[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package com.ssafy.bablog.food.service;
+
+import com.ssafy.bablog.food.domain.Food;
+import com.ssafy.bablog.food.repository.FoodPopularityRepository;
+import com.ssafy.bablog.food.repository.mapper.FoodUsageCount;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 음식 인기 통계
+ * - meal_food 추가분을 체크포인트 이후 id 구간만 주기적으로 food_popularity/member_food_frequency에 누적
+ *   (구간 끝은 `food.popularity.settle-seconds`보다 오래된 행까지라 늦게 커밋된 행도 다음 구간에 들어간다)
+ * - 이미 집계된 meal_food가 삭제되거나 음식이 바뀌면 바로 보정한다
+ * - 전체 사용 횟수와 전체 상위 음식은 메모리에 두고 검색 정렬/자주 먹는 음식 응답에 사용
+ * - 회원별 자주 먹는 음식은 LRU 캐시에 둔다. 새 구간에 들어간 회원과 보정한 회원만 비우고,
+ *   다른 인스턴스의 보정은 `food.popularity.member-cache-ttl-ms`가 지나면 반영된다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FoodPopularityService {
+
+    public static final int MAX_FREQUENT = 20;
+
+    private final FoodPopularityRepository foodPopularityRepository;
+    private final FoodCache foodCache;
+
+    @Value("${food.popularity.member-cache-size:10000}")
+    private int memberCacheSize;
+
+    @Value("${food.popularity.member-cache-ttl-ms:3600000}")
+    private long memberCacheTtlMillis;
+
+    @Value("${food.popularity.settle-seconds:60}")
+    private int settleSeconds;
+
+    private volatile Map<Long, Long> globalCounts = Map.of();
+    private volatile long version;
+    private volatile List<Food> globalTop = List.of();
+    // 회원 캐시가 반영한 체크포인트. 이후 구간에 들어간 회원만 비운다.
+    private volatile long seenCheckpoint = -1L;
+    private final Map<Long, MemberEntry> memberFrequent = new LinkedHashMap<>(256, 0.75f, true);
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        if (seenCheckpoint < 0) {
+            seenCheckpoint = foodPopularityRepository.findCheckpoint();
+        }
+        Map<Long, Long> counts = new HashMap<>();
+        for (FoodUsageCount count : foodPopularityRepository.findGlobalCounts()) {
+            counts.put(count.getFoodId(), count.getUsageCount());
+        }
+        globalCounts = counts;
+        version++;
+        globalTop = loadFoods(foodPopularityRepository.findGlobalTopFoodIds(MAX_FREQUENT));
+    }
+
+    @Scheduled(fixedDelayString = "${food.popularity.refresh-ms:300000}", initialDelayString = "${food.popularity.refresh-ms:300000}")
+    public void refresh() {
+        long before = System.currentTimeMillis();
+        long checkpoint = foodPopularityRepository.accumulateSinceCheckpoint(settleSeconds);
+        // 다른 인스턴스가 누적했어도 체크포인트가 움직였으면 그 구간의 회원을 비운다
+        long seen = seenCheckpoint;
+        if (seen >= 0 && checkpoint > seen) {
+            List<Long> memberIds = foodPopularityRepository.findMemberIdsInRange(seen, checkpoint);
+            synchronized (memberFrequent) {
+                memberIds.forEach(memberFrequent::remove);
+            }
+        }
+        seenCheckpoint = checkpoint;
+        load();
+        log.info("Food popularity refreshed up to meal_food id {} in {} ms", checkpoint, System.currentTimeMillis() - before);
+    }
+
+    /**
+     * 식단 음식의 음식이 바뀌거나(toFoodId) 삭제되었을 때(toFoodId = null) 이미 집계된 사용 횟수를 옮긴다.
+     * 호출한 트랜잭션에 참여하며, 회원 캐시는 커밋 후에도 한 번 더 비운다.
+     */
+    public void reassign(Long memberId, Long mealFoodId, Long fromFoodId, Long toFoodId) {
+        if (fromFoodId.equals(toFoodId)) {
+            return;
+        }
+        foodPopularityRepository.reassignUsage(memberId, mealFoodId, fromFoodId, toFoodId);
+        evictMember(memberId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    evictMember(memberId);
+                }
+            });
+        }
+    }
+
+    /**
+     * 사용 횟수를 다시 읽을 때마다 증가. 색인이 순위용 값을 다시 계산할지 판단할 때 쓴다.
+     */
+    public long version() {
+        return version;
+    }
+
+    public long usageCount(Long foodId) {
+        return globalCounts.getOrDefault(foodId, 0L);
+    }
+
+    /**
+     * 회원이 자주 추가한 음식 (기록이 없으면 전체 인기 음식)
+     */
+    public List<Food> frequentFoods(Long memberId, int size) {
+        MemberEntry entry;
+        synchronized (memberFrequent) {
+            entry = memberFrequent.get(memberId);
+        }
+        if (entry == null || entry.expiresAt() <= System.currentTimeMillis()) {
+            entry = new MemberEntry(loadFoods(foodPopularityRepository.findMemberTopFoodIds(memberId, MAX_FREQUENT)),
+                    System.currentTimeMillis() + memberCacheTtlMillis);
+            synchronized (memberFrequent) {
+                memberFrequent.put(memberId, entry);
+                if (memberFrequent.size() > memberCacheSize) {
+                    Long eldest = memberFrequent.keySet().iterator().next();
+                    memberFrequent.remove(eldest);
+                }
+            }
+        }
+        List<Food> foods = entry.foods();
+        if (foods.isEmpty()) {
+            foods = globalTop;
+        }
+        return foods.size() <= size ? foods : foods.subList(0, size);
+    }
+
+    private void evictMember(Long memberId) {
+        synchronized (memberFrequent) {
+            memberFrequent.remove(memberId);
+        }
+    }
+
+    private List<Food> loadFoods(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return foodCache.findAllById(ids);
+    }
+
+    private record MemberEntry(List<Food> foods, long expiresAt) {
+    }
+}
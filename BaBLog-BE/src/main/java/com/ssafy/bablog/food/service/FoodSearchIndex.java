@@ -0,0 +1,356 @@
+package com.ssafy.bablog.food.service;
+
+import com.ssafy.bablog.food.domain.Food;
+import com.ssafy.bablog.food.repository.FoodRepository;
+import com.ssafy.bablog.food.util.FoodKeyword;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 음식명/제조사 n-gram 역색인
+ * - 공백 제거 + 소문자로 정규화한 문자열의 1-gram/2-gram마다 문서 번호(int) 목록을 오름차순으로 보관
+ * - 질의의 gram 목록을 교집합한 뒤 실제 포함 여부를 확인해 부분 일치/접두 일치를 모두 처리
+ * - 정렬: 완전 일치 > 접두 일치 > 부분 일치, 같으면 인기(사용 횟수 로그 구간) > 짧은 이름 > 먼저 색인된 문서 순
+ * - 전체를 정렬하지 않고 (page+1)*size개만 남기는 힙으로 상위 결과를 고른다
+ * - 인기 구간은 문서별 byte 배열에 두고, 사용 횟수가 다시 집계되면 refresh에서 한 번에 다시 계산한다
+ * 시작 시 전체 적재 후 updated_at 기준으로 변경분만 주기적으로 반영하고, 삭제 반영을 위해 매일 새로 적재한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FoodSearchIndex {
+
+    private static final int RANK_EXACT = 0;
+    private static final int RANK_PREFIX = 1;
+    private static final int RANK_CONTAINS = 2;
+    private static final int MAX_LENGTH_KEY = 0xFFF;
+
+    private final FoodRepository foodRepository;
+    private final FoodPopularityService foodPopularityService;
+    private final FoodCache foodCache;
+
+    @Value("${food.search.index-enabled:true}")
+    private boolean enabled;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private volatile Snapshot snapshot;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        if (!enabled) {
+            return;
+        }
+        long started = System.currentTimeMillis();
+        Snapshot loaded = new Snapshot();
+        loaded.popularityVersion = foodPopularityService.version();
+        List<Food> foods = foodRepository.findIndexEntriesUpdatedSince(null);
+        for (Food food : foods) {
+            loaded.put(food, popularityBucket(food.getId()));
+        }
+        lock.writeLock().lock();
+        try {
+            snapshot = loaded;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Food search index loaded: {} foods in {} ms", foods.size(), System.currentTimeMillis() - started);
+    }
+
+    @Scheduled(fixedDelayString = "${food.search.refresh-ms:60000}", initialDelayString = "${food.search.refresh-ms:60000}")
+    public void refresh() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            return;
+        }
+        List<Food> changed = foodRepository.findIndexEntriesUpdatedSince(current.lastUpdatedAt);
+        long popularityVersion = foodPopularityService.version();
+        if (changed.isEmpty() && popularityVersion == current.popularityVersion) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            for (Food food : changed) {
+                current.put(food, popularityBucket(food.getId()));
+            }
+            if (popularityVersion != current.popularityVersion) {
+                for (int doc = 0; doc < current.names.size(); doc++) {
+                    current.popularity[doc] = popularityBucket(current.ids[doc]);
+                }
+                current.popularityVersion = popularityVersion;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        // 영양 정보만 바뀐 음식도 캐시에서는 비워야 다음 조회에 반영된다
+        for (Food food : changed) {
+            foodCache.invalidate(food.getId());
+        }
+    }
+
+    @Scheduled(cron = "${food.search.rebuild-cron:0 30 4 * * *}")
+    public void rebuild() {
+        load();
+        foodCache.invalidateAll();
+    }
+
+    public boolean isReady() {
+        return snapshot != null;
+    }
+
+    /**
+     * 키워드(null이면 조건 없음)로 검색해 해당 페이지의 food id를 순위대로 반환
+     */
+    public List<Long> search(String nameKeyword, String vendorKeyword, int page, int size) {
+        String name = normalize(nameKeyword);
+        String vendor = normalize(vendorKeyword);
+        if ((name == null && vendor == null) || size <= 0) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            Snapshot current = snapshot;
+            if (current == null) {
+                return List.of();
+            }
+            int[] docs = name != null
+                    ? current.nameIndex.match(name, current.names, current.deleted)
+                    : current.vendorIndex.match(vendor, current.vendors, current.deleted);
+            // 앞 페이지까지 포함한 상위 limit개만 최대 힙으로 유지한다 (힙의 루트 = 지금까지 남긴 것 중 가장 뒤 순위)
+            int limit = (int) Math.min((long) (page + 1) * size, docs.length);
+            long[] heap = new long[limit];
+            int count = 0;
+            for (int doc : docs) {
+                // 두 조건이 모두 있으면 이름으로 좁힌 후보에서 제조사를 확인
+                int vendorRank = 0;
+                if (name != null && vendor != null) {
+                    String vendorKey = current.vendors.get(doc);
+                    if (vendorKey == null || !vendorKey.contains(vendor)) {
+                        continue;
+                    }
+                    vendorRank = rank(vendorKey, vendor);
+                }
+                int primaryRank = name != null ? rank(current.names.get(doc), name) : rank(current.vendors.get(doc), vendor);
+                int length = Math.min(current.names.get(doc).length(), MAX_LENGTH_KEY);
+                int popularity = 63 - current.popularity[doc];
+                long key = ((long) primaryRank << 60) | ((long) vendorRank << 58) | ((long) popularity << 52)
+                        | ((long) length << 40) | doc;
+                if (count < limit) {
+                    heap[count] = key;
+                    siftUp(heap, count++);
+                } else if (key < heap[0]) {
+                    heap[0] = key;
+                    siftDown(heap, count);
+                }
+            }
+            Arrays.sort(heap, 0, count);
+
+            int from = (int) Math.min((long) page * size, count);
+            List<Long> ids = new ArrayList<>(count - from);
+            for (int i = from; i < count; i++) {
+                ids.add(current.ids[(int) heap[i]]);
+            }
+            return ids;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static String normalize(String value) {
+        return FoodKeyword.normalize(value);
+    }
+
+    // 사용 횟수를 log2 구간(0~63)으로 묶어 순위 키에 넣는다
+    private byte popularityBucket(long foodId) {
+        long usageCount = foodPopularityService.usageCount(foodId);
+        return (byte) (usageCount <= 0 ? 0 : 64 - Long.numberOfLeadingZeros(usageCount));
+    }
+
+    private static void siftUp(long[] heap, int index) {
+        long value = heap[index];
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (heap[parent] >= value) {
+                break;
+            }
+            heap[index] = heap[parent];
+            index = parent;
+        }
+        heap[index] = value;
+    }
+
+    private static void siftDown(long[] heap, int size) {
+        long value = heap[0];
+        int index = 0;
+        int half = size >>> 1;
+        while (index < half) {
+            int child = 2 * index + 1;
+            if (child + 1 < size && heap[child + 1] > heap[child]) {
+                child++;
+            }
+            if (value >= heap[child]) {
+                break;
+            }
+            heap[index] = heap[child];
+            index = child;
+        }
+        heap[index] = value;
+    }
+
+    private static int rank(String text, String keyword) {
+        if (text.equals(keyword)) {
+            return RANK_EXACT;
+        }
+        return text.startsWith(keyword) ? RANK_PREFIX : RANK_CONTAINS;
+    }
+
+    /**
+     * 색인 한 벌. 문서 번호는 추가 순서대로 증가하므로 posting list는 항상 오름차순을 유지한다.
+     * 수정된 음식은 기존 문서를 삭제 표시하고 새 문서로 추가한다.
+     */
+    private static final class Snapshot {
+        private final GramIndex nameIndex = new GramIndex();
+        private final GramIndex vendorIndex = new GramIndex();
+        private final List<String> names = new ArrayList<>();
+        private final List<String> vendors = new ArrayList<>();
+        private final Map<Long, Integer> docByFoodId = new HashMap<>();
+        private final BitSet deleted = new BitSet();
+        private long[] ids = new long[1024];
+        private byte[] popularity = new byte[1024];
+        private LocalDateTime lastUpdatedAt;
+        private long popularityVersion;
+
+        private void put(Food food, byte popularityBucket) {
+            if (food.getUpdatedAt() != null && (lastUpdatedAt == null || food.getUpdatedAt().isAfter(lastUpdatedAt))) {
+                lastUpdatedAt = food.getUpdatedAt();
+            }
+            String name = normalize(food.getName());
+            String vendor = normalize(food.getVendor());
+            Integer previous = docByFoodId.get(food.getId());
+            if (previous != null) {
+                // 이름/제조사가 그대로면 색인을 다시 만들 필요가 없다 (영양 정보만 바뀐 경우 등)
+                if (names.get(previous).equals(name == null ? "" : name) && Objects.equals(vendors.get(previous), vendor)) {
+                    popularity[previous] = popularityBucket;
+                    return;
+                }
+                deleted.set(previous);
+            }
+            int doc = names.size();
+            if (doc == ids.length) {
+                ids = Arrays.copyOf(ids, ids.length * 2);
+                popularity = Arrays.copyOf(popularity, popularity.length * 2);
+            }
+            ids[doc] = food.getId();
+            popularity[doc] = popularityBucket;
+            names.add(name == null ? "" : name);
+            vendors.add(vendor);
+            nameIndex.add(doc, name);
+            vendorIndex.add(doc, vendor);
+            docByFoodId.put(food.getId(), doc);
+        }
+    }
+
+    private static final class GramIndex {
+        private final Map<String, IntList> postings = new HashMap<>();
+
+        private void add(int doc, String text) {
+            if (text == null) {
+                return;
+            }
+            for (String gram : grams(text)) {
+                postings.computeIfAbsent(gram, key -> new IntList()).add(doc);
+            }
+        }
+
+        private int[] match(String keyword, List<String> texts, BitSet deleted) {
+            Set<String> grams = keyword.length() == 1 ? Set.of(keyword) : bigrams(keyword);
+            List<IntList> lists = new ArrayList<>(grams.size());
+            for (String gram : grams) {
+                IntList list = postings.get(gram);
+                if (list == null) {
+                    return new int[0];
+                }
+                lists.add(list);
+            }
+            lists.sort((a, b) -> Integer.compare(a.size, b.size));
+
+            int[] candidates = Arrays.copyOf(lists.get(0).values, lists.get(0).size);
+            int count = candidates.length;
+            for (int i = 1; i < lists.size() && count > 0; i++) {
+                count = intersect(candidates, count, lists.get(i));
+            }
+
+            // gram이 모두 있어도 순서가 다를 수 있으므로 실제 포함 여부를 확인
+            int matched = 0;
+            for (int i = 0; i < count; i++) {
+                int doc = candidates[i];
+                String text = texts.get(doc);
+                if (!deleted.get(doc) && text != null && text.contains(keyword)) {
+                    candidates[matched++] = doc;
+                }
+            }
+            return Arrays.copyOf(candidates, matched);
+        }
+
+        private static int intersect(int[] candidates, int count, IntList other) {
+            int kept = 0;
+            int j = 0;
+            for (int i = 0; i < count && j < other.size; i++) {
+                int doc = candidates[i];
+                while (j < other.size && other.values[j] < doc) {
+                    j++;
+                }
+                if (j < other.size && other.values[j] == doc) {
+                    candidates[kept++] = doc;
+                }
+            }
+            return kept;
+        }
+
+        private static Set<String> grams(String text) {
+            Set<String> grams = new LinkedHashSet<>();
+            for (int i = 0; i < text.length(); i++) {
+                grams.add(text.substring(i, i + 1));
+            }
+            grams.addAll(bigrams(text));
+            return grams;
+        }
+
+        private static Set<String> bigrams(String text) {
+            Set<String> grams = new LinkedHashSet<>();
+            for (int i = 0; i + 2 <= text.length(); i++) {
+                grams.add(text.substring(i, i + 2));
+            }
+            return grams;
+        }
+    }
+
+    private static final class IntList {
+        private int[] values = new int[4];
+        private int size;
+
+        private void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+    }
+}
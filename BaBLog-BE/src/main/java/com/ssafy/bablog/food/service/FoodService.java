@@ -2,6 +2,7 @@ package com.ssafy.bablog.food.service;
 
 import com.ssafy.bablog.food.domain.Food;
 import com.ssafy.bablog.food.repository.FoodRepository;
+import com.ssafy.bablog.food.util.FoodKeyword;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
@@ -15,22 +16,55 @@ import java.util.List;
 @Transactional(readOnly = true)
 public class FoodService {
 
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final FoodRepository foodRepository;
+    private final FoodSearchIndex foodSearchIndex;
+    private final FoodAutocompleteIndex foodAutocompleteIndex;
+    private final FoodCache foodCache;
+    private final FoodPopularityService foodPopularityService;
 
-    public List<Food> search(String name, String vendor) {
-        String normalizedName = normalize(name);
-        String normalizedVendor = normalize(vendor);
+    /**
+     * 색인이 준비되어 있으면 색인에서 순위/페이지를 정하고 해당 id는 캐시(없으면 DB)에서 조회,
+     * 아직 적재 전이면 DB LIKE 검색으로 대체
+     */
+    public List<Food> search(String name, String vendor, int page, int size) {
+        String normalizedName = FoodKeyword.normalize(name);
+        String normalizedVendor = FoodKeyword.normalize(vendor);
         if (normalizedName == null && normalizedVendor == null) {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "name 또는 vendor 중 최소 1개를 입력해야 합니다.");
         }
-        return foodRepository.search(normalizedName, normalizedVendor);
+        if (page < 0 || size < 1 || size > MAX_PAGE_SIZE) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "page는 0 이상, size는 1~" + MAX_PAGE_SIZE + " 사이여야 합니다.");
+        }
+        if (!foodSearchIndex.isReady()) {
+            return foodRepository.search(normalizedName, normalizedVendor, page * size, size);
+        }
+
+        List<Long> ids = foodSearchIndex.search(normalizedName, normalizedVendor, page, size);
+        return foodCache.findAllById(ids);
+    }
+
+    /**
+     * 음식명 자동완성 (자모/초성 접두 일치, 사용 횟수 순)
+     */
+    public List<FoodAutocompleteIndex.Suggestion> autocomplete(String query, int size) {
+        if (query == null || query.isBlank()) {
+            return List.of();
+        }
+        if (size < 1 || size > FoodAutocompleteIndex.MAX_SUGGESTIONS) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "size는 1~" + FoodAutocompleteIndex.MAX_SUGGESTIONS + " 사이여야 합니다.");
+        }
+        return foodAutocompleteIndex.suggest(query, size);
     }
 
-    private String normalize(String value) {
-        if (value == null) {
-            return null;
+    /**
+     * 회원이 자주 추가한 음식 (메모리 캐시에서 응답)
+     */
+    public List<Food> frequent(Long memberId, int size) {
+        if (size < 1 || size > FoodPopularityService.MAX_FREQUENT) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "size는 1~" + FoodPopularityService.MAX_FREQUENT + " 사이여야 합니다.");
         }
-        String trimmed = value.trim();
-        return trimmed.isEmpty() ? null : trimmed.toLowerCase();
+        return foodPopularityService.frequentFoods(memberId, size);
     }
 }
@@ -0,0 +1,27 @@
+package com.ssafy.bablog.food.util;
+
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * 음식 검색어/색인 키 정규화. 공백을 모두 제거하고 소문자로 바꾼다 ("닭 가슴살" == "닭가슴살").
+ * 메모리 색인(FoodSearchIndex)과 DB 검색(FoodMapper.search)이 같은 규칙을 쓰도록 한 곳에 둔다.
+ */
+public final class FoodKeyword {
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private FoodKeyword() {
+    }
+
+    /**
+     * 정규화한 문자열 (null이거나 공백뿐이면 null)
+     */
+    public static String normalize(String value) {
+        if (value == null) {
+            return null;
+        }
+        String normalized = WHITESPACE.matcher(value).replaceAll("").toLowerCase(Locale.ROOT);
+        return normalized.isEmpty() ? null : normalized;
+    }
+}
@@ -0,0 +1,110 @@
+package com.ssafy.bablog.food.util;
+
+/**
+ * 한글 음절을 자모/초성으로 분해하는 유틸리티 (자동완성 키 생성용).
+ * - 겹받침(ㄺ), 이중모음(ㅘ)은 기본 자모로 풀어서 입력 중인 글자("닭" 입력 중의 "달ㄱ")도 접두 일치하도록 한다.
+ * - 한글이 아닌 문자는 소문자로 그대로 둔다. 공백은 제거한다.
+ */
+public final class HangulJamo {
+
+    private static final char SYLLABLE_BEGIN = 0xAC00;
+    private static final char SYLLABLE_END = 0xD7A3;
+    private static final int JUNG_COUNT = 21;
+    private static final int JONG_COUNT = 28;
+
+    private static final String CHO = "ㄱㄲㄴㄷㄸㄹㅁㅂㅃㅅㅆㅇㅈㅉㅊㅋㅌㅍㅎ";
+    private static final String[] JUNG = {
+            "ㅏ", "ㅐ", "ㅑ", "ㅒ", "ㅓ", "ㅔ", "ㅕ", "ㅖ", "ㅗ", "ㅗㅏ", "ㅗㅐ",
+            "ㅗㅣ", "ㅛ", "ㅜ", "ㅜㅓ", "ㅜㅔ", "ㅜㅣ", "ㅠ", "ㅡ", "ㅡㅣ", "ㅣ"
+    };
+    private static final String[] JONG = {
+            "", "ㄱ", "ㄲ", "ㄱㅅ", "ㄴ", "ㄴㅈ", "ㄴㅎ", "ㄷ", "ㄹ", "ㄹㄱ", "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ",
+            "ㄹㅍ", "ㄹㅎ", "ㅁ", "ㅂ", "ㅂㅅ", "ㅅ", "ㅆ", "ㅇ", "ㅈ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"
+    };
+    // 단독으로 입력된 겹자모 (호환 자모)
+    private static final String COMPOUND = "ㄳㄵㄶㄺㄻㄼㄽㄾㄿㅀㅄㅘㅙㅚㅝㅞㅟㅢ";
+    private static final String[] COMPOUND_SPLIT = {
+            "ㄱㅅ", "ㄴㅈ", "ㄴㅎ", "ㄹㄱ", "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ", "ㄹㅍ", "ㄹㅎ", "ㅂㅅ",
+            "ㅗㅏ", "ㅗㅐ", "ㅗㅣ", "ㅜㅓ", "ㅜㅔ", "ㅜㅣ", "ㅡㅣ"
+    };
+
+    private HangulJamo() {
+    }
+
+    /**
+     * "닭가슴살" → "ㄷㅏㄹㄱㄱㅏㅅㅡㅁㅅㅏㄹ"
+     */
+    public static String decompose(String text) {
+        if (text == null) {
+            return "";
+        }
+        StringBuilder sb = new StringBuilder(text.length() * 3);
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (Character.isWhitespace(c)) {
+                continue;
+            }
+            if (isSyllable(c)) {
+                int index = c - SYLLABLE_BEGIN;
+                sb.append(CHO.charAt(index / (JUNG_COUNT * JONG_COUNT)));
+                sb.append(JUNG[(index % (JUNG_COUNT * JONG_COUNT)) / JONG_COUNT]);
+                sb.append(JONG[index % JONG_COUNT]);
+                continue;
+            }
+            int compound = COMPOUND.indexOf(c);
+            if (compound >= 0) {
+                sb.append(COMPOUND_SPLIT[compound]);
+                continue;
+            }
+            sb.append(Character.toLowerCase(c));
+        }
+        return sb.toString();
+    }
+
+    /**
+     * "닭가슴살" → "ㄷㄱㅅㅅ"
+     */
+    public static String chosung(String text) {
+        if (text == null) {
+            return "";
+        }
+        StringBuilder sb = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (Character.isWhitespace(c)) {
+                continue;
+            }
+            if (isSyllable(c)) {
+                sb.append(CHO.charAt((c - SYLLABLE_BEGIN) / (JUNG_COUNT * JONG_COUNT)));
+                continue;
+            }
+            sb.append(Character.toLowerCase(c));
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 공백을 제외한 모든 문자가 초성 자음인지 여부 ("ㄷㄱㅅ")
+     */
+    public static boolean isChosungOnly(String text) {
+        if (text == null) {
+            return false;
+        }
+        boolean found = false;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (Character.isWhitespace(c)) {
+                continue;
+            }
+            if (CHO.indexOf(c) < 0) {
+                return false;
+            }
+            found = true;
+        }
+        return found;
+    }
+
+    private static boolean isSyllable(char c) {
+        return c >= SYLLABLE_BEGIN && c <= SYLLABLE_END;
+    }
+}
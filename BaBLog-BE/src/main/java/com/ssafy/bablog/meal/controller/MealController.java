@@ -2,20 +2,28 @@ package com.ssafy.bablog.meal.controller;
 
 import com.ssafy.bablog.meal.controller.dto.AddMealFoodRequest;
 import com.ssafy.bablog.meal.controller.dto.AddMealFoodResponse;
+import com.ssafy.bablog.meal.controller.dto.DailyMealsResponse;
 import com.ssafy.bablog.meal.controller.dto.DashboardSummaryResponse;
 import com.ssafy.bablog.meal.controller.dto.MealWithFoodsResponse;
 import com.ssafy.bablog.meal.controller.dto.UpdateMealFoodRequest;
 import com.ssafy.bablog.meal.service.MealService;
 import com.ssafy.bablog.security.MemberPrincipal;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.function.Consumer;
 
 @RestController
 @RequestMapping("/meals")
@@ -23,6 +31,7 @@ import java.util.List;
 public class MealController {
 
     private final MealService mealService;
+    private final ObjectMapper objectMapper;
 
     /**
      * Member 1명의 meal을 수동생성하는 메서드
@@ -61,6 +70,30 @@ public class MealController {
         return ResponseEntity.ok(mealService.getDailySummary(principal.getId(), mealDate));
     }
 
+    /**
+     * 기간별 식단 조회 (최대 92일). 날짜별 { date, meals } 배열을 하루씩 스트리밍한다.
+     */
+    @GetMapping(value = "/range", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> getMealsInRange(@AuthenticationPrincipal MemberPrincipal principal,
+                                                                 @RequestParam("from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                                                 @RequestParam("to") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        Long memberId = principal.getId();
+        mealService.validateRange(memberId, from, to);
+        return ResponseEntity.ok(this.<DailyMealsResponse>jsonArray(consumer -> mealService.streamMealsInRange(memberId, from, to, consumer)));
+    }
+
+    /**
+     * 기간별 대시보드 요약 (최대 92일)
+     */
+    @GetMapping(value = "/summary/range", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> getSummariesInRange(@AuthenticationPrincipal MemberPrincipal principal,
+                                                                     @RequestParam("from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                                                     @RequestParam("to") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        Long memberId = principal.getId();
+        mealService.validateRange(memberId, from, to);
+        return ResponseEntity.ok(this.<DashboardSummaryResponse>jsonArray(consumer -> mealService.streamSummariesInRange(memberId, from, to, consumer)));
+    }
+
     /** 식단 단건 조회 (BREAK_FAST 단일, LUNCH 단일 등) */
     @GetMapping("/{mealId}")
     public ResponseEntity<MealWithFoodsResponse> getMeal(@AuthenticationPrincipal MemberPrincipal principal,
@@ -87,4 +120,26 @@ public class MealController {
                                                                 @Valid @RequestBody UpdateMealFoodRequest request) {
         return ResponseEntity.ok(mealService.updateMealFood(principal.getId(), mealFoodId, request));
     }
+
+    /**
+     * producer가 넘기는 항목을 JSON 배열 원소로 바로 써서 전체 응답을 메모리에 모으지 않는다.
+     * 도중에 실패하면 닫는 괄호를 쓰지 않아(AUTO_CLOSE_JSON_CONTENT 끔) 잘린 응답이 온전한 배열로 보이지 않게 하고,
+     * 예외를 그대로 던져 연결을 끊는다.
+     */
+    private <T> StreamingResponseBody jsonArray(Consumer<Consumer<T>> producer) {
+        return out -> {
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)
+                    .disable(JsonGenerator.Feature.AUTO_CLOSE_JSON_CONTENT)) {
+                generator.writeStartArray();
+                producer.accept(item -> {
+                    try {
+                        generator.writeObject(item);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+                generator.writeEndArray();
+            }
+        };
+    }
 }
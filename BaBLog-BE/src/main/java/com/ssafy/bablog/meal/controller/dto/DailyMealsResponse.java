@@ -0,0 +1,17 @@
+package com.ssafy.bablog.meal.controller.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class DailyMealsResponse {
+    private LocalDate date;
+    private List<MealWithFoodsResponse> meals;
+}
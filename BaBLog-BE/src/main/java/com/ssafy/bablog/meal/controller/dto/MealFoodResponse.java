@@ -2,6 +2,7 @@ package com.ssafy.bablog.meal.controller.dto;
 
 import com.ssafy.bablog.food.domain.Food;
 import com.ssafy.bablog.meal.domain.MealFood;
+import com.ssafy.bablog.meal.domain.NutrientVector;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -9,7 +10,6 @@ import lombok.Setter;
 
 import java.math.BigDecimal;
 
-import com.ssafy.bablog.meal.util.NutritionCalculator;
 
 @Getter
 @Setter
@@ -35,6 +35,7 @@ public class MealFoodResponse {
     private String vendor;
 
     public static MealFoodResponse from(MealFood mealFood, Food food) {
+        NutrientVector nutrients = NutrientVector.ofIntake(food, mealFood.getIntake());
         return new MealFoodResponse(
                 mealFood.getMealId(),
                 mealFood.getFoodId(),
@@ -43,15 +44,15 @@ public class MealFoodResponse {
                 food.getName(),
                 mealFood.getIntake(),
                 mealFood.getUnit(),
-                NutritionCalculator.scaleNutrient(food.getKcal(), food, mealFood.getIntake()),
-                NutritionCalculator.scaleNutrient(food.getProtein(), food, mealFood.getIntake()),
-                NutritionCalculator.scaleNutrient(food.getFat(), food, mealFood.getIntake()),
-                NutritionCalculator.scaleNutrient(food.getCarbohydrates(), food, mealFood.getIntake()),
-                NutritionCalculator.scaleNutrient(food.getSugar(), food, mealFood.getIntake()),
-                NutritionCalculator.scaleNutrient(food.getNatrium(), food, mealFood.getIntake()),
-                NutritionCalculator.scaleNutrient(food.getCholesterol(), food, mealFood.getIntake()),
-                NutritionCalculator.scaleNutrient(food.getSaturatedFat(), food, mealFood.getIntake()),
-                NutritionCalculator.scaleNutrient(food.getTransFat(), food, mealFood.getIntake()),
+                nutrients.get(NutrientVector.KCAL),
+                nutrients.get(NutrientVector.PROTEIN),
+                nutrients.get(NutrientVector.FAT),
+                nutrients.get(NutrientVector.CARBOHYDRATES),
+                nutrients.get(NutrientVector.SUGAR),
+                nutrients.get(NutrientVector.NATRIUM),
+                nutrients.get(NutrientVector.CHOLESTEROL),
+                nutrients.get(NutrientVector.SATURATED_FAT),
+                nutrients.get(NutrientVector.TRANS_FAT),
                 food.getVendor()
         );
     }
@@ -6,7 +6,6 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import com.ssafy.bablog.food.domain.Food;
-import com.ssafy.bablog.meal.util.NutritionCalculator;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
@@ -37,32 +36,23 @@ public class Meal {
     // 실제 meal에 데이터로 들어가는 meal이 아니라
     // meal에 더해지기 위한 meal을 만드는 메서드.
     public static Meal nutritionDelta(Food food, BigDecimal intake) {
-        return Meal.builder()
-                .kcal(NutritionCalculator.scaleNutrient(food.getKcal(), food, intake))
-                .protein(NutritionCalculator.scaleNutrient(food.getProtein(), food, intake))
-                .fat(NutritionCalculator.scaleNutrient(food.getFat(), food, intake))
-                .saturatedFat(NutritionCalculator.scaleNutrient(food.getSaturatedFat(), food, intake))
-                .transFat(NutritionCalculator.scaleNutrient(food.getTransFat(), food, intake))
-                .carbohydrates(NutritionCalculator.scaleNutrient(food.getCarbohydrates(), food, intake))
-                .sugar(NutritionCalculator.scaleNutrient(food.getSugar(), food, intake))
-                .natrium(NutritionCalculator.scaleNutrient(food.getNatrium(), food, intake))
-                .cholesterol(NutritionCalculator.scaleNutrient(food.getCholesterol(), food, intake))
-                .build();
+        return fromNutrients(NutrientVector.ofIntake(food, intake));
     }
 
     /**
-     * 현재 Meal에 델타를 반영 (영양 누적)
+     * 현재 Meal에 델타를 반영 (영양 누적). 값이 없는(null) 성분은 누적하지 않고, 합이 음수면 0
+     * 두 값 모두 소수 2자리라 성분마다 덧셈 한 번으로 끝나므로 NutrientVector로 변환하지 않는다.
      */
     public void applyNutritionDelta(Meal delta) {
-        this.kcal = clamp(sum(this.kcal, delta.getKcal()));
-        this.protein = clamp(sum(this.protein, delta.getProtein()));
-        this.fat = clamp(sum(this.fat, delta.getFat()));
-        this.saturatedFat = clamp(sum(this.saturatedFat, delta.getSaturatedFat()));
-        this.transFat = clamp(sum(this.transFat, delta.getTransFat()));
-        this.carbohydrates = clamp(sum(this.carbohydrates, delta.getCarbohydrates()));
-        this.sugar = clamp(sum(this.sugar, delta.getSugar()));
-        this.natrium = clamp(sum(this.natrium, delta.getNatrium()));
-        this.cholesterol = clamp(sum(this.cholesterol, delta.getCholesterol()));
+        this.kcal = addClamped(this.kcal, delta.getKcal());
+        this.protein = addClamped(this.protein, delta.getProtein());
+        this.fat = addClamped(this.fat, delta.getFat());
+        this.saturatedFat = addClamped(this.saturatedFat, delta.getSaturatedFat());
+        this.transFat = addClamped(this.transFat, delta.getTransFat());
+        this.carbohydrates = addClamped(this.carbohydrates, delta.getCarbohydrates());
+        this.sugar = addClamped(this.sugar, delta.getSugar());
+        this.natrium = addClamped(this.natrium, delta.getNatrium());
+        this.cholesterol = addClamped(this.cholesterol, delta.getCholesterol());
     }
 
     /**
@@ -70,33 +60,46 @@ public class Meal {
      * 사용될 때는 nutritionDelta로 양의값을 만든 후 여기에 다시 넣어서 부호 반전
      */
     public static Meal reverseDelta(Meal delta) {
-        return Meal.builder()
-                .kcal(neg(delta.getKcal()))
-                .protein(neg(delta.getProtein()))
-                .fat(neg(delta.getFat()))
-                .saturatedFat(neg(delta.getSaturatedFat()))
-                .transFat(neg(delta.getTransFat()))
-                .carbohydrates(neg(delta.getCarbohydrates()))
-                .sugar(neg(delta.getSugar()))
-                .natrium(neg(delta.getNatrium()))
-                .cholesterol(neg(delta.getCholesterol()))
-                .build();
+        return fromNutrients(delta.toNutrientVector().negate());
     }
 
-    private static BigDecimal sum(BigDecimal base, BigDecimal delta) {
-        if (delta == null) return base;
-        if (base == null) return delta;
-        return base.add(delta);
+    /**
+     * 수정 시 사용할 순 델타 (applied - reverted). 차감/증가를 따로 쓰지 않고 한 번에 반영하기 위함
+     */
+    public static Meal netDelta(Meal applied, Meal reverted) {
+        return fromNutrients(applied.toNutrientVector().subtract(reverted.toNutrientVector()));
+    }
+
+    public NutrientVector toNutrientVector() {
+        return NutrientVector.of(kcal, protein, fat, saturatedFat, transFat, carbohydrates, sugar, natrium, cholesterol);
     }
 
-    private static BigDecimal neg(BigDecimal value) {
-        return value == null ? null : value.negate();
+    /**
+     * 영양 값만 담은 델타용 Meal
+     */
+    public static Meal fromNutrients(NutrientVector nutrients) {
+        Meal meal = new Meal();
+        meal.applyNutrients(nutrients);
+        return meal;
     }
 
-    private static BigDecimal clamp(BigDecimal value) {
-        if (value == null) {
-            return null;
+    private static BigDecimal addClamped(BigDecimal base, BigDecimal delta) {
+        if (delta == null) {
+            return base;
         }
-        return value.signum() < 0 ? BigDecimal.ZERO : value;
+        BigDecimal sum = base == null ? delta : base.add(delta);
+        return sum.signum() < 0 ? BigDecimal.ZERO : sum;
+    }
+
+    private void applyNutrients(NutrientVector nutrients) {
+        this.kcal = nutrients.get(NutrientVector.KCAL);
+        this.protein = nutrients.get(NutrientVector.PROTEIN);
+        this.fat = nutrients.get(NutrientVector.FAT);
+        this.saturatedFat = nutrients.get(NutrientVector.SATURATED_FAT);
+        this.transFat = nutrients.get(NutrientVector.TRANS_FAT);
+        this.carbohydrates = nutrients.get(NutrientVector.CARBOHYDRATES);
+        this.sugar = nutrients.get(NutrientVector.SUGAR);
+        this.natrium = nutrients.get(NutrientVector.NATRIUM);
+        this.cholesterol = nutrients.get(NutrientVector.CHOLESTEROL);
     }
 }
@@ -0,0 +1,226 @@
+package com.ssafy.bablog.meal.domain;
+
+import com.ssafy.bablog.food.domain.Food;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Arrays;
+
+/**
+ * 영양 성분 9종을 1/1000 단위 고정소수점 long 배열로 담는 값 타입.
+ * - 덧셈/스케일/부호 반전/음수 절삭은 배열 안에서 바로 계산해 BigDecimal을 만들지 않는다 (연산은 this를 바꾸고 반환)
+ * - 값이 없는(null) 성분은 present 비트로 구분해 "null은 누적하지 않음" 규칙을 그대로 유지한다
+ * BigDecimal 변환은 DB/응답 경계(Meal, MealLog, NutritionSummary, NutritionSnapshot)에서만 하며,
+ * 내보내는 값은 DB 컬럼(DECIMAL(x,2))과 같은 소수 2자리로 반올림해 저장 후 다시 읽은 값과 응답이 같게 한다.
+ */
+public final class NutrientVector {
+
+    public static final int KCAL = 0;
+    public static final int PROTEIN = 1;
+    public static final int FAT = 2;
+    public static final int SATURATED_FAT = 3;
+    public static final int TRANS_FAT = 4;
+    public static final int CARBOHYDRATES = 5;
+    public static final int SUGAR = 6;
+    public static final int NATRIUM = 7;
+    public static final int CHOLESTEROL = 8;
+    public static final int SIZE = 9;
+
+    private static final int SCALE = 3;
+    private static final long UNIT = 1000L;
+    private static final int OUTPUT_SCALE = 2;
+    private static final long OUTPUT_DIVISOR = 10L;
+    private static final int ALL_PRESENT = (1 << SIZE) - 1;
+
+    private final long[] milli = new long[SIZE];
+    private int present;
+
+    public NutrientVector() {
+    }
+
+    public static NutrientVector zero() {
+        NutrientVector vector = new NutrientVector();
+        vector.present = ALL_PRESENT;
+        return vector;
+    }
+
+    public static NutrientVector of(BigDecimal kcal, BigDecimal protein, BigDecimal fat,
+                                    BigDecimal saturatedFat, BigDecimal transFat, BigDecimal carbohydrates,
+                                    BigDecimal sugar, BigDecimal natrium, BigDecimal cholesterol) {
+        return new NutrientVector()
+                .set(KCAL, kcal)
+                .set(PROTEIN, protein)
+                .set(FAT, fat)
+                .set(SATURATED_FAT, saturatedFat)
+                .set(TRANS_FAT, transFat)
+                .set(CARBOHYDRATES, carbohydrates)
+                .set(SUGAR, sugar)
+                .set(NATRIUM, natrium)
+                .set(CHOLESTEROL, cholesterol);
+    }
+
+    /**
+     * 음식의 기준량(standard) 당 영양 값
+     */
+    public static NutrientVector fromFood(Food food) {
+        return of(food.getKcal(), food.getProtein(), food.getFat(),
+                food.getSaturatedFat(), food.getTransFat(), food.getCarbohydrates(),
+                food.getSugar(), food.getNatrium(), food.getCholesterol());
+    }
+
+    /**
+     * 음식 영양 값을 섭취량에 맞게 스케일 (NutritionCalculator.scaleNutrient와 같은 규칙)
+     */
+    public static NutrientVector ofIntake(Food food, BigDecimal intake) {
+        long intakeMilli = intake == null ? 0 : toMilli(intake);
+        BigDecimal standard = food.getStandard();
+        long standardMilli = standard != null && standard.signum() > 0 ? toMilli(standard) : 0;
+        // 기준량이 없으면 섭취량 자체를 배율로 사용
+        return fromFood(food).scale(intakeMilli, standardMilli > 0 ? standardMilli : UNIT);
+    }
+
+    public NutrientVector set(int index, BigDecimal value) {
+        if (value == null) {
+            milli[index] = 0;
+            present &= ~(1 << index);
+        } else {
+            milli[index] = toMilli(value);
+            present |= 1 << index;
+        }
+        return this;
+    }
+
+    public boolean has(int index) {
+        return (present & (1 << index)) != 0;
+    }
+
+    public long milli(int index) {
+        return milli[index];
+    }
+
+    public BigDecimal get(int index) {
+        return has(index) ? output(milli[index]) : null;
+    }
+
+    public BigDecimal getOrZero(int index) {
+        return has(index) ? output(milli[index]) : BigDecimal.ZERO;
+    }
+
+    /**
+     * 성분별 합. 한쪽에만 값이 있으면 그 값을 쓴다.
+     */
+    public NutrientVector add(NutrientVector other) {
+        for (int i = 0; i < SIZE; i++) {
+            if (other.has(i)) {
+                milli[i] = has(i) ? milli[i] + other.milli[i] : other.milli[i];
+            }
+        }
+        present |= other.present;
+        return this;
+    }
+
+    public NutrientVector subtract(NutrientVector other) {
+        for (int i = 0; i < SIZE; i++) {
+            if (other.has(i)) {
+                milli[i] = has(i) ? milli[i] - other.milli[i] : -other.milli[i];
+            }
+        }
+        present |= other.present;
+        return this;
+    }
+
+    public NutrientVector negate() {
+        for (int i = 0; i < SIZE; i++) {
+            milli[i] = -milli[i];
+        }
+        return this;
+    }
+
+    /**
+     * 누적 결과가 음수가 되지 않도록 0으로 절삭
+     */
+    public NutrientVector clampNonNegative() {
+        for (int i = 0; i < SIZE; i++) {
+            if (milli[i] < 0) {
+                milli[i] = 0;
+            }
+        }
+        return this;
+    }
+
+    /**
+     * numerator / denominator 배율 적용 (반올림)
+     */
+    public NutrientVector scale(long numerator, long denominator) {
+        for (int i = 0; i < SIZE; i++) {
+            milli[i] = roundDiv(Math.multiplyExact(milli[i], numerator), denominator);
+        }
+        return this;
+    }
+
+    public NutrientVector copy() {
+        NutrientVector copy = new NutrientVector();
+        System.arraycopy(milli, 0, copy.milli, 0, SIZE);
+        copy.present = present;
+        return copy;
+    }
+
+    public boolean isZero() {
+        for (int i = 0; i < SIZE; i++) {
+            if (milli[i] != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof NutrientVector other)) {
+            return false;
+        }
+        return present == other.present && Arrays.equals(milli, other.milli);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * present + Arrays.hashCode(milli);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("NutrientVector[");
+        for (int i = 0; i < SIZE; i++) {
+            if (i > 0) {
+                sb.append(", ");
+            }
+            sb.append(get(i));
+        }
+        return sb.append(']').toString();
+    }
+
+    private static long toMilli(BigDecimal value) {
+        // DB 값(소수 2자리)은 소수점만 옮겨 scale 0 값 하나로 변환 (BigInteger를 만들지 않는다)
+        if (value.scale() <= SCALE) {
+            return value.movePointRight(SCALE).longValueExact();
+        }
+        return value.setScale(SCALE, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+
+    private static BigDecimal output(long milliValue) {
+        return BigDecimal.valueOf(roundDiv(milliValue, OUTPUT_DIVISOR), OUTPUT_SCALE);
+    }
+
+    // 0에서 먼 쪽으로 반올림하는 정수 나눗셈
+    private static long roundDiv(long dividend, long divisor) {
+        long quotient = dividend / divisor;
+        long remainder = dividend % divisor;
+        if (Math.abs(remainder) * 2 >= Math.abs(divisor)) {
+            quotient += (dividend ^ divisor) < 0 ? -1 : 1;
+        }
+        return quotient;
+    }
+}
@@ -14,7 +14,15 @@ public interface MealRepository {
 
     List<Meal> findByMemberAndDate(Long memberId, LocalDate mealDate);
 
+    List<Meal> findByMemberAndDateRange(Long memberId, LocalDate from, LocalDate to);
+
     Optional<Meal> findByMemberAndTypeAndDate(Long memberId, MealType mealType, LocalDate mealDate);
 
     void adjustNutrition(Long mealId, Meal delta);
+
+    /**
+     * meal과 연결된 meal_log에 같은 델타를 한 번의 UPDATE로 반영한다.
+     * @return meal_log 행이 없어 반영하지 못했으면 false
+     */
+    boolean adjustNutritionWithLog(Long mealId, Meal delta);
 }
@@ -36,6 +36,11 @@ public class MealRepositoryImpl implements MealRepository {
         return mealMapper.findByMemberAndDate(memberId, mealDate);
     }
 
+    @Override
+    public List<Meal> findByMemberAndDateRange(Long memberId, LocalDate from, LocalDate to) {
+        return mealMapper.findByMemberAndDateRange(memberId, from, to);
+    }
+
     @Override
     public Optional<Meal> findByMemberAndTypeAndDate(Long memberId, MealType mealType, LocalDate mealDate) {
         return Optional.ofNullable(mealMapper.findByMemberAndTypeAndDate(memberId, mealType, mealDate));
@@ -46,4 +51,9 @@ public class MealRepositoryImpl implements MealRepository {
     public void adjustNutrition(Long mealId, Meal delta) {
         mealMapper.adjustNutrition(mealId, delta);
     }
+
+    @Override
+    public boolean adjustNutritionWithLog(Long mealId, Meal delta) {
+        return mealMapper.adjustNutritionWithLog(mealId, delta) > 0;
+    }
 }
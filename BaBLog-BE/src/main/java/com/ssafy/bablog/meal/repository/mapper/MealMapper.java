@@ -16,9 +16,15 @@ public interface MealMapper {
 
     List<Meal> findByMemberAndDate(@Param("memberId") Long memberId, @Param("mealDate") LocalDate mealDate);
 
+    List<Meal> findByMemberAndDateRange(@Param("memberId") Long memberId,
+                                        @Param("from") LocalDate from,
+                                        @Param("to") LocalDate to);
+
     Meal findByMemberAndTypeAndDate(@Param("memberId") Long memberId,
                                     @Param("mealType") MealType mealType,
                                     @Param("mealDate") LocalDate mealDate);
 
     void adjustNutrition(@Param("id") Long id, @Param("delta") Meal delta);
+
+    int adjustNutritionWithLog(@Param("id") Long id, @Param("delta") Meal delta);
 }
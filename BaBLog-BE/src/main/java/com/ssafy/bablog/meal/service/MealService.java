@@ -1,9 +1,11 @@
 package com.ssafy.bablog.meal.service;
 
 import com.ssafy.bablog.food.domain.Food;
-import com.ssafy.bablog.food.repository.FoodRepository;
+import com.ssafy.bablog.food.service.FoodCache;
+import com.ssafy.bablog.food.service.FoodPopularityService;
 import com.ssafy.bablog.meal.controller.dto.AddMealFoodRequest;
 import com.ssafy.bablog.meal.controller.dto.AddMealFoodResponse;
+import com.ssafy.bablog.meal.controller.dto.DailyMealsResponse;
 import com.ssafy.bablog.meal.controller.dto.MealFoodResponse;
 import com.ssafy.bablog.meal.controller.dto.MealResponse;
 import com.ssafy.bablog.meal.controller.dto.MealSummaryResponse;
@@ -22,6 +24,7 @@ import com.ssafy.bablog.meal_log.repository.MealLogRepository;
 import com.ssafy.bablog.member_nutrient.domain.MemberNutrientDaily;
 import com.ssafy.bablog.member_nutrient.service.MemberNutrientService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -29,27 +32,41 @@ import org.springframework.web.server.ResponseStatusException;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 
 @Service
 @Transactional
 @RequiredArgsConstructor
 public class MealService {
 
+    public static final int MAX_RANGE_DAYS = 92;
+    private static final int RANGE_CHUNK_DAYS = 31;
+
     private final MealRepository mealRepository;
     private final MealFoodRepository mealFoodRepository;
-    private final FoodRepository foodRepository;
+    private final FoodCache foodCache;
     private final MealLogRepository mealLogRepository;
     private final MemberNutrientService memberNutrientService;
+    private final FoodPopularityService foodPopularityService;
+
+    // true면 기본 식단을 미리 만들지 않고 음식이 추가될 때 생성한다. 조회 API는 없는 타입을 빈 식단으로 채운다.
+    @Value("${meal.lazy-default-meals:false}")
+    private boolean lazyDefaultMeals;
 
     /**
      * Member 1명의 하루치 기본 Meal 레코드를 생성 (존재하면 건너뜀)
      */
     public void createDailyMeals(Long memberId, LocalDate mealDate) {
         memberNutrientService.ensureTodaySnapshot(memberId);
+        if (lazyDefaultMeals) {
+            return;
+        }
         for (MealType mealType : MealType.values()) {
             mealRepository.findByMemberAndTypeAndDate(memberId, mealType, mealDate)
                     .orElseGet(() -> mealRepository.save(
@@ -77,7 +94,7 @@ public class MealService {
         ensureMealOwner(meal, memberId);
 
         // 3. foodId를 통해 food를 찾기
-        Food food = foodRepository.findById(request.getFoodId())
+        Food food = foodCache.findById(request.getFoodId())
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "음식 정보를 찾을 수 없습니다."));
 
         // 4. meal과 food의 중간 테이블
@@ -90,15 +107,8 @@ public class MealService {
         // 5. 저장하기
         mealFoodRepository.save(mealFood);
 
-        // 6. 추가한 음식의 영양 정보를 해당 날짜의 mealLog에 누적하기
-        MealLog mealLogDelta = MealLog.from(meal, food, request.getIntake());
-
-        // 7. 만약 meal_log가 없다면 생성, 그리고 누적하기
-        mealLogRepository.upsertNutrition(mealLogDelta);
-
-        // 8. meal 테이블에도 영양 정보를 누적
-        Meal mealDelta = Meal.nutritionDelta(food, request.getIntake());
-        adjustNutrition(meal, mealDelta);
+        // 6. 추가한 음식의 영양 정보를 meal/meal_log에 함께 누적하기 (meal_log가 없다면 생성)
+        adjustNutrition(meal, Meal.nutritionDelta(food, request.getIntake()));
 
         return AddMealFoodResponse.of(
                 MealResponse.from(meal),
@@ -117,7 +127,7 @@ public class MealService {
         Map<Long, List<MealFoodResponse>> foodsByMeal = buildMealFoodResponses(mealIds);
         Map<Long, MealLog> logsByMeal = buildMealLogs(mealIds);
 
-        return meals.stream()
+        return withVirtualMeals(memberId, mealDate, meals).stream()
                 .map(meal -> MealWithFoodsResponse.withNutrition(
                         meal,
                         foodsByMeal.getOrDefault(meal.getId(), List.of()),
@@ -149,19 +159,20 @@ public class MealService {
     /**
      * mealFood 삭제
      * 삭제 시 해당 일자에 누적된 meal, meal_log의 영양 정보에도 반영(adjustNutrition 메서드)
+     * 이미 인기 집계에 들어간 행이면 사용 횟수도 차감
      */
     public void deleteMealFood(Long memberId, Long mealFoodId) {
         MealFoodContext context = loadMealFoodContext(mealFoodId, memberId);
 
         adjustNutrition(context.meal(), Meal.reverseDelta(Meal.nutritionDelta(context.food(), context.mealFood().getIntake())));
-        mealLogRepository.upsertNutrition(MealLog.from(context.meal(), context.food(), context.mealFood().getIntake()).reverseDelta());
 
         mealFoodRepository.deleteById(mealFoodId);
+        foodPopularityService.reassign(memberId, mealFoodId, context.food().getId(), null);
     }
 
     /**
      * mealfood 수정
-     * 식단 음식 수정 시 기존값만큼 차감 이후 새값만큼 증가
+     * 식단 음식 수정 시 (새값 - 기존값) 순 델타를 한 번만 반영
      */
     public MealWithFoodsResponse updateMealFood(Long memberId, Long mealFoodId, UpdateMealFoodRequest request) {
         MealFoodContext context = loadMealFoodContext(mealFoodId, memberId);
@@ -177,21 +188,19 @@ public class MealService {
         BigDecimal oldIntake = existing.getIntake();
 
         Food newFood = request.getFoodId() != null
-                ? foodRepository.findById(request.getFoodId())
+                ? foodCache.findById(request.getFoodId())
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "음식 정보를 찾을 수 없습니다."))
                 : oldFood;
         BigDecimal newIntake = request.getIntake() != null ? request.getIntake() : oldIntake;
         String newUnit = request.getUnit() != null ? request.getUnit() : existing.getUnit();
 
-        // 기존 영양 차감
-        adjustNutrition(context.meal(), Meal.reverseDelta(Meal.nutritionDelta(oldFood, oldIntake)));
-        mealLogRepository.upsertNutrition(MealLog.from(context.meal(), oldFood, oldIntake).reverseDelta());
-
-        // 신규 값 적용
         existing.update(newFood.getId(), newIntake, newUnit);
         mealFoodRepository.update(existing);
-        adjustNutrition(context.meal(), Meal.nutritionDelta(newFood, newIntake));
-        mealLogRepository.upsertNutrition(MealLog.from(context.meal(), newFood, newIntake));
+        foodPopularityService.reassign(memberId, mealFoodId, oldFood.getId(), newFood.getId());
+
+        // 기존 영양 차감 + 신규 값 적용을 순 델타 하나로 반영
+        Meal netDelta = Meal.netDelta(Meal.nutritionDelta(newFood, newIntake), Meal.nutritionDelta(oldFood, oldIntake));
+        adjustNutrition(context.meal(), netDelta);
 
         Long updatedMealId = context.meal().getId();
         Map<Long, List<MealFoodResponse>> foodsByMeal = buildMealFoodResponses(List.of(updatedMealId));
@@ -209,14 +218,103 @@ public class MealService {
     @Transactional(readOnly = true)
     public DashboardSummaryResponse getDailySummary(Long memberId, LocalDate mealDate) {
         List<Meal> meals = mealRepository.findByMemberAndDate(memberId, mealDate);
+        List<Long> mealIds = meals.stream().map(Meal::getId).toList();
+        Map<Long, List<MealFoodWithFood>> foodsByMeal = buildMealFoods(mealIds);
+        MemberNutrientDaily dailyTarget = memberNutrientService.getDaily(memberId, mealDate);
+        return buildDailySummary(mealDate, meals, foodsByMeal, dailyTarget);
+    }
+
+    /**
+     * 기간 조회 요청 검증. 응답을 스트리밍하기 전에 호출해 잘못된 기간은 400, 없는 회원은 404로
+     * 응답 헤더가 나가기 전에 실패시킨다 (스트리밍 도중에는 상태 코드를 바꿀 수 없다).
+     */
+    @Transactional(readOnly = true)
+    public void validateRange(Long memberId, LocalDate from, LocalDate to) {
+        validateRange(from, to);
+        memberNutrientService.requireMember(memberId);
+    }
+
+    /**
+     * 기간 조회 공통 기간 검증
+     */
+    public void validateRange(LocalDate from, LocalDate to) {
+        if (from == null || to == null || from.isAfter(to)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "from은 to보다 늦을 수 없습니다.");
+        }
+        if (ChronoUnit.DAYS.between(from, to) + 1 > MAX_RANGE_DAYS) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "조회 기간은 최대 " + MAX_RANGE_DAYS + "일입니다.");
+        }
+    }
+
+    /**
+     * 기간별 식단 조회. RANGE_CHUNK_DAYS 단위로 식단/음식/meal_log를 한 번씩 조회하고 하루씩 consumer로 넘긴다.
+     * (기간 전체를 메모리에 모으지 않으므로 응답을 바로 스트리밍할 수 있다)
+     */
+    @Transactional(readOnly = true)
+    public void streamMealsInRange(Long memberId, LocalDate from, LocalDate to, Consumer<DailyMealsResponse> consumer) {
+        validateRange(from, to);
+        for (LocalDate chunkFrom = from; !chunkFrom.isAfter(to); chunkFrom = chunkFrom.plusDays(RANGE_CHUNK_DAYS)) {
+            LocalDate chunkTo = minDate(chunkFrom.plusDays(RANGE_CHUNK_DAYS - 1), to);
+            getMealsInRange(memberId, chunkFrom, chunkTo)
+                    .forEach((date, meals) -> consumer.accept(new DailyMealsResponse(date, meals)));
+        }
+    }
+
+    /**
+     * from~to 날짜별 식단 (날짜 순). 식단/음식/meal_log를 기간 단위로 한 번씩 조회한다.
+     * 기간 길이는 검증하지 않으므로 호출하는 쪽에서 짧은 기간만 넘긴다.
+     */
+    @Transactional(readOnly = true)
+    public Map<LocalDate, List<MealWithFoodsResponse>> getMealsInRange(Long memberId, LocalDate from, LocalDate to) {
+        List<Meal> meals = mealRepository.findByMemberAndDateRange(memberId, from, to);
+        List<Long> mealIds = meals.stream().map(Meal::getId).toList();
+        Map<Long, List<MealFoodResponse>> foodsByMeal = buildMealFoodResponses(mealIds);
+        Map<Long, MealLog> logsByMeal = buildMealLogs(mealIds);
+        Map<LocalDate, List<Meal>> mealsByDate = groupByDate(meals);
+
+        Map<LocalDate, List<MealWithFoodsResponse>> result = new LinkedHashMap<>();
+        for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+            result.put(date, withVirtualMeals(memberId, date, mealsByDate.getOrDefault(date, List.of())).stream()
+                    .map(meal -> MealWithFoodsResponse.withNutrition(
+                            meal,
+                            foodsByMeal.getOrDefault(meal.getId(), List.of()),
+                            logsByMeal.get(meal.getId())
+                    ))
+                    .toList());
+        }
+        return result;
+    }
+
+    /**
+     * 기간별 대시보드 요약. 목표 스냅샷도 구간 단위로 한 번에 조회한다.
+     */
+    @Transactional(readOnly = true)
+    public void streamSummariesInRange(Long memberId, LocalDate from, LocalDate to, Consumer<DashboardSummaryResponse> consumer) {
+        validateRange(from, to);
+        for (LocalDate chunkFrom = from; !chunkFrom.isAfter(to); chunkFrom = chunkFrom.plusDays(RANGE_CHUNK_DAYS)) {
+            LocalDate chunkTo = minDate(chunkFrom.plusDays(RANGE_CHUNK_DAYS - 1), to);
+            List<Meal> meals = mealRepository.findByMemberAndDateRange(memberId, chunkFrom, chunkTo);
+            Map<Long, List<MealFoodWithFood>> foodsByMeal = buildMealFoods(meals.stream().map(Meal::getId).toList());
+            Map<LocalDate, MemberNutrientDaily> targets = memberNutrientService.getDailyRange(memberId, chunkFrom, chunkTo);
+            Map<LocalDate, List<Meal>> mealsByDate = groupByDate(meals);
+
+            for (LocalDate date = chunkFrom; !date.isAfter(chunkTo); date = date.plusDays(1)) {
+                consumer.accept(buildDailySummary(date, mealsByDate.getOrDefault(date, List.of()), foodsByMeal, targets.get(date)));
+            }
+        }
+    }
+
+    // -------------------------------------  이하 private  ---------------------------------------
+
+    private DashboardSummaryResponse buildDailySummary(LocalDate mealDate,
+                                                       List<Meal> meals,
+                                                       Map<Long, List<MealFoodWithFood>> foodsByMeal,
+                                                       MemberNutrientDaily dailyTarget) {
         Map<MealType, Meal> mealsByType = new HashMap<>();
         for (Meal meal : meals) {
             mealsByType.put(meal.getMealType(), meal);
         }
 
-        List<Long> mealIds = meals.stream().map(Meal::getId).toList();
-        Map<Long, List<MealFoodWithFood>> foodsByMeal = buildMealFoods(mealIds);
-
         NutritionResponse totals = new NutritionResponse(
                 BigDecimal.ZERO,
                 BigDecimal.ZERO,
@@ -240,7 +338,6 @@ public class MealService {
             totals.setCholesterol(totals.getCholesterol().add(orZero(meal.getCholesterol())));
         }
 
-        MemberNutrientDaily dailyTarget = memberNutrientService.getDaily(memberId, mealDate);
         NutritionResponse targets = NutritionResponse.fromMemberNutrientDaily(dailyTarget);
 
         List<MealSummaryResponse> summaries = new ArrayList<>();
@@ -265,7 +362,40 @@ public class MealService {
         return new DashboardSummaryResponse(mealDate, totals, targets, summaries);
     }
 
-    // -------------------------------------  이하 private  ---------------------------------------
+    private Map<LocalDate, List<Meal>> groupByDate(List<Meal> meals) {
+        Map<LocalDate, List<Meal>> mealsByDate = new HashMap<>();
+        for (Meal meal : meals) {
+            mealsByDate.computeIfAbsent(meal.getMealDate(), k -> new ArrayList<>()).add(meal);
+        }
+        return mealsByDate;
+    }
+
+    private LocalDate minDate(LocalDate a, LocalDate b) {
+        return a.isBefore(b) ? a : b;
+    }
+
+    /**
+     * 저장되지 않은 식사 타입을 id 없는 빈 식단으로 채워 BREAKFAST~SNACK 순서로 반환
+     */
+    private List<Meal> withVirtualMeals(Long memberId, LocalDate mealDate, List<Meal> meals) {
+        if (meals.size() == MealType.values().length) {
+            return meals;
+        }
+        Map<MealType, Meal> mealsByType = new HashMap<>();
+        for (Meal meal : meals) {
+            mealsByType.put(meal.getMealType(), meal);
+        }
+        List<Meal> result = new ArrayList<>();
+        for (MealType mealType : MealType.values()) {
+            Meal meal = mealsByType.get(mealType);
+            result.add(meal != null ? meal : Meal.builder()
+                    .memberId(memberId)
+                    .mealType(mealType)
+                    .mealDate(mealDate)
+                    .build());
+        }
+        return result;
+    }
 
     private void ensureMealOwner(Meal meal, Long memberId) {
         if (!meal.getMemberId().equals(memberId)) {
@@ -273,8 +403,17 @@ public class MealService {
         }
     }
 
+    /**
+     * meal/meal_log에 델타를 반영하고 member_daily_nutrition은 그 날의 meal_log 합으로 다시 계산
+     * meal_log 행이 있으면 UPDATE 한 번, 식단의 첫 음식이라 없을 때만 meal UPDATE + meal_log upsert
+     */
     private void adjustNutrition(Meal meal, Meal delta) {
-        mealRepository.adjustNutrition(meal.getId(), delta);
+        MealLog logDelta = MealLog.fromDelta(meal, delta);
+        if (!mealRepository.adjustNutritionWithLog(meal.getId(), delta)) {
+            mealRepository.adjustNutrition(meal.getId(), delta);
+            mealLogRepository.upsertNutrition(logDelta);
+        }
+        mealLogRepository.refreshDailyNutrition(logDelta);
         meal.applyNutritionDelta(delta);
     }
 
@@ -286,7 +425,7 @@ public class MealService {
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "식단 정보를 찾을 수 없습니다."));
         ensureMealOwner(meal, memberId);
 
-        Food food = foodRepository.findById(mealFood.getFoodId())
+        Food food = foodCache.findById(mealFood.getFoodId())
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "음식 정보를 찾을 수 없습니다."));
 
         return new MealFoodContext(meal, mealFood, food);
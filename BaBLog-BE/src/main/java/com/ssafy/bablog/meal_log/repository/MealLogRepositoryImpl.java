@@ -24,6 +24,11 @@ public class MealLogRepositoryImpl implements MealLogRepository {
         mealLogMapper.upsert(mealLog);
     }
 
+    @Override
+    public void refreshDailyNutrition(MealLog mealLog) {
+        mealLogMapper.refreshDailyNutrition(mealLog);
+    }
+
     @Override
     public java.util.List<MealLog> findByMealIds(java.util.List<Long> mealIds) {
         if (mealIds == null || mealIds.isEmpty()) {
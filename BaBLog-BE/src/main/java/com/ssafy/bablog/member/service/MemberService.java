@@ -5,10 +5,12 @@ import com.ssafy.bablog.member.controller.dto.*;
 import com.ssafy.bablog.member.domain.Member;
 import com.ssafy.bablog.member.repository.MemberRepository;
 
+import com.ssafy.bablog.security.CustomUserDetailsService;
 import com.ssafy.bablog.security.jwt.JwtTokenProvider;
 import com.ssafy.bablog.security.MemberPrincipal;
 import com.ssafy.bablog.security.jwt.TokenBlacklistService;
 import com.ssafy.bablog.member_nutrient.service.MemberNutrientService;
+import io.jsonwebtoken.Claims;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -30,6 +32,7 @@ public class MemberService {
     private final JwtTokenProvider jwtTokenProvider;
     private final TokenBlacklistService tokenBlacklistService;
     private final MemberNutrientService memberNutrientService;
+    private final CustomUserDetailsService customUserDetailsService;
 
     /**
      * 회원 가입
@@ -76,8 +79,7 @@ public class MemberService {
     public void logout(String authorizationHeader) {
         String token = jwtTokenProvider.extractToken(authorizationHeader);
         jwtTokenProvider.checkIsUsableTokenString(token);
-        var expiry = jwtTokenProvider.getExpiration(token);
-        tokenBlacklistService.blacklist(token, expiry);
+        tokenBlacklistService.revoke(token, jwtTokenProvider.parseClaims(token));
     }
 
     /**
@@ -95,6 +97,7 @@ public class MemberService {
         Member member = getMember(memberId);
         member.update(request);
         memberRepository.update(member);
+        customUserDetailsService.evict(memberId, member.getEmail());
         return MemberResponse.from(member);
     }
 
@@ -107,11 +110,14 @@ public class MemberService {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "비밀번호가 일치하지 않습니다.");
         }
         memberRepository.deleteById(memberId);
+        customUserDetailsService.evict(memberId, member.getEmail());
+        memberNutrientService.evict(memberId);
 
         // 현재 토큰 블랙리스트 처리
         String token = jwtTokenProvider.extractToken(authorizationHeader);
-        if (token != null && jwtTokenProvider.validateToken(token)) {
-            tokenBlacklistService.blacklist(token, jwtTokenProvider.getExpiration(token));
+        Claims claims = token != null ? jwtTokenProvider.parseClaims(token) : null;
+        if (claims != null) {
+            tokenBlacklistService.revoke(token, claims);
         }
     }
 
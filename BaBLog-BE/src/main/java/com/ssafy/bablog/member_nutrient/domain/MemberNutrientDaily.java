@@ -28,4 +28,38 @@ public class MemberNutrientDaily {
     private BigDecimal cholesterol;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+
+    /**
+     * member_nutrient 값을 targetDate 스냅샷 형태로 변환 (nutrient가 없으면 0으로 채운다)
+     */
+    public static MemberNutrientDaily of(Long memberId, LocalDate targetDate, MemberNutrient nutrient) {
+        if (nutrient == null) {
+            return MemberNutrientDaily.builder()
+                    .memberId(memberId)
+                    .targetDate(targetDate)
+                    .kcal(BigDecimal.ZERO)
+                    .protein(BigDecimal.ZERO)
+                    .fat(BigDecimal.ZERO)
+                    .saturatedFat(BigDecimal.ZERO)
+                    .transFat(BigDecimal.ZERO)
+                    .carbohydrates(BigDecimal.ZERO)
+                    .sugar(BigDecimal.ZERO)
+                    .natrium(BigDecimal.ZERO)
+                    .cholesterol(BigDecimal.ZERO)
+                    .build();
+        }
+        return MemberNutrientDaily.builder()
+                .memberId(memberId)
+                .targetDate(targetDate)
+                .kcal(nutrient.getKcal())
+                .protein(nutrient.getProtein())
+                .fat(nutrient.getFat())
+                .saturatedFat(nutrient.getSaturatedFat())
+                .transFat(nutrient.getTransFat())
+                .carbohydrates(nutrient.getCarbohydrates())
+                .sugar(nutrient.getSugar())
+                .natrium(nutrient.getNatrium())
+                .cholesterol(nutrient.getCholesterol())
+                .build();
+    }
 }
@@ -0,0 +1,203 @@
+package com.ssafy.bablog.member_nutrient.service;
+
+import com.ssafy.bablog.member.repository.MemberRepository;
+import com.ssafy.bablog.member_nutrient.domain.MemberNutrient;
+import com.ssafy.bablog.member_nutrient.domain.MemberNutrientDaily;
+import com.ssafy.bablog.member_nutrient.repository.MemberNutrientDailyRepository;
+import com.ssafy.bablog.member_nutrient.repository.MemberNutrientRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 회원별 목표 영양소 read-through 캐시
+ * - 회원 존재 확인, member_nutrient 기본값, 날짜별 목표(스냅샷 또는 기본값으로 채운 값)를 회원 단위 항목에 둔다.
+ * - 회원 수는 `member-nutrient.cache.max-members`, 회원당 날짜 수는 `member-nutrient.cache.max-days`로 제한하고 오래 안 쓴 것부터 제거한다.
+ * - 목표가 바뀌면 회원 항목을 통째로 비운다. 트랜잭션 안이면 커밋 후에 한 번 더 비워, 커밋 전 값을 다른 요청이 다시 채우지 않게 한다.
+ * - 다른 인스턴스(배치 등)의 변경은 `member-nutrient.cache.ttl-ms`가 지나야 반영된다.
+ */
+@Component
+public class MemberNutrientCache {
+
+    private final MemberRepository memberRepository;
+    private final MemberNutrientRepository memberNutrientRepository;
+    private final MemberNutrientDailyRepository memberNutrientDailyRepository;
+    private final Map<Long, Entry> cache;
+    private final int maxDays;
+    private final long ttlMillis;
+
+    public MemberNutrientCache(MemberRepository memberRepository,
+                               MemberNutrientRepository memberNutrientRepository,
+                               MemberNutrientDailyRepository memberNutrientDailyRepository,
+                               @Value("${member-nutrient.cache.max-members:10000}") int maxMembers,
+                               @Value("${member-nutrient.cache.max-days:62}") int maxDays,
+                               @Value("${member-nutrient.cache.ttl-ms:300000}") long ttlMillis) {
+        this.memberRepository = memberRepository;
+        this.memberNutrientRepository = memberNutrientRepository;
+        this.memberNutrientDailyRepository = memberNutrientDailyRepository;
+        this.maxDays = maxDays;
+        this.ttlMillis = ttlMillis;
+        this.cache = Collections.synchronizedMap(new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Entry> eldest) {
+                return size() > maxMembers;
+            }
+        });
+    }
+
+    /**
+     * 날짜의 목표: 1순위 일별 스냅샷, 2순위 현재 member_nutrient, 3순위 0
+     */
+    public MemberNutrientDaily getDaily(Long memberId, LocalDate date) {
+        Entry entry = entry(memberId);
+        MemberNutrientDaily cached = entry.day(date);
+        if (cached != null) {
+            return cached;
+        }
+        MemberNutrientDaily daily = memberNutrientDailyRepository.findByMemberAndDate(memberId, date)
+                .orElseGet(() -> MemberNutrientDaily.of(memberId, date, baseline(entry, memberId)));
+        entry.putDay(date, daily);
+        return daily;
+    }
+
+    /**
+     * 기간의 목표를 날짜 순으로 반환. 캐시에 빠진 날이 있으면 기간 조회 한 번으로 채우고,
+     * 스냅샷이 없는 날은 기본값을 한 번만 조회해 메모리에서 채운다.
+     */
+    public Map<LocalDate, MemberNutrientDaily> getDailyRange(Long memberId, LocalDate from, LocalDate to) {
+        Entry entry = entry(memberId);
+        Map<LocalDate, MemberNutrientDaily> result = new LinkedHashMap<>();
+        boolean complete = true;
+        for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+            MemberNutrientDaily cached = entry.day(date);
+            if (cached == null) {
+                complete = false;
+                break;
+            }
+            result.put(date, cached);
+        }
+        if (complete) {
+            return result;
+        }
+
+        Map<LocalDate, MemberNutrientDaily> snapshots = new HashMap<>();
+        for (MemberNutrientDaily daily : memberNutrientDailyRepository.findRange(memberId, from, to)) {
+            snapshots.put(daily.getTargetDate(), daily);
+        }
+        // 캐시 한도보다 긴 기간은 다른 날짜를 밀어내지 않도록 저장하지 않는다
+        boolean cacheable = ChronoUnit.DAYS.between(from, to) < maxDays;
+        result.clear();
+        for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+            MemberNutrientDaily daily = snapshots.get(date);
+            if (daily == null) {
+                daily = MemberNutrientDaily.of(memberId, date, baseline(entry, memberId));
+            }
+            if (cacheable) {
+                entry.putDay(date, daily);
+            }
+            result.put(date, daily);
+        }
+        return result;
+    }
+
+    /**
+     * 해당 날짜의 스냅샷 행이 DB에 있다고 캐시가 알고 있는지 (없거나 모르면 false)
+     */
+    public boolean hasStoredSnapshot(Long memberId, LocalDate date) {
+        Entry entry = cache.get(memberId);
+        if (entry == null || entry.isExpired()) {
+            return false;
+        }
+        MemberNutrientDaily cached = entry.day(date);
+        return cached != null && cached.getId() != null;
+    }
+
+    /**
+     * 회원 존재 확인 (캐시 항목이 있으면 조회 없음). 없으면 404
+     */
+    public void requireMember(Long memberId) {
+        entry(memberId);
+    }
+
+    public void invalidate(Long memberId) {
+        cache.remove(memberId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    cache.remove(memberId);
+                }
+            });
+        }
+    }
+
+    public void invalidateAll() {
+        cache.clear();
+    }
+
+    private Entry entry(Long memberId) {
+        Entry entry = cache.get(memberId);
+        if (entry != null && !entry.isExpired()) {
+            return entry;
+        }
+        if (memberRepository.findById(memberId).isEmpty()) {
+            cache.remove(memberId);
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "회원을 찾을 수 없습니다.");
+        }
+        entry = new Entry(System.currentTimeMillis() + ttlMillis, maxDays);
+        cache.put(memberId, entry);
+        return entry;
+    }
+
+    private MemberNutrient baseline(Entry entry, Long memberId) {
+        synchronized (entry) {
+            if (!entry.baselineLoaded) {
+                entry.baseline = memberNutrientRepository.findByMemberId(memberId).orElse(null);
+                entry.baselineLoaded = true;
+            }
+            return entry.baseline;
+        }
+    }
+
+    /**
+     * 회원 한 명의 캐시 항목. 비울 때는 항목을 통째로 버리므로 필드를 개별로 갱신하지 않는다.
+     */
+    private static final class Entry {
+        private final long expiresAt;
+        private final Map<LocalDate, MemberNutrientDaily> days;
+        private MemberNutrient baseline;
+        private boolean baselineLoaded;
+
+        private Entry(long expiresAt, int maxDays) {
+            this.expiresAt = expiresAt;
+            this.days = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<LocalDate, MemberNutrientDaily> eldest) {
+                    return size() > maxDays;
+                }
+            });
+        }
+
+        private boolean isExpired() {
+            return System.currentTimeMillis() >= expiresAt;
+        }
+
+        private MemberNutrientDaily day(LocalDate date) {
+            return days.get(date);
+        }
+
+        private void putDay(LocalDate date, MemberNutrientDaily daily) {
+            days.put(date, daily);
+        }
+    }
+}
@@ -12,5 +12,10 @@ public interface DailyReportRepository {
 
     Optional<DailyReport> findByMemberAndDate(Long memberId, LocalDate reportDate);
 
+    /**
+     * 기간 내 일간 리포트의 날짜/metrics만 조회한다. 주간 리포트 입력 구성용.
+     */
+    List<DailyReport> findMetricsByMemberAndRange(Long memberId, LocalDate startDate, LocalDate endDate);
+
     List<DailyScorePoint> findScoresByMemberAndRange(Long memberId, LocalDate startDate, LocalDate endDate);
 }
@@ -26,6 +26,11 @@ public class DailyReportRepositoryImpl implements DailyReportRepository {
         return Optional.ofNullable(mapper.findByMemberAndDate(memberId, reportDate));
     }
 
+    @Override
+    public List<DailyReport> findMetricsByMemberAndRange(Long memberId, LocalDate startDate, LocalDate endDate) {
+        return mapper.findMetricsByMemberAndRange(memberId, startDate, endDate);
+    }
+
     @Override
     public List<DailyScorePoint> findScoresByMemberAndRange(Long memberId, LocalDate startDate, LocalDate endDate) {
         return mapper.findScoresByMemberAndRange(memberId, startDate, endDate);
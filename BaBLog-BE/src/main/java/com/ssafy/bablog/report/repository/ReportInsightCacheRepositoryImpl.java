@@ -0,0 +1,31 @@
+package com.ssafy.bablog.report.repository;
+
+import com.ssafy.bablog.report.domain.ReportInsightCacheEntry;
+import com.ssafy.bablog.report.repository.mapper.ReportInsightCacheMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Repository
+@RequiredArgsConstructor
+public class ReportInsightCacheRepositoryImpl implements ReportInsightCacheRepository {
+
+    private final ReportInsightCacheMapper mapper;
+
+    @Override
+    public void upsert(ReportInsightCacheEntry entry) {
+        mapper.upsert(entry);
+    }
+
+    @Override
+    public Optional<ReportInsightCacheEntry> findValid(String cacheKey, LocalDateTime now) {
+        return Optional.ofNullable(mapper.findValid(cacheKey, now));
+    }
+
+    @Override
+    public int deleteExpired(LocalDateTime now) {
+        return mapper.deleteExpired(now);
+    }
+}
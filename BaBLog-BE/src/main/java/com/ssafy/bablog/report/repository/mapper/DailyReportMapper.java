@@ -16,6 +16,10 @@ public interface DailyReportMapper {
     DailyReport findByMemberAndDate(@Param("memberId") Long memberId,
                                     @Param("reportDate") LocalDate reportDate);
 
+    List<DailyReport> findMetricsByMemberAndRange(@Param("memberId") Long memberId,
+                                                  @Param("startDate") LocalDate startDate,
+                                                  @Param("endDate") LocalDate endDate);
+
     List<DailyScorePoint> findScoresByMemberAndRange(@Param("memberId") Long memberId,
                                                      @Param("startDate") LocalDate startDate,
                                                      @Param("endDate") LocalDate endDate);
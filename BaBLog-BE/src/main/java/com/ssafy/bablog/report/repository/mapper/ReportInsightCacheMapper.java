@@ -0,0 +1,17 @@
+package com.ssafy.bablog.report.repository.mapper;
+
+import com.ssafy.bablog.report.domain.ReportInsightCacheEntry;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.time.LocalDateTime;
+
+@Mapper
+public interface ReportInsightCacheMapper {
+    void upsert(ReportInsightCacheEntry entry);
+
+    ReportInsightCacheEntry findValid(@Param("cacheKey") String cacheKey,
+                                      @Param("now") LocalDateTime now);
+
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
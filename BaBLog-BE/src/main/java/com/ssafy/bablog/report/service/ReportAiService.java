@@ -3,6 +3,7 @@ package com.ssafy.bablog.report.service;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.ssafy.bablog.report.service.dto.ReportInsight;
 import org.springframework.ai.chat.client.ChatClient;
+import org.springframework.ai.chat.model.ChatResponse;
 import org.springframework.stereotype.Service;
 
 import java.util.Map;
@@ -55,33 +56,56 @@ public class ReportAiService {
         개선점은 원인과 결과를 1문장에 포함한다.
         """;
 
+    private static final String PROMPT_VERSION = ReportInsightCache.promptVersion(DAILY_SYSTEM_PROMPT, WEEKLY_SYSTEM_PROMPT);
+
+    private static final String DAILY = "daily";
+    private static final String WEEKLY = "weekly";
+
     private final ChatClient chatClient;
     private final ObjectMapper objectMapper;
+    private final ReportAiMetrics aiMetrics;
 
-    public ReportAiService(ChatClient.Builder builder, ObjectMapper objectMapper) {
+    public ReportAiService(ChatClient.Builder builder, ObjectMapper objectMapper, ReportAiMetrics aiMetrics) {
         this.chatClient = builder.build();
         this.objectMapper = objectMapper;
+        this.aiMetrics = aiMetrics;
+    }
+
+    public String promptVersion() {
+        return PROMPT_VERSION;
     }
 
     public <T> T generateDailyInsight(Map<String, Object> payload, Class<T> resultType) {
-        return generateInsight(payload, DAILY_SYSTEM_PROMPT, resultType);
+        return generateInsight(payload, DAILY, DAILY_SYSTEM_PROMPT, resultType);
     }
 
     public <T> T generateWeeklyInsight(Map<String, Object> payload, Class<T> resultType) {
-        return generateInsight(payload, WEEKLY_SYSTEM_PROMPT, resultType);
+        return generateInsight(payload, WEEKLY, WEEKLY_SYSTEM_PROMPT, resultType);
     }
 
-    private <T> T generateInsight(Map<String, Object> payload, String systemPrompt, Class<T> resultType) {
+    private <T> T generateInsight(Map<String, Object> payload, String type, String systemPrompt, Class<T> resultType) {
+        long started = aiMetrics.start();
+        boolean success = false;
         try {
             String userPrompt = objectMapper.writeValueAsString(payload);
-            String content = chatClient.prompt()
+            ChatResponse response = chatClient.prompt()
                     .system(systemPrompt)
                     .user(userPrompt)
                     .call()
-                    .content();
-            return objectMapper.readValue(content, resultType);
+                    .chatResponse();
+            if (response != null && response.getMetadata() != null) {
+                aiMetrics.recordUsage(type, response.getMetadata().getUsage());
+            }
+            String content = response == null || response.getResult() == null
+                    ? null
+                    : response.getResult().getOutput().getText();
+            T result = objectMapper.readValue(content, resultType);
+            success = true;
+            return result;
         } catch (Exception e) {
             throw new IllegalStateException("AI 응답 파싱 실패", e);
+        } finally {
+            aiMetrics.recordCall(type, "sync", started, success);
         }
     }
 }
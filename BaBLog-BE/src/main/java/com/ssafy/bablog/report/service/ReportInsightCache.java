@@ -0,0 +1,241 @@
+package com.ssafy.bablog.report.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.ssafy.bablog.report.domain.ReportInsightCacheEntry;
+import com.ssafy.bablog.report.repository.ReportInsightCacheRepository;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * AI 인사이트 결과를 프롬프트 입력 내용 기준으로 캐싱한다.
+ * 키 = SHA-256(리포트 타입 | 프롬프트 버전 | 결과 타입 | 정규화된 payload JSON).
+ * 같은 날 리포트 생성을 여러 번 눌러도 식단이 그대로면 AI를 다시 호출하지 않는다.
+ * 1차: 메모리(LRU + TTL), 2차(선택): report_insight_cache 테이블. 테이블은 재시작 후나 서버가 여러 대일 때도 결과를 공유하며,
+ * 키 규칙이 Core와 같아 배치가 만든 결과도 그대로 적중한다.
+ * 적중/실패 수는 `report.insight.cache.requests`(result, tier) 미터로 노출한다.
+ */
+@Slf4j
+@Component
+public class ReportInsightCache implements MeterBinder {
+
+    private final ReportInsightCacheRepository repository;
+    private final ObjectMapper objectMapper;
+    private final Duration ttl;
+    private final boolean persistentEnabled;
+    private final Map<String, MemoryEntry> memory;
+
+    private final AtomicLong memoryHits = new AtomicLong();
+    private final AtomicLong persistentHits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    public ReportInsightCache(ReportInsightCacheRepository repository,
+                              ObjectMapper objectMapper,
+                              @Value("${report.ai-cache.max-size:10000}") int maxSize,
+                              @Value("${report.ai-cache.ttl-hours:24}") long ttlHours,
+                              @Value("${report.ai-cache.persistent-enabled:false}") boolean persistentEnabled) {
+        this.repository = repository;
+        this.objectMapper = objectMapper;
+        this.ttl = Duration.ofHours(ttlHours);
+        this.persistentEnabled = persistentEnabled;
+        this.memory = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, MemoryEntry> eldest) {
+                return size() > maxSize;
+            }
+        });
+    }
+
+    /**
+     * 시스템 프롬프트 내용으로 만든 프롬프트 버전 ("p-" + SHA-256 앞 16자리)
+     */
+    public static String promptVersion(String... systemPrompts) {
+        MessageDigest digest = sha256();
+        for (String prompt : systemPrompts) {
+            digest.update(prompt.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+        }
+        return "p-" + HexFormat.of().formatHex(digest.digest()).substring(0, 16);
+    }
+
+    public <T> T getOrLoad(String reportType,
+                           String promptVersion,
+                           Map<String, Object> payload,
+                           Class<T> resultType,
+                           Supplier<T> loader) {
+        String key = cacheKey(reportType, promptVersion, payload, resultType);
+        Optional<T> cached = lookup(key, resultType);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+        T result = loader.get();
+        store(key, reportType, promptVersion, result);
+        return result;
+    }
+
+    /**
+     * 만료된 테이블 캐시 행을 정리한다. 메모리 캐시는 조회 시점에 만료 항목을 제거한다.
+     */
+    public int purgeExpired() {
+        if (!persistentEnabled) {
+            return 0;
+        }
+        return repository.deleteExpired(LocalDateTime.now());
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        counter(registry, memoryHits, "hit", "memory");
+        counter(registry, persistentHits, "hit", "table");
+        counter(registry, misses, "miss", "none");
+        Gauge.builder("report.insight.cache.size", memory, Map::size)
+                .description("AI insights held in the memory cache")
+                .register(registry);
+    }
+
+    private static void counter(MeterRegistry registry, AtomicLong value, String result, String tier) {
+        FunctionCounter.builder("report.insight.cache.requests", value, AtomicLong::get)
+                .description("AI insight cache lookups")
+                .tag("result", result)
+                .tag("tier", tier)
+                .register(registry);
+    }
+
+    private <T> Optional<T> lookup(String key, Class<T> resultType) {
+        LocalDateTime now = LocalDateTime.now();
+        MemoryEntry entry = memory.get(key);
+        if (entry != null) {
+            if (entry.expiresAt().isAfter(now)) {
+                memoryHits.incrementAndGet();
+                return Optional.of(readValue(entry.json(), resultType));
+            }
+            memory.remove(key);
+        }
+        if (persistentEnabled) {
+            Optional<ReportInsightCacheEntry> stored = findPersistent(key, now);
+            if (stored.isPresent()) {
+                persistentHits.incrementAndGet();
+                memory.put(key, new MemoryEntry(stored.get().getResultJson(), stored.get().getExpiresAt()));
+                return Optional.of(readValue(stored.get().getResultJson(), resultType));
+            }
+        }
+        misses.incrementAndGet();
+        return Optional.empty();
+    }
+
+    private void store(String key, String reportType, String promptVersion, Object result) {
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(result);
+        } catch (Exception e) {
+            // 직렬화할 수 없는 결과는 캐시하지 않는다.
+            return;
+        }
+        LocalDateTime expiresAt = LocalDateTime.now().plus(ttl);
+        memory.put(key, new MemoryEntry(json, expiresAt));
+        if (persistentEnabled) {
+            try {
+                repository.upsert(ReportInsightCacheEntry.builder()
+                        .cacheKey(key)
+                        .reportType(reportType)
+                        .promptVersion(promptVersion)
+                        .resultJson(json)
+                        .expiresAt(expiresAt)
+                        .build());
+            } catch (Exception e) {
+                // 캐시 저장 실패가 리포트 생성을 막지 않도록 로그만 남긴다.
+                log.warn("Failed to persist report insight cache: key={}, message={}", key, e.getMessage());
+            }
+        }
+    }
+
+    private Optional<ReportInsightCacheEntry> findPersistent(String key, LocalDateTime now) {
+        try {
+            return repository.findValid(key, now);
+        } catch (Exception e) {
+            log.warn("Failed to read report insight cache: key={}, message={}", key, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private <T> T readValue(String json, Class<T> resultType) {
+        try {
+            return objectMapper.readValue(json, resultType);
+        } catch (Exception e) {
+            throw new IllegalStateException("캐시된 AI 응답 파싱 실패", e);
+        }
+    }
+
+    String cacheKey(String reportType, String promptVersion, Map<String, Object> payload, Class<?> resultType) {
+        String canonical;
+        try {
+            canonical = objectMapper.writeValueAsString(canonicalize(objectMapper.valueToTree(payload)));
+        } catch (Exception e) {
+            throw new IllegalStateException("AI 캐시 키 생성 실패", e);
+        }
+        String source = reportType + "|" + promptVersion + "|" + resultType.getName() + "|" + canonical;
+        return HexFormat.of().formatHex(sha256().digest(source.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    }
+
+    static JsonNode canonicalize(JsonNode node) {
+        if (node == null || node.isNull()) {
+            return JsonNodeFactory.instance.nullNode();
+        }
+        if (node.isObject()) {
+            List<String> names = new ArrayList<>();
+            node.fieldNames().forEachRemaining(names::add);
+            names.sort(null);
+            ObjectNode sorted = JsonNodeFactory.instance.objectNode();
+            for (String name : names) {
+                sorted.set(name, canonicalize(node.get(name)));
+            }
+            return sorted;
+        }
+        if (node.isArray()) {
+            ArrayNode array = JsonNodeFactory.instance.arrayNode();
+            node.forEach(element -> array.add(canonicalize(element)));
+            return array;
+        }
+        if (node.isNumber()) {
+            BigDecimal value = node.decimalValue();
+            BigDecimal normalized = value.signum() == 0 ? BigDecimal.ZERO : value.stripTrailingZeros();
+            return JsonNodeFactory.instance.numberNode(normalized);
+        }
+        return node;
+    }
+
+    private record MemoryEntry(String json, LocalDateTime expiresAt) {
+    }
+}
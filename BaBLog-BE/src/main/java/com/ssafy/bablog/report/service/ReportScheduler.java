@@ -14,6 +14,7 @@ public class ReportScheduler {
 
     private final MemberRepository memberRepository;
     private final ReportService reportService;
+    private final ReportInsightCache reportInsightCache;
 
     @Scheduled(cron = "0 0 0 * * *")
     public void generateDailyReports() {
@@ -31,4 +32,9 @@ public class ReportScheduler {
             reportService.generateWeeklyReport(memberId, weekStart, weekEnd);
         }
     }
+
+    @Scheduled(cron = "0 30 0 * * *")
+    public void purgeExpiredInsightCache() {
+        reportInsightCache.purgeExpired();
+    }
 }
@@ -50,6 +50,7 @@ public class ReportService {
     private final DailyReportRepository dailyReportRepository;
     private final WeeklyReportRepository weeklyReportRepository;
     private final ReportAiService reportAiService;
+    private final ReportInsightCache insightCache;
     private final ObjectMapper objectMapper;
 
     @Transactional
@@ -92,18 +93,7 @@ public class ReportService {
     @Transactional
     public WeeklyReport generateWeeklyReport(Long memberId, LocalDate startDate, LocalDate endDate) {
         Member member = getMember(memberId);
-        List<LocalDate> dates = buildDateRange(startDate, endDate);
-        List<Map<String, Object>> dailyMetrics = new ArrayList<>();
-
-        for (LocalDate date : dates) {
-            MemberNutrientDaily target = memberNutrientService.getDaily(memberId, date);
-            MealLogDailyTotal dailyTotal = mealLogRepository.findDailyTotal(memberId, date);
-            NutritionSnapshot actual = NutritionSnapshot.from(dailyTotal);
-            List<MealWithFoodsResponse> meals = mealService.getMeals(memberId, date);
-            Map<String, Object> metrics = buildDailyMetrics(actual, target, meals);
-            metrics.put("date", date.toString());
-            dailyMetrics.add(metrics);
-        }
+        List<Map<String, Object>> dailyMetrics = loadWeeklyMetrics(memberId, startDate, endDate);
 
         AiWeeklyReportResult aiResult = requestWeeklyAiReport(buildWeeklyPrompt(member, startDate, endDate, dailyMetrics));
         LocalDate bestDay = normalizeDate(parseDate(aiResult.getBestDay()), startDate, endDate);
@@ -202,6 +192,59 @@ public class ReportService {
         return weekStart(date).plusDays(6);
     }
 
+    /**
+     * 저장된 daily_report.metrics를 기간 조회 1회로 재사용하고, 일간 리포트가 없는 날만 기간 쿼리로 채운다.
+     * 날짜 수와 관계없이 조회 횟수가 일정하다 (Core ReportService와 같은 방식).
+     */
+    private List<Map<String, Object>> loadWeeklyMetrics(Long memberId, LocalDate startDate, LocalDate endDate) {
+        Map<LocalDate, Map<String, Object>> stored = new HashMap<>();
+        for (DailyReport report : dailyReportRepository.findMetricsByMemberAndRange(memberId, startDate, endDate)) {
+            Map<String, Object> metrics = parseJson(report.getMetrics(), new TypeReference<Map<String, Object>>() {}, null);
+            if (metrics != null) {
+                stored.put(report.getReportDate(), metrics);
+            }
+        }
+
+        List<LocalDate> dates = buildDateRange(startDate, endDate);
+        List<LocalDate> gaps = dates.stream().filter(date -> !stored.containsKey(date)).toList();
+        if (!gaps.isEmpty()) {
+            stored.putAll(buildGapMetrics(memberId, gaps));
+        }
+
+        List<Map<String, Object>> dailyMetrics = new ArrayList<>();
+        for (LocalDate date : dates) {
+            Map<String, Object> metrics = new HashMap<>(stored.get(date));
+            metrics.put("date", date.toString());
+            dailyMetrics.add(metrics);
+        }
+        return dailyMetrics;
+    }
+
+    private Map<LocalDate, Map<String, Object>> buildGapMetrics(Long memberId, List<LocalDate> gaps) {
+        LocalDate from = gaps.get(0);
+        LocalDate to = gaps.get(gaps.size() - 1);
+
+        Map<LocalDate, MealLogDailyTotal> totals = new HashMap<>();
+        for (MealLogDailyTotal total : mealLogRepository.findDailyTotalsInRange(memberId, from, to)) {
+            totals.put(total.getTargetDate(), total);
+        }
+        // 기간 조회 1회 (캐시에 있으면 0회)
+        Map<LocalDate, MemberNutrientDaily> targets = memberNutrientService.getDailyRange(memberId, from, to);
+        // 식사 패턴은 기록이 있는 날에만 필요하므로, 그런 날이 있을 때만 식단을 기간 단위로 한 번 조회한다.
+        boolean anyIntake = gaps.stream().anyMatch(date -> !NutritionSnapshot.from(totals.get(date)).isEmpty());
+        Map<LocalDate, List<MealWithFoodsResponse>> mealsByDate = anyIntake
+                ? mealService.getMealsInRange(memberId, from, to)
+                : Map.of();
+
+        Map<LocalDate, Map<String, Object>> result = new HashMap<>();
+        for (LocalDate date : gaps) {
+            NutritionSnapshot actual = NutritionSnapshot.from(totals.get(date));
+            List<MealWithFoodsResponse> meals = actual.isEmpty() ? List.of() : mealsByDate.getOrDefault(date, List.of());
+            result.put(date, buildDailyMetrics(actual, targets.get(date), meals));
+        }
+        return result;
+    }
+
     private Member getMember(Long memberId) {
         return memberRepository.findById(memberId)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "회원을 찾을 수 없습니다."));
@@ -346,7 +389,8 @@ public class ReportService {
 
     private AiDailyReportResult requestDailyAiReport(Map<String, Object> payload) {
         try {
-            return reportAiService.generateDailyInsight(payload, AiDailyReportResult.class);
+            return insightCache.getOrLoad("daily", reportAiService.promptVersion(), payload, AiDailyReportResult.class,
+                    () -> reportAiService.generateDailyInsight(payload, AiDailyReportResult.class));
         } catch (Exception e) {
             return buildEmptyDailyAiResult();
         }
@@ -354,7 +398,8 @@ public class ReportService {
 
     private AiWeeklyReportResult requestWeeklyAiReport(Map<String, Object> payload) {
         try {
-            return reportAiService.generateWeeklyInsight(payload, AiWeeklyReportResult.class);
+            return insightCache.getOrLoad("weekly", reportAiService.promptVersion(), payload, AiWeeklyReportResult.class,
+                    () -> reportAiService.generateWeeklyInsight(payload, AiWeeklyReportResult.class));
         } catch (Exception e) {
             AiWeeklyReportResult fallback = new AiWeeklyReportResult();
             fallback.setScore(0);
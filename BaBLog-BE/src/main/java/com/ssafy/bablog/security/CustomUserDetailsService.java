@@ -2,18 +2,38 @@ package com.ssafy.bablog.security;
 
 import com.ssafy.bablog.member.domain.Member;
 import com.ssafy.bablog.member.repository.MemberRepository;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 @Service
 public class CustomUserDetailsService implements UserDetailsService {
 
     private final MemberRepository memberRepository;
+    private final long principalTtlMillis;
+
+    // 요청 인증용 principal 단기 캐시. 키는 회원 id(Long), 회원 id claim이 없는 이전 형식 토큰이면 email(String).
+    // 로그인 인증에는 사용하지 않는다. 없는 회원도 principal = null로 TTL 동안 기억해 탈퇴 회원 토큰이 DB를 매번 치지 않게 한다.
+    // 접근 순서 LRU라 가득 차면 가장 오래 안 쓴 항목 하나만 밀려나고, 자주 요청하는 회원은 남는다.
+    private final Map<Object, CachedPrincipal> principalCache;
 
-    public CustomUserDetailsService(MemberRepository memberRepository) {
+    public CustomUserDetailsService(MemberRepository memberRepository,
+                                    @Value("${security.principal-cache.ttl-millis:60000}") long principalTtlMillis,
+                                    @Value("${security.principal-cache.max-size:10000}") int principalCacheSize) {
         this.memberRepository = memberRepository;
+        this.principalTtlMillis = principalTtlMillis;
+        this.principalCache = Collections.synchronizedMap(new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Object, CachedPrincipal> eldest) {
+                return size() > principalCacheSize;
+            }
+        });
     }
 
     @Override
@@ -23,5 +43,51 @@ public class CustomUserDetailsService implements UserDetailsService {
         return MemberPrincipal.from(member);
     }
 
+    /**
+     * 요청 인증용 조회. 토큰 claim 대신 현재 회원 정보로 principal을 만들어 탈퇴/이름 변경이 TTL 안에 반영된다.
+     * TTL 동안은 DB를 다시 조회하지 않는다. 회원이 없으면 null
+     */
+    public MemberPrincipal loadCachedPrincipal(Long memberId) {
+        long now = System.currentTimeMillis();
+        CachedPrincipal cached = principalCache.get(memberId);
+        if (cached != null && cached.expiresAt() > now) {
+            return cached.principal();
+        }
+        MemberPrincipal principal = memberRepository.findById(memberId).map(MemberPrincipal::from).orElse(null);
+        put(memberId, principal, now);
+        return principal;
+    }
+
+    /**
+     * 회원 id claim이 없는 이전 형식 토큰용 email 조회
+     */
+    public MemberPrincipal loadCachedPrincipal(String email) {
+        long now = System.currentTimeMillis();
+        CachedPrincipal cached = principalCache.get(email);
+        if (cached != null && cached.expiresAt() > now && cached.principal() != null) {
+            return cached.principal();
+        }
+        MemberPrincipal principal = (MemberPrincipal) loadUserByUsername(email);
+        put(email, principal, now);
+        return principal;
+    }
+
+    /**
+     * 회원 정보가 바뀌거나 탈퇴했을 때 이 인스턴스의 캐시를 비운다 (다른 인스턴스는 TTL 후 반영)
+     */
+    public void evict(Long memberId, String email) {
+        if (memberId != null) {
+            principalCache.remove(memberId);
+        }
+        if (email != null) {
+            principalCache.remove(email);
+        }
+    }
 
+    private void put(Object key, MemberPrincipal principal, long now) {
+        principalCache.put(key, new CachedPrincipal(principal, now + principalTtlMillis));
+    }
+
+    private record CachedPrincipal(MemberPrincipal principal, long expiresAt) {
+    }
 }
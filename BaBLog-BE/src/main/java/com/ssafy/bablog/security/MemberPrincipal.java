@@ -9,18 +9,22 @@ import java.util.Collection;
 import java.util.List;
 
 public class MemberPrincipal implements UserDetails {
+    public static final String DEFAULT_ROLE = "ROLE_USER";
+
     private final Long id;
     private final String email;
     private final String name;
     private final String password;
+    private final String role;
     private final Collection<? extends GrantedAuthority> authorities;
 
-    private MemberPrincipal(Long id, String email, String name, String password, Collection<? extends GrantedAuthority> authorities) {
+    private MemberPrincipal(Long id, String email, String name, String password, String role) {
         this.id = id;
         this.email = email;
         this.name = name;
         this.password = password;
-        this.authorities = authorities;
+        this.role = role;
+        this.authorities = List.of(new SimpleGrantedAuthority(role));
     }
 
     public static MemberPrincipal from(Member member) {
@@ -29,7 +33,7 @@ public class MemberPrincipal implements UserDetails {
                 member.getEmail(),
                 member.getName(),
                 member.getPassword(),
-                List.of(new SimpleGrantedAuthority("ROLE_USER"))
+                DEFAULT_ROLE
         );
     }
 
@@ -57,6 +61,10 @@ public class MemberPrincipal implements UserDetails {
         return name;
     }
 
+    public String getRole() {
+        return role;
+    }
+
     @Override
     public String getPassword() {
         return password;
@@ -1,6 +1,8 @@
 package com.ssafy.bablog.security.jwt;
 
 import com.ssafy.bablog.security.CustomUserDetailsService;
+import com.ssafy.bablog.security.MemberPrincipal;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -8,7 +10,6 @@ import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.http.HttpHeaders;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
@@ -40,16 +41,23 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             throws ServletException, IOException {
         try {
             String jwt = resolveToken(request);
-            if (StringUtils.hasText(jwt)
-                    && !tokenBlacklistService.isBlacklisted(jwt)
-                    && tokenProvider.validateToken(jwt)
-                    && SecurityContextHolder.getContext().getAuthentication() == null) {
-                String email = tokenProvider.getEmail(jwt);
-                UserDetails userDetails = userDetailsService.loadUserByUsername(email);
-                UsernamePasswordAuthenticationToken authentication =
-                        new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
-                authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-                SecurityContextHolder.getContext().setAuthentication(authentication);
+            if (StringUtils.hasText(jwt) && SecurityContextHolder.getContext().getAuthentication() == null) {
+                // 한 번만 파싱하고, 회원 정보는 회원 id 기준 principal 캐시에서 가져온다.
+                // 탈퇴한 회원이면 null이라 그 회원의 다른 토큰도 인증되지 않는다 (캐시 TTL 이내)
+                Claims claims = tokenProvider.parseClaims(jwt);
+                MemberPrincipal principal = null;
+                if (claims != null && !tokenBlacklistService.isRevoked(jwt, claims)) {
+                    Long memberId = tokenProvider.getMemberId(claims);
+                    principal = memberId != null
+                            ? userDetailsService.loadCachedPrincipal(memberId)
+                            : userDetailsService.loadCachedPrincipal(claims.getSubject());
+                }
+                if (principal != null) {
+                    UsernamePasswordAuthenticationToken authentication =
+                            new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities());
+                    authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+                    SecurityContextHolder.getContext().setAuthentication(authentication);
+                }
             }
         } catch (Exception ex) {
             log.warn("JWT authentication failed: {}", ex.getMessage());
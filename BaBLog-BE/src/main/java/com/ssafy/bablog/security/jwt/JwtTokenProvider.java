@@ -2,6 +2,7 @@ package com.ssafy.bablog.security.jwt;
 
 import com.ssafy.bablog.security.MemberPrincipal;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
@@ -16,10 +17,13 @@ import java.nio.charset.StandardCharsets;
 import java.security.Key;
 import java.time.Instant;
 import java.util.Date;
+import java.util.UUID;
 
 @Component
 public class JwtTokenProvider implements InitializingBean {
 
+    static final String CLAIM_MEMBER_ID = "mid";
+
     @Value("${security.jwt.secret:change-me-please-change-this-secret-key-32-chars}")
     private String secret;
 
@@ -27,10 +31,13 @@ public class JwtTokenProvider implements InitializingBean {
     private long expirationMillis;
 
     private Key key;
+    // 불변/스레드 안전하므로 한 번만 만들어 재사용
+    private JwtParser parser;
 
     @Override
     public void afterPropertiesSet() {
         this.key = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        this.parser = Jwts.parserBuilder().setSigningKey(key).build();
     }
 
     public String generateToken(MemberPrincipal principal) {
@@ -38,30 +45,43 @@ public class JwtTokenProvider implements InitializingBean {
         Date expiry = new Date(now.getTime() + expirationMillis);
 
         return Jwts.builder()
+                .setId(UUID.randomUUID().toString())
                 .setSubject(principal.getUsername())
+                .claim(CLAIM_MEMBER_ID, principal.getId())
                 .setIssuedAt(now)
                 .setExpiration(expiry)
                 .signWith(key, SignatureAlgorithm.HS256)
                 .compact();
     }
 
-    public boolean validateToken(String token) {
+    /**
+     * 서명/만료 검증과 claim 추출을 한 번에 수행. 유효하지 않으면 null
+     */
+    public Claims parseClaims(String token) {
         try {
-            Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
-            return true;
+            return parser.parseClaimsJws(token).getBody();
         } catch (Exception ex) {
-            return false;
+            return null;
         }
     }
 
+    public boolean validateToken(String token) {
+        return parseClaims(token) != null;
+    }
+
     public String getEmail(String token) {
-        Claims claims = Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token).getBody();
-        return claims.getSubject();
+        return parser.parseClaimsJws(token).getBody().getSubject();
     }
 
     public Instant getExpiration(String token) {
-        Claims claims = Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token).getBody();
-        return claims.getExpiration().toInstant();
+        return parser.parseClaimsJws(token).getBody().getExpiration().toInstant();
+    }
+
+    /**
+     * 회원 id claim (이전 형식 토큰이면 null). 이름/권한은 토큰에 싣지 않고 현재 회원 정보에서 읽는다.
+     */
+    public Long getMemberId(Claims claims) {
+        return claims.get(CLAIM_MEMBER_ID, Long.class);
     }
 
     public String extractToken(String authorizationHeader) {
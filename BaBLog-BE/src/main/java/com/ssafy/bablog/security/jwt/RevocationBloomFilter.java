@@ -0,0 +1,59 @@
+package com.ssafy.bablog.security.jwt;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 폐기 토큰 id용 Bloom filter. 조회는 비트 확인만 하므로 객체를 만들지 않는다.
+ * 삭제를 지원하지 않으므로 만료 버킷을 정리할 때 남은 id로 새로 만든다.
+ */
+final class RevocationBloomFilter {
+
+    private static final int HASHES = 4;
+
+    private final AtomicLongArray words;
+    private final int mask;
+
+    RevocationBloomFilter(int bits) {
+        int size = Integer.highestOneBit(Math.max(bits, Long.SIZE));
+        this.words = new AtomicLongArray(size / Long.SIZE);
+        this.mask = size - 1;
+    }
+
+    void add(long high, long low) {
+        long hash = mix(high, low);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32) | 1;
+        for (int i = 0; i < HASHES; i++) {
+            int bit = (h1 + i * h2) & mask;
+            long flag = 1L << bit;
+            int index = bit >>> 6;
+            long word;
+            do {
+                word = words.get(index);
+            } while ((word & flag) == 0 && !words.compareAndSet(index, word, word | flag));
+        }
+    }
+
+    boolean mightContain(long high, long low) {
+        long hash = mix(high, low);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32) | 1;
+        for (int i = 0; i < HASHES; i++) {
+            int bit = (h1 + i * h2) & mask;
+            if ((words.get(bit >>> 6) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static long mix(long high, long low) {
+        long hash = high * 0x9E3779B97F4A7C15L ^ low;
+        hash ^= hash >>> 33;
+        hash *= 0xFF51AFD7ED558CCDL;
+        hash ^= hash >>> 33;
+        hash *= 0xC4CEB9FE1A85EC53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
@@ -1,36 +1,146 @@
 package com.ssafy.bablog.security.jwt;
 
+import com.ssafy.bablog.security.repository.RevokedTokenRepository;
+import com.ssafy.bablog.security.repository.mapper.RevokedTokenRow;
+import io.jsonwebtoken.Claims;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
 import java.time.Instant;
-import java.util.Map;
+import java.time.ZoneId;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
 
+/**
+ * 로그아웃/탈퇴로 폐기된 토큰 목록
+ * - 토큰 문자열 대신 128비트 id(jti)를 만료 시각 구간(버킷)별 Set에 보관하고, 만료된 버킷은 통째로 버린다
+ * - 조회는 Bloom filter를 먼저 확인해 폐기되지 않은 토큰(대부분의 요청)은 객체 생성 없이 통과시킨다
+ * - security.revocation.shared-store가 true면 RevokedTokenRepository에도 저장하고, 다른 인스턴스의 폐기분을 주기적으로 받아온다
+ *   (id 커서는 security.revocation.settle-seconds보다 오래된 행까지만 옮겨, 늦게 커밋된 작은 id도 다음 동기화에서 읽는다)
+ */
+@Slf4j
 @Service
 public class TokenBlacklistService {
 
-    private final Map<String, Instant> blacklist = new ConcurrentHashMap<>();
+    private final RevokedTokenRepository revokedTokenRepository;
+    private final boolean sharedStore;
+    private final long bucketSeconds;
+    private final int bloomBits;
+    private final int settleSeconds;
 
-    public void blacklist(String token, Instant expiresAt) {
-        blacklist.put(token, expiresAt);
+    // 키: 만료 시각을 bucketSeconds로 올림한 값. 키 * bucketSeconds 시각이 지나면 버킷 전체가 만료
+    private final ConcurrentSkipListMap<Long, Set<TokenId>> buckets = new ConcurrentSkipListMap<>();
+    private final Object writeLock = new Object();
+    private volatile RevocationBloomFilter bloomFilter;
+    private volatile long lastSyncedId;
+
+    public TokenBlacklistService(RevokedTokenRepository revokedTokenRepository,
+                                 @Value("${security.revocation.shared-store:false}") boolean sharedStore,
+                                 @Value("${security.revocation.bucket-seconds:300}") long bucketSeconds,
+                                 @Value("${security.revocation.bloom-bits:1048576}") int bloomBits,
+                                 @Value("${security.revocation.settle-seconds:30}") int settleSeconds) {
+        this.revokedTokenRepository = revokedTokenRepository;
+        this.sharedStore = sharedStore;
+        this.bucketSeconds = bucketSeconds;
+        this.bloomBits = bloomBits;
+        this.settleSeconds = settleSeconds;
+        this.bloomFilter = new RevocationBloomFilter(bloomBits);
     }
 
-    public boolean isBlacklisted(String token) {
-        Instant expiresAt = blacklist.get(token);
-        if (expiresAt == null) {
-            return false;
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        sync();
+    }
+
+    public void revoke(String token, Claims claims) {
+        TokenId tokenId = TokenId.of(token, claims.getId());
+        Instant expiresAt = claims.getExpiration().toInstant();
+        addLocal(tokenId, expiresAt);
+        if (sharedStore) {
+            revokedTokenRepository.save(tokenId.high(), tokenId.low(), expiresAt);
         }
-        if (expiresAt.isBefore(Instant.now())) {
-            blacklist.remove(token);
+    }
+
+    /**
+     * 서명 검증이 끝난 토큰의 폐기 여부
+     */
+    public boolean isRevoked(String token, Claims claims) {
+        String jti = claims.getId();
+        long high;
+        long low;
+        if (TokenId.isUuid(jti)) {
+            high = TokenId.uuidHigh(jti);
+            low = TokenId.uuidLow(jti);
+        } else {
+            TokenId digest = TokenId.digest(token);
+            high = digest.high();
+            low = digest.low();
+        }
+        if (!bloomFilter.mightContain(high, low)) {
             return false;
         }
-        return true;
+        Set<TokenId> bucket = buckets.get(bucketOf(claims.getExpiration().toInstant()));
+        return bucket != null && bucket.contains(new TokenId(high, low));
+    }
+
+    @Scheduled(fixedDelayString = "${security.revocation.sync-ms:5000}", initialDelayString = "${security.revocation.sync-ms:5000}")
+    public synchronized void sync() {
+        if (!sharedStore) {
+            return;
+        }
+        // 최근 settleSeconds 안의 행은 커서를 넘기지 않고 다음 동기화에서 다시 읽는다 (추가는 중복이어도 무해)
+        long cursor = lastSyncedId;
+        boolean advancing = true;
+        for (RevokedTokenRow row : revokedTokenRepository.findActiveAfter(cursor, settleSeconds)) {
+            addLocal(new TokenId(row.getTokenIdHigh(), row.getTokenIdLow()),
+                    row.getExpiresAt().atZone(ZoneId.systemDefault()).toInstant());
+            if (advancing && row.isSettled()) {
+                cursor = row.getId();
+            } else {
+                advancing = false;
+            }
+        }
+        lastSyncedId = cursor;
     }
 
     @Scheduled(fixedDelay = 300_000)
     public void evictExpired() {
-        Instant now = Instant.now();
-        blacklist.entrySet().removeIf(entry -> entry.getValue().isBefore(now));
+        long expiredUpTo = Math.floorDiv(Instant.now().getEpochSecond(), bucketSeconds);
+        synchronized (writeLock) {
+            var expired = buckets.headMap(expiredUpTo, true);
+            if (!expired.isEmpty()) {
+                expired.clear();
+                RevocationBloomFilter rebuilt = new RevocationBloomFilter(bloomBits);
+                for (Set<TokenId> bucket : buckets.values()) {
+                    for (TokenId tokenId : bucket) {
+                        rebuilt.add(tokenId.high(), tokenId.low());
+                    }
+                }
+                bloomFilter = rebuilt;
+            }
+        }
+        if (sharedStore) {
+            int deleted = revokedTokenRepository.deleteExpired();
+            if (deleted > 0) {
+                log.debug("Deleted {} expired revoked tokens", deleted);
+            }
+        }
+    }
+
+    private void addLocal(TokenId tokenId, Instant expiresAt) {
+        long bucket = bucketOf(expiresAt);
+        synchronized (writeLock) {
+            buckets.computeIfAbsent(bucket, key -> ConcurrentHashMap.newKeySet()).add(tokenId);
+            bloomFilter.add(tokenId.high(), tokenId.low());
+        }
+    }
+
+    private long bucketOf(Instant expiresAt) {
+        return Math.floorDiv(expiresAt.getEpochSecond() + bucketSeconds - 1, bucketSeconds);
     }
 }
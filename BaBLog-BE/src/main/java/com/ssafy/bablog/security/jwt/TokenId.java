@@ -0,0 +1,75 @@
+package com.ssafy.bablog.security.jwt;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * 폐기 목록에 저장하는 128비트 토큰 식별자.
+ * jti(UUID)가 있으면 그대로 두 long으로 쓰고, jti가 없는 이전 형식 토큰은 토큰 문자열 SHA-256의 앞 128비트를 쓴다.
+ */
+record TokenId(long high, long low) {
+
+    private static final int UUID_LENGTH = 36;
+
+    static TokenId of(String token, String jti) {
+        if (isUuid(jti)) {
+            return new TokenId(uuidHigh(jti), uuidLow(jti));
+        }
+        return digest(token);
+    }
+
+    static TokenId digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return new TokenId(toLong(hash, 0), toLong(hash, 8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    /**
+     * "xxxxxxxx-xxxx-xxxx-xxxx-xxxxxxxxxxxx" 형식 여부
+     */
+    static boolean isUuid(String value) {
+        if (value == null || value.length() != UUID_LENGTH) {
+            return false;
+        }
+        for (int i = 0; i < UUID_LENGTH; i++) {
+            char c = value.charAt(i);
+            boolean dash = i == 8 || i == 13 || i == 18 || i == 23;
+            if (dash ? c != '-' : Character.digit(c, 16) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // 객체 생성 없이 UUID 문자열의 상위/하위 64비트를 읽는다
+    static long uuidHigh(String uuid) {
+        return parseHex(uuid, 0, 18);
+    }
+
+    static long uuidLow(String uuid) {
+        return parseHex(uuid, 19, UUID_LENGTH);
+    }
+
+    private static long parseHex(String value, int from, int to) {
+        long result = 0;
+        for (int i = from; i < to; i++) {
+            char c = value.charAt(i);
+            if (c != '-') {
+                result = (result << 4) | Character.digit(c, 16);
+            }
+        }
+        return result;
+    }
+
+    private static long toLong(byte[] bytes, int offset) {
+        long result = 0;
+        for (int i = offset; i < offset + 8; i++) {
+            result = (result << 8) | (bytes[i] & 0xFF);
+        }
+        return result;
+    }
+}
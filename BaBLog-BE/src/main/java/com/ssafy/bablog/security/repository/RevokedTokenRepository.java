@@ -0,0 +1,22 @@
+package com.ssafy.bablog.security.repository;
+
+import com.ssafy.bablog.security.repository.mapper.RevokedTokenRow;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * 인스턴스 간 공유되는 토큰 폐기 저장소. 기본 구현은 revoked_token 테이블이며,
+ * 다른 저장소(Redis 등)를 쓰려면 이 인터페이스의 빈을 교체한다.
+ */
+public interface RevokedTokenRepository {
+    void save(long tokenIdHigh, long tokenIdLow, Instant expiresAt);
+
+    /**
+     * afterId 이후 저장된 만료 전 폐기 목록 (id 오름차순).
+     * 각 행의 settled는 settleSeconds보다 먼저 저장되었는지 여부로, 호출 측은 settled 행까지만 커서를 옮긴다.
+     */
+    List<RevokedTokenRow> findActiveAfter(long afterId, int settleSeconds);
+
+    int deleteExpired();
+}
@@ -0,0 +1,33 @@
+package com.ssafy.bablog.security.repository;
+
+import com.ssafy.bablog.security.repository.mapper.RevokedTokenMapper;
+import com.ssafy.bablog.security.repository.mapper.RevokedTokenRow;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class RevokedTokenRepositoryImpl implements RevokedTokenRepository {
+
+    private final RevokedTokenMapper revokedTokenMapper;
+
+    @Override
+    public void save(long tokenIdHigh, long tokenIdLow, Instant expiresAt) {
+        revokedTokenMapper.insertIgnore(tokenIdHigh, tokenIdLow, LocalDateTime.ofInstant(expiresAt, ZoneId.systemDefault()));
+    }
+
+    @Override
+    public List<RevokedTokenRow> findActiveAfter(long afterId, int settleSeconds) {
+        return revokedTokenMapper.findActiveAfter(afterId, settleSeconds, LocalDateTime.now());
+    }
+
+    @Override
+    public int deleteExpired() {
+        return revokedTokenMapper.deleteExpired(LocalDateTime.now());
+    }
+}
@@ -0,0 +1,20 @@
+package com.ssafy.bablog.security.repository.mapper;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Mapper
+public interface RevokedTokenMapper {
+    int insertIgnore(@Param("tokenIdHigh") long tokenIdHigh,
+                     @Param("tokenIdLow") long tokenIdLow,
+                     @Param("expiresAt") LocalDateTime expiresAt);
+
+    List<RevokedTokenRow> findActiveAfter(@Param("afterId") long afterId,
+                                          @Param("settleSeconds") int settleSeconds,
+                                          @Param("now") LocalDateTime now);
+
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
@@ -0,0 +1,17 @@
+package com.ssafy.bablog.security.repository.mapper;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+public class RevokedTokenRow {
+    private Long id;
+    private Long tokenIdHigh;
+    private Long tokenIdLow;
+    private LocalDateTime expiresAt;
+    // created_at이 settleSeconds보다 오래되어 앞쪽 id가 모두 커밋되었다고 볼 수 있는 행
+    private boolean settled;
+}
@@ -62,6 +62,25 @@ CREATE TABLE `meal_log` (
   `updated_at` datetime DEFAULT (CURRENT_TIMESTAMP)
 );
 
+CREATE TABLE `member_daily_nutrition` (
+  `member_id` bigint NOT NULL,
+  `target_date` date NOT NULL,
+  `kcal` decimal(8,2),
+  `protein` decimal(8,2),
+  `fat` decimal(8,2),
+  `saturated_fat` decimal(8,2),
+  `trans_fat` decimal(8,2),
+  `carbohydrates` decimal(8,2),
+  `sugar` decimal(8,2),
+  `natrium` decimal(10,2),
+  `cholesterol` decimal(8,2),
+  `created_at` datetime DEFAULT (CURRENT_TIMESTAMP),
+  `updated_at` datetime DEFAULT (CURRENT_TIMESTAMP),
+  PRIMARY KEY (`member_id`, `target_date`)
+);
+
+-- 기존 데이터베이스는 배포 전에 member_daily_nutrition_backfill.sql을 실행해 과거 일자 합계를 채운다
+
 CREATE TABLE `meal` (
   `id` bigint PRIMARY KEY AUTO_INCREMENT,
   `member_id` bigint NOT NULL,
@@ -167,6 +186,46 @@ CREATE TABLE `weekly_report` (
   `updated_at` datetime DEFAULT (CURRENT_TIMESTAMP)
 );
 
+CREATE TABLE `report_insight_cache` (
+  `cache_key` char(64) PRIMARY KEY,
+  `report_type` varchar(20) NOT NULL,
+  `prompt_version` varchar(64) NOT NULL,
+  `result_json` text NOT NULL,
+  `expires_at` datetime NOT NULL,
+  `created_at` datetime DEFAULT (CURRENT_TIMESTAMP)
+);
+
+CREATE TABLE `food_popularity` (
+  `food_id` bigint PRIMARY KEY,
+  `use_count` bigint NOT NULL DEFAULT 0,
+  `last_used_at` datetime,
+  `updated_at` datetime DEFAULT (CURRENT_TIMESTAMP)
+);
+
+CREATE TABLE `member_food_frequency` (
+  `member_id` bigint NOT NULL,
+  `food_id` bigint NOT NULL,
+  `use_count` bigint NOT NULL DEFAULT 0,
+  `last_used_at` datetime,
+  PRIMARY KEY (`member_id`, `food_id`)
+);
+
+CREATE TABLE `food_popularity_checkpoint` (
+  `id` int PRIMARY KEY,
+  `last_meal_food_id` bigint NOT NULL DEFAULT 0,
+  `updated_at` datetime DEFAULT (CURRENT_TIMESTAMP)
+);
+
+INSERT INTO `food_popularity_checkpoint` (`id`, `last_meal_food_id`) VALUES (1, 0);
+
+CREATE TABLE `revoked_token` (
+  `id` bigint PRIMARY KEY AUTO_INCREMENT,
+  `token_id_high` bigint NOT NULL,
+  `token_id_low` bigint NOT NULL,
+  `expires_at` datetime NOT NULL,
+  `created_at` datetime DEFAULT (CURRENT_TIMESTAMP)
+);
+
 CREATE UNIQUE INDEX `idx_member_email` ON `member` (`email`);
 
 CREATE INDEX `idx_meal_log_member_logged_at` ON `meal_log` (`member_id`, `logged_at`);
@@ -195,12 +254,23 @@ CREATE UNIQUE INDEX `idx_daily_report_member_report_date` ON `daily_report` (`me
 
 CREATE UNIQUE INDEX `idx_weekly_report_member_period` ON `weekly_report` (`member_id`, `start_date`, `end_date`);
 
+CREATE INDEX `idx_food_popularity_use_count` ON `food_popularity` (`use_count`);
+
+CREATE INDEX `idx_member_food_frequency_member_count` ON `member_food_frequency` (`member_id`, `use_count`);
+
+CREATE INDEX `idx_report_insight_cache_expires_at` ON `report_insight_cache` (`expires_at`);
+
+CREATE UNIQUE INDEX `idx_revoked_token_token_id` ON `revoked_token` (`token_id_high`, `token_id_low`);
+
+CREATE INDEX `idx_revoked_token_expires_at` ON `revoked_token` (`expires_at`);
+
 CREATE UNIQUE INDEX `idx_member_nutrient_daily_member_date` ON `member_nutrient_daily` (`member_id`, `target_date`);
 
 ALTER TABLE `member_nutrient` ADD FOREIGN KEY (`member_id`) REFERENCES `member` (`id`);
 ALTER TABLE `member_nutrient_daily` ADD FOREIGN KEY (`member_id`) REFERENCES `member` (`id`);
 
 ALTER TABLE `meal_log` ADD FOREIGN KEY (`member_id`) REFERENCES `member` (`id`);
+ALTER TABLE `member_daily_nutrition` ADD FOREIGN KEY (`member_id`) REFERENCES `member` (`id`);
 
 ALTER TABLE `meal` ADD FOREIGN KEY (`member_id`) REFERENCES `member` (`id`);
 
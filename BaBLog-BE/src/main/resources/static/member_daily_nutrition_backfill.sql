@@ -0,0 +1,26 @@
+-- member_daily_nutrition 이관/재계산
+-- 일간/기간 합계 조회(findDailyTotal, findDailyTotalsInRange)는 이 테이블만 읽으므로,
+-- 테이블을 새로 만든 기존 데이터베이스는 애플리케이션 배포 전에 반드시 실행한다. 그렇지 않으면 과거 일자가 0으로 조회된다.
+-- meal_log(끼니별 값) 합계로 덮어쓰므로 여러 번 실행해도 결과가 같고, 롤업이 어긋났을 때 다시 맞추는 용도로도 쓴다.
+-- 회원 수가 많으면 member_id 구간을 나눠 실행한다 (예: WHERE member_id BETWEEN 1 AND 100000 AND ...).
+
+INSERT INTO `member_daily_nutrition` (
+  `member_id`, `target_date`, `kcal`, `protein`, `fat`, `saturated_fat`, `trans_fat`,
+  `carbohydrates`, `sugar`, `natrium`, `cholesterol`
+)
+SELECT `member_id`, DATE(`logged_at`), SUM(`kcal`), SUM(`protein`), SUM(`fat`), SUM(`saturated_fat`), SUM(`trans_fat`),
+       SUM(`carbohydrates`), SUM(`sugar`), SUM(`natrium`), SUM(`cholesterol`)
+FROM `meal_log`
+WHERE `logged_at` IS NOT NULL
+GROUP BY `member_id`, DATE(`logged_at`)
+ON DUPLICATE KEY UPDATE
+  `kcal` = VALUES(`kcal`),
+  `protein` = VALUES(`protein`),
+  `fat` = VALUES(`fat`),
+  `saturated_fat` = VALUES(`saturated_fat`),
+  `trans_fat` = VALUES(`trans_fat`),
+  `carbohydrates` = VALUES(`carbohydrates`),
+  `sugar` = VALUES(`sugar`),
+  `natrium` = VALUES(`natrium`),
+  `cholesterol` = VALUES(`cholesterol`),
+  `updated_at` = CURRENT_TIMESTAMP;
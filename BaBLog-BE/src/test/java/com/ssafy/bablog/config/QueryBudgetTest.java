@@ -0,0 +1,199 @@
+package com.ssafy.bablog.config;
+
+import com.ssafy.bablog.meal.controller.dto.AddMealFoodRequest;
+import com.ssafy.bablog.meal.domain.MealType;
+import com.ssafy.bablog.meal.service.MealService;
+import com.ssafy.bablog.member.controller.dto.SignupRequest;
+import com.ssafy.bablog.member.domain.Gender;
+import com.ssafy.bablog.member.domain.Member;
+import com.ssafy.bablog.member.repository.MemberRepository;
+import com.ssafy.bablog.member.service.MemberService;
+import com.ssafy.bablog.report.service.ReportAiService;
+import com.ssafy.bablog.report.service.dto.AiDailyReportResult;
+import com.ssafy.bablog.report.service.dto.AiWeeklyReportResult;
+import com.ssafy.bablog.security.MemberPrincipal;
+import com.ssafy.bablog.security.jwt.JwtTokenProvider;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 주요 조회/리포트 API가 요청 1건에 실행하는 MyBatis 문장 수 상한.
+ * 회원 캐시·목표 캐시·AI 인사이트 캐시가 채워진 상태(같은 요청 1회 선행)를 기준으로 센다.
+ * 상한을 넘거나 같은 문장이 반복되면(N+1) 실패하므로, 의도한 변경이면 숫자와 주석을 함께 고친다.
+ * 설정된 DB를 사용하며 테스트 데이터는 트랜잭션 롤백으로 지운다. 스키마가 올라간 MySQL과 BE application.yml이 있어야 하므로
+ * 기본 단위 테스트와 달리 DB가 있는 로컬/CI에서 {@code mvn -f BaBLog-BE/pom.xml test -Dtest=QueryBudgetTest}로 돌린다.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@Transactional
+class QueryBudgetTest {
+
+    // 수요일. 주간 리포트는 2024-01-15(월) ~ 2024-01-21(일)
+    private static final LocalDate DATE = LocalDate.of(2024, 1, 17);
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private MemberService memberService;
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private MealService mealService;
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @MockitoBean
+    private ReportAiService reportAiService;
+
+    private String authorization;
+
+    @BeforeEach
+    void setUp() {
+        String email = "budget-" + UUID.randomUUID() + "@bablog.test";
+        memberService.signup(new SignupRequest(email, "password123", "예산테스트", Gender.FEMALE,
+                LocalDate.of(1995, 5, 5), new BigDecimal("165.0"), new BigDecimal("55.0")));
+        Member member = memberRepository.findByEmail(email).orElseThrow();
+        authorization = "Bearer " + jwtTokenProvider.generateToken(MemberPrincipal.from(member));
+
+        Long foodId = insertFood();
+        mealService.addFoodToMeal(member.getId(),
+                new AddMealFoodRequest(MealType.LUNCH, DATE, foodId, new BigDecimal("150"), "g"));
+
+        given(reportAiService.promptVersion()).willReturn("budget-test");
+        given(reportAiService.generateDailyInsight(anyMap(), eq(AiDailyReportResult.class))).willReturn(dailyResult());
+        given(reportAiService.generateWeeklyInsight(anyMap(), eq(AiWeeklyReportResult.class))).willReturn(weeklyResult());
+    }
+
+    @Test
+    void mealSummary() throws Exception {
+        // meal 조회 + meal_food(음식 포함) 조회. 목표는 캐시
+        QueryCounter.Scope scope = measure(HttpMethod.GET, "/meals/summary");
+
+        scope.assertAtMost(2);
+        scope.assertNoRepeatsOver(1);
+    }
+
+    @Test
+    void generateDailyReport() throws Exception {
+        // member + 일별 합계 + meal + meal_food + meal_log + daily_report upsert
+        QueryCounter.Scope scope = measure(HttpMethod.POST, "/reports/daily");
+
+        scope.assertAtMost(6);
+        scope.assertNoRepeatsOver(1);
+    }
+
+    @Test
+    void generateWeeklyReport() throws Exception {
+        // member + 저장된 daily_report metrics 기간 조회 + (일간 리포트 없는 날) 일별 합계 기간 조회
+        // + meal·meal_food·meal_log 기간 조회 + weekly_report upsert + 응답용 일별 점수 조회.
+        // 목표는 기간 조회 캐시. 날짜마다 도는 조회가 없으므로 같은 문장은 1번만 나온다
+        QueryCounter.Scope scope = measure(HttpMethod.POST, "/reports/weekly");
+
+        scope.assertAtMost(8);
+        scope.assertNoRepeatsOver(1);
+    }
+
+    @Test
+    void getDailyReport() throws Exception {
+        perform(HttpMethod.POST, "/reports/daily");
+
+        // daily_report 조회
+        QueryCounter.Scope scope = measure(HttpMethod.GET, "/reports/daily");
+
+        scope.assertAtMost(1);
+    }
+
+    @Test
+    void getWeeklyReport() throws Exception {
+        perform(HttpMethod.POST, "/reports/weekly");
+
+        // weekly_report 조회 + 응답용 일별 점수 조회
+        QueryCounter.Scope scope = measure(HttpMethod.GET, "/reports/weekly");
+
+        scope.assertAtMost(2);
+        scope.assertNoRepeatsOver(1);
+    }
+
+    /**
+     * 같은 요청을 한 번 보내 캐시를 채운 뒤, 두 번째 요청에서 실행된 문장 수를 돌려준다
+     */
+    private QueryCounter.Scope measure(HttpMethod method, String path) throws Exception {
+        perform(method, path);
+        try (QueryCounter.Scope scope = QueryCounter.open()) {
+            perform(method, path);
+            return scope;
+        }
+    }
+
+    private void perform(HttpMethod method, String path) throws Exception {
+        mockMvc.perform(request(method, path)
+                        .header(HttpHeaders.AUTHORIZATION, authorization)
+                        .param("date", DATE.toString()))
+                .andExpect(status().isOk());
+    }
+
+    private Long insertFood() {
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.update(connection -> connection.prepareStatement(
+                "INSERT INTO food (standard, name, kcal, protein, fat, saturated_fat, trans_fat, carbohydrates, "
+                        + "sugar, natrium, cholesterol, food_weight, vendor) "
+                        + "VALUES (100, '예산테스트 현미밥', 150, 3.5, 1.2, 0.3, 0, 32, 0.5, 5, 0, 210, NULL)",
+                Statement.RETURN_GENERATED_KEYS), keyHolder);
+        return keyHolder.getKey().longValue();
+    }
+
+    private static AiDailyReportResult dailyResult() {
+        AiDailyReportResult result = new AiDailyReportResult();
+        result.setScore(80);
+        result.setGrade("우수");
+        result.setSummary("테스트 요약");
+        result.setHighlights(List.of());
+        result.setImprovements(List.of());
+        result.setRecommendations(List.of());
+        result.setRiskFlags(List.of());
+        result.setNutrientScores(Map.of());
+        return result;
+    }
+
+    private static AiWeeklyReportResult weeklyResult() {
+        AiWeeklyReportResult result = new AiWeeklyReportResult();
+        result.setScore(75);
+        result.setGrade("보통");
+        result.setConsistencyScore(70);
+        result.setSummary("테스트 요약");
+        result.setBestDay(DATE.toString());
+        result.setWorstDay(DATE.toString());
+        result.setHighlights(List.of());
+        result.setImprovements(List.of());
+        result.setRecommendations(List.of());
+        result.setRiskFlags(List.of());
+        result.setTrend(Map.of());
+        return result;
+    }
+}
@@ -0,0 +1,114 @@
+package com.ssafy.bablog.food.service;
+
+import com.ssafy.bablog.food.domain.Food;
+import com.ssafy.bablog.food.repository.FoodPopularityRepository;
+import com.ssafy.bablog.food.repository.FoodRepository;
+import com.ssafy.bablog.food.repository.mapper.FoodUsageCount;
+import com.ssafy.bablog.food.service.FoodAutocompleteIndex.Suggestion;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.lang.reflect.Proxy;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FoodAutocompleteIndexTest {
+
+    private static final LocalDateTime LOADED_AT = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+    private final List<Food> foods = new ArrayList<>();
+    private final List<Food> changed = new ArrayList<>();
+    private FoodAutocompleteIndex index;
+
+    @BeforeEach
+    void setUp() {
+        foods.add(food(1L, "닭가슴살 샐러드", LOADED_AT));
+        foods.add(food(2L, "닭갈비", LOADED_AT));
+        foods.add(food(3L, "된장국", LOADED_AT));
+        foods.add(food(4L, "단호박", LOADED_AT));
+
+        FoodRepository foodRepository = stub(FoodRepository.class, Map.of(
+                "findIndexEntriesUpdatedSince", args -> args[0] == null ? foods : changed));
+        List<FoodUsageCount> counts = List.of(usage(1L, 100), usage(4L, 5));
+        FoodPopularityRepository popularityRepository = stub(FoodPopularityRepository.class, Map.of(
+                "findGlobalCounts", args -> counts));
+        FoodPopularityService popularityService =
+                new FoodPopularityService(popularityRepository, new FoodCache(foodRepository, 16));
+        popularityService.load();
+        index = new FoodAutocompleteIndex(foodRepository, popularityRepository, popularityService);
+        ReflectionTestUtils.setField(index, "enabled", true);
+        ReflectionTestUtils.setField(index, "maxPending", 100);
+        index.load();
+    }
+
+    @Test
+    void chosungQueryMatchesInitialConsonants() {
+        assertThat(ids(index.suggest("ㄷㄱ", 10))).containsExactly(1L, 2L);
+        assertThat(ids(index.suggest("ㄷ ㄱ ㅂ", 10))).containsExactly(2L);
+        assertThat(ids(index.suggest("ㅎㅂ", 10))).isEmpty();
+    }
+
+    @Test
+    void laterWordsAreMatchedToo() {
+        assertThat(ids(index.suggest("ㅅㄹ", 10))).containsExactly(1L);
+        assertThat(ids(index.suggest("샐", 10))).containsExactly(1L);
+    }
+
+    @Test
+    void partialSyllableMatchesByJamoPrefix() {
+        // "닭가"는 "닭갈"을 입력하는 중일 수도 있다
+        assertThat(ids(index.suggest("닭가", 10))).containsExactly(1L, 2L);
+        assertThat(ids(index.suggest("닭갈", 10))).containsExactly(2L);
+        assertThat(ids(index.suggest("ㄷ", 2))).containsExactly(1L, 4L);
+    }
+
+    @Test
+    void refreshOverlaysChangedFoods() {
+        changed.add(food(2L, "소갈비", LOADED_AT.plusMinutes(1)));
+        changed.add(food(5L, "닭강정 구이", LOADED_AT.plusMinutes(1)));
+
+        index.refresh();
+
+        assertThat(index.suggest("ㄷㄱ", 10)).extracting(Suggestion::name).containsExactly("닭가슴살 샐러드", "닭강정 구이");
+        assertThat(ids(index.suggest("ㅅㄱ", 10))).containsExactly(2L);
+        assertThat(ids(index.suggest("ㄱㅇ", 10))).containsExactly(5L);
+    }
+
+    private static List<Long> ids(List<Suggestion> suggestions) {
+        return suggestions.stream().map(Suggestion::id).toList();
+    }
+
+    private static Food food(Long id, String name, LocalDateTime updatedAt) {
+        return Food.builder().id(id).name(name).updatedAt(updatedAt).build();
+    }
+
+    private static FoodUsageCount usage(Long foodId, long count) {
+        FoodUsageCount usage = new FoodUsageCount();
+        usage.setFoodId(foodId);
+        usage.setUsageCount(count);
+        return usage;
+    }
+
+    /**
+     * answers에 있는 메서드만 응답하고 나머지는 빈 값을 돌려주는 리포지토리 대역
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> T stub(Class<T> type, Map<String, Function<Object[], Object>> answers) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+            Function<Object[], Object> answer = answers.get(method.getName());
+            if (answer != null) {
+                return answer.apply(args);
+            }
+            if (method.getReturnType() == List.class) {
+                return List.of();
+            }
+            return method.getReturnType() == long.class ? 0L : null;
+        });
+    }
+}
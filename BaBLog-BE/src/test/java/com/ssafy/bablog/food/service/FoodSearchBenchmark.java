@@ -0,0 +1,127 @@
+package com.ssafy.bablog.food.service;
+
+import com.ssafy.bablog.food.domain.Food;
+import com.ssafy.bablog.food.repository.FoodPopularityRepository;
+import com.ssafy.bablog.food.repository.FoodRepository;
+import com.ssafy.bablog.food.repository.mapper.FoodUsageCount;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.lang.reflect.Proxy;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * 음식 50만 건 색인에서 검색 1회(페이지 1개) 지연 시간.
+ * 1글자/2글자/긴 키워드와 첫 페이지/뒤쪽 페이지, 이름+제조사 조건을 나눠 측정한다.
+ * 호출마다 시간을 표본으로 모으는 SampleTime 모드이며, 평균 대신 꼬리 지연인 p0.99 행
+ * (JSON 결과에서는 primaryMetric.scorePercentiles["99.0"])을 기준으로 비교한다.
+ * 실행: mvn -f BaBLog-BE/pom.xml test-compile exec:exec -Dexec.executable=java -Dexec.classpathScope=test
+ *       -Dexec.args="-cp %classpath org.openjdk.jmh.Main FoodSearchBenchmark -rf json -rff target/food-search.json"
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgs = "-Xmx2g")
+@State(Scope.Benchmark)
+public class FoodSearchBenchmark {
+
+    private static final long SEED = 20240101L;
+    private static final int PAGE_SIZE = 20;
+
+    private static final String[] BASES = {
+            "현미밥", "닭가슴살 샐러드", "김치찌개", "된장국", "고등어구이", "계란말이", "불고기", "비빔밥",
+            "잡채", "두부조림", "시금치나물", "떡볶이", "라면", "바나나", "우유", "아메리카노"
+    };
+    private static final String[] MODIFIERS = {"", "매운 ", "순한 ", "저당 ", "곱빼기 ", "미니 ", "수제 ", "냉동 "};
+    private static final String[] VENDORS = {"오뚜기", "cj제일제당", "풀무원", "동원", "농심", "대상", "hy", "빙그레"};
+
+    @Param("500000")
+    public int foodCount;
+
+    @Param({"밥", "김치", "닭가슴살"})
+    public String keyword;
+
+    @Param({"0", "20"})
+    public int page;
+
+    private FoodSearchIndex index;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(SEED);
+        List<Food> foods = new ArrayList<>(foodCount);
+        List<FoodUsageCount> counts = new ArrayList<>();
+        LocalDateTime updatedAt = LocalDateTime.of(2024, 1, 1, 0, 0);
+        for (int i = 0; i < foodCount; i++) {
+            long id = i + 1L;
+            foods.add(Food.builder()
+                    .id(id)
+                    .name(MODIFIERS[random.nextInt(MODIFIERS.length)] + BASES[random.nextInt(BASES.length)] + " " + i)
+                    .vendor(i % 3 == 0 ? null : VENDORS[random.nextInt(VENDORS.length)])
+                    .updatedAt(updatedAt)
+                    .build());
+            // 사용 횟수는 일부 음식에 몰리도록 지수 분포에 가깝게 준다
+            if (random.nextInt(10) == 0) {
+                FoodUsageCount count = new FoodUsageCount();
+                count.setFoodId(id);
+                count.setUsageCount(1L << random.nextInt(16));
+                counts.add(count);
+            }
+        }
+
+        FoodRepository foodRepository = stub(FoodRepository.class, Map.of(
+                "findIndexEntriesUpdatedSince", args -> args[0] == null ? foods : List.of()));
+        FoodPopularityRepository popularityRepository = stub(FoodPopularityRepository.class, Map.of(
+                "findGlobalCounts", args -> counts));
+        FoodCache foodCache = new FoodCache(foodRepository, 16);
+        FoodPopularityService popularityService = new FoodPopularityService(popularityRepository, foodCache);
+        popularityService.load();
+        index = new FoodSearchIndex(foodRepository, popularityService, foodCache);
+        ReflectionTestUtils.setField(index, "enabled", true);
+        index.load();
+    }
+
+    @Benchmark
+    public List<Long> searchByName() {
+        return index.search(keyword, null, page, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public List<Long> searchByNameAndVendor() {
+        return index.search(keyword, "오뚜기", page, PAGE_SIZE);
+    }
+
+    /**
+     * answers에 있는 메서드만 응답하고 나머지는 빈 값을 돌려주는 리포지토리 대역
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> T stub(Class<T> type, Map<String, Function<Object[], Object>> answers) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+            Function<Object[], Object> answer = answers.get(method.getName());
+            if (answer != null) {
+                return answer.apply(args);
+            }
+            if (method.getReturnType() == List.class) {
+                return List.of();
+            }
+            return method.getReturnType() == long.class ? 0L : null;
+        });
+    }
+}
@@ -0,0 +1,116 @@
+package com.ssafy.bablog.food.service;
+
+import com.ssafy.bablog.food.domain.Food;
+import com.ssafy.bablog.food.repository.FoodPopularityRepository;
+import com.ssafy.bablog.food.repository.FoodRepository;
+import com.ssafy.bablog.food.repository.mapper.FoodUsageCount;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.lang.reflect.Proxy;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FoodSearchIndexTest {
+
+    private static final LocalDateTime LOADED_AT = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+    private final List<Food> foods = new ArrayList<>();
+    private final List<Food> changed = new ArrayList<>();
+    private FoodSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        foods.add(food(1L, "김치", "종가집", LOADED_AT));
+        foods.add(food(2L, "김치찌개", "오뚜기", LOADED_AT));
+        foods.add(food(3L, "묵은지 김치찜", "오뚜기", LOADED_AT));
+        foods.add(food(4L, "김치볶음밥", "cj제일제당", LOADED_AT));
+        foods.add(food(5L, "김치전", null, LOADED_AT));
+        foods.add(food(6L, "된장국", "오뚜기", LOADED_AT));
+
+        FoodRepository foodRepository = stub(FoodRepository.class, Map.of(
+                "findIndexEntriesUpdatedSince", args -> args[0] == null ? foods : changed));
+        FoodPopularityRepository popularityRepository = stub(FoodPopularityRepository.class, Map.of(
+                "findGlobalCounts", args -> List.of(usage(4L, 300))));
+        FoodCache foodCache = new FoodCache(foodRepository, 16);
+        FoodPopularityService popularityService = new FoodPopularityService(popularityRepository, foodCache);
+        popularityService.load();
+        index = new FoodSearchIndex(foodRepository, popularityService, foodCache);
+        ReflectionTestUtils.setField(index, "enabled", true);
+        index.load();
+    }
+
+    @Test
+    void ranksExactThenPrefixThenContains() {
+        // 같은 일치 단계 안에서는 많이 쓴 음식, 짧은 이름 순
+        assertThat(index.search("김치", null, 0, 10)).containsExactly(1L, 4L, 5L, 2L, 3L);
+    }
+
+    @Test
+    void normalizesWhitespaceAndCase() {
+        assertThat(index.search(" 김치 찜 ", null, 0, 10)).containsExactly(3L);
+        assertThat(index.search(null, "CJ", 0, 10)).containsExactly(4L);
+    }
+
+    @Test
+    void pagesOverRankedResults() {
+        assertThat(index.search("김치", null, 0, 2)).containsExactly(1L, 4L);
+        assertThat(index.search("김치", null, 1, 2)).containsExactly(5L, 2L);
+        assertThat(index.search("김치", null, 2, 2)).containsExactly(3L);
+        assertThat(index.search("김치", null, 3, 2)).isEmpty();
+        assertThat(index.search("김치", null, 0, 0)).isEmpty();
+    }
+
+    @Test
+    void filtersByVendorWithinNameMatches() {
+        assertThat(index.search("김치", "오뚜기", 0, 10)).containsExactly(2L, 3L);
+        // 제조사만으로 찾으면 제조사 일치 단계가 같으므로 이름이 짧은 순
+        assertThat(index.search(null, "오뚜기", 0, 10)).containsExactly(6L, 2L, 3L);
+        assertThat(index.search("없는음식", null, 0, 10)).isEmpty();
+    }
+
+    @Test
+    void refreshReindexesChangedFoods() {
+        changed.add(food(2L, "부대찌개", "오뚜기", LOADED_AT.plusMinutes(1)));
+        changed.add(food(7L, "김치만두", "비비고", LOADED_AT.plusMinutes(1)));
+
+        index.refresh();
+
+        assertThat(index.search("김치", null, 0, 10)).containsExactly(1L, 4L, 5L, 7L, 3L);
+        assertThat(index.search("찌개", null, 0, 10)).containsExactly(2L);
+    }
+
+    private static Food food(Long id, String name, String vendor, LocalDateTime updatedAt) {
+        return Food.builder().id(id).name(name).vendor(vendor).updatedAt(updatedAt).build();
+    }
+
+    private static FoodUsageCount usage(Long foodId, long count) {
+        FoodUsageCount usage = new FoodUsageCount();
+        usage.setFoodId(foodId);
+        usage.setUsageCount(count);
+        return usage;
+    }
+
+    /**
+     * answers에 있는 메서드만 응답하고 나머지는 빈 값을 돌려주는 리포지토리 대역
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> T stub(Class<T> type, Map<String, Function<Object[], Object>> answers) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+            Function<Object[], Object> answer = answers.get(method.getName());
+            if (answer != null) {
+                return answer.apply(args);
+            }
+            if (method.getReturnType() == List.class) {
+                return List.of();
+            }
+            return method.getReturnType() == long.class ? 0L : null;
+        });
+    }
+}
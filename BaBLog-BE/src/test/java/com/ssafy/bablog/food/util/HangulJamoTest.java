@@ -0,0 +1,47 @@
+package com.ssafy.bablog.food.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HangulJamoTest {
+
+    @Test
+    void decomposeSplitsSyllablesAndCompoundJamo() {
+        assertThat(HangulJamo.decompose("닭가슴살")).isEqualTo("ㄷㅏㄹㄱㄱㅏㅅㅡㅁㅅㅏㄹ");
+        assertThat(HangulJamo.decompose("과 자")).isEqualTo("ㄱㅗㅏㅈㅏ");
+        // 입력 중인 겹받침/겹모음도 같은 자모 열로 맞춘다
+        assertThat(HangulJamo.decompose("닭")).startsWith(HangulJamo.decompose("달") + "ㄱ");
+        assertThat(HangulJamo.decompose("ㄺ")).isEqualTo("ㄹㄱ");
+        assertThat(HangulJamo.decompose("Cola 1")).isEqualTo("cola1");
+        assertThat(HangulJamo.decompose(null)).isEmpty();
+    }
+
+    @Test
+    void partialInputIsPrefixOfFullSyllables() {
+        String full = HangulJamo.decompose("닭갈비");
+
+        assertThat(full).startsWith(HangulJamo.decompose("닭가"));
+        assertThat(full).startsWith(HangulJamo.decompose("닭갈ㅂ"));
+        assertThat(full).doesNotStartWith(HangulJamo.decompose("닭고"));
+    }
+
+    @Test
+    void chosungKeepsInitialConsonants() {
+        assertThat(HangulJamo.chosung("닭가슴살 샐러드")).isEqualTo("ㄷㄱㅅㅅㅅㄹㄷ");
+        assertThat(HangulJamo.chosung("Cj 김치")).isEqualTo("cjㄱㅊ");
+        assertThat(HangulJamo.chosung(null)).isEmpty();
+    }
+
+    @Test
+    void chosungOnlyRequiresInitialConsonantsOnly() {
+        assertThat(HangulJamo.isChosungOnly("ㄷㄱㅅ")).isTrue();
+        assertThat(HangulJamo.isChosungOnly(" ㄷ ㄱ ")).isTrue();
+        assertThat(HangulJamo.isChosungOnly("ㄷ가")).isFalse();
+        assertThat(HangulJamo.isChosungOnly("ㅏ")).isFalse();
+        // 겹받침 자모는 초성이 아니다
+        assertThat(HangulJamo.isChosungOnly("ㄺ")).isFalse();
+        assertThat(HangulJamo.isChosungOnly("   ")).isFalse();
+        assertThat(HangulJamo.isChosungOnly(null)).isFalse();
+    }
+}
@@ -0,0 +1,103 @@
+package com.ssafy.bablog.report.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssafy.bablog.report.domain.ReportInsightCacheEntry;
+import com.ssafy.bablog.report.repository.ReportInsightCacheRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReportInsightCacheTest {
+
+    // Core ReportInsightCacheTest와 같은 값. 배치가 테이블에 남긴 결과를 BE가 그대로 찾으려면 키 규칙이 같아야 한다.
+    private static final String PINNED_KEY = "80b6719b9720bf5781adfd4d4a34e638907384f348858604d028660d18d857f7";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void keyMatchesCoreRule() {
+        ReportInsightCache cache = new ReportInsightCache(repository(null, List.of()), objectMapper, 100, 24, false);
+
+        assertThat(cache.cacheKey("daily", "p-0123456789abcdef", Map.of("kcal", 1850.50, "date", "2024-01-17"),
+                Map.class)).isEqualTo(PINNED_KEY);
+    }
+
+    @Test
+    void repeatedReportIsServedFromMemory() {
+        List<String> calls = new ArrayList<>();
+        ReportInsightCache cache = new ReportInsightCache(repository(null, calls), objectMapper, 100, 24, false);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        cache.bindTo(registry);
+        AtomicInteger loads = new AtomicInteger();
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(cache.getOrLoad("daily", "p-1", Map.of("kcal", 2000), String.class,
+                    () -> "insight-" + loads.incrementAndGet())).isEqualTo("insight-1");
+        }
+
+        assertThat(loads).hasValue(1);
+        // 테이블 2차 캐시가 꺼져 있으면 조회도 저장도 하지 않는다
+        assertThat(calls).isEmpty();
+        assertThat(registry.get("report.insight.cache.requests").tags("result", "hit", "tier", "memory")
+                .functionCounter().count()).isEqualTo(2);
+        assertThat(registry.get("report.insight.cache.requests").tags("result", "miss")
+                .functionCounter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void tableHitSkipsLoader() throws Exception {
+        ReportInsightCacheEntry stored = ReportInsightCacheEntry.builder()
+                .resultJson(objectMapper.writeValueAsString("from-batch"))
+                .expiresAt(LocalDateTime.now().plusHours(1))
+                .build();
+        ReportInsightCache cache = new ReportInsightCache(repository(stored, new ArrayList<>()), objectMapper, 100, 24, true);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        cache.bindTo(registry);
+
+        assertThat(cache.getOrLoad("daily", "p-1", Map.of("kcal", 2000), String.class, () -> "reloaded"))
+                .isEqualTo("from-batch");
+        assertThat(registry.get("report.insight.cache.requests").tags("result", "hit", "tier", "table")
+                .functionCounter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void tableFailureFallsBackToLoader() {
+        List<String> calls = new ArrayList<>();
+        ReportInsightCacheRepository failing = (ReportInsightCacheRepository) Proxy.newProxyInstance(
+                ReportInsightCacheRepository.class.getClassLoader(), new Class<?>[]{ReportInsightCacheRepository.class},
+                (proxy, method, args) -> {
+                    calls.add(method.getName());
+                    throw new IllegalStateException("db down");
+                });
+        ReportInsightCache cache = new ReportInsightCache(failing, objectMapper, 100, 24, true);
+
+        assertThat(cache.getOrLoad("daily", "p-1", Map.of("kcal", 2000), String.class, () -> "loaded"))
+                .isEqualTo("loaded");
+        assertThat(calls).containsExactly("findValid", "upsert");
+    }
+
+    /**
+     * findValid는 stored를 돌려주고, 호출된 메서드 이름을 calls에 남기는 리포지토리 대역
+     */
+    private static ReportInsightCacheRepository repository(ReportInsightCacheEntry stored, List<String> calls) {
+        return (ReportInsightCacheRepository) Proxy.newProxyInstance(
+                ReportInsightCacheRepository.class.getClassLoader(), new Class<?>[]{ReportInsightCacheRepository.class},
+                (proxy, method, args) -> {
+                    calls.add(method.getName());
+                    return switch (method.getName()) {
+                        case "findValid" -> Optional.ofNullable(stored);
+                        case "deleteExpired" -> 0;
+                        default -> null;
+                    };
+                });
+    }
+}
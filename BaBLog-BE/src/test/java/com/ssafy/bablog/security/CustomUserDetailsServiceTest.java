@@ -0,0 +1,71 @@
+package com.ssafy.bablog.security;
+
+import com.ssafy.bablog.member.domain.Member;
+import com.ssafy.bablog.member.repository.MemberRepository;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CustomUserDetailsServiceTest {
+
+    private final List<Long> lookups = new ArrayList<>();
+
+    @Test
+    void cachedPrincipalSkipsLookupWithinTtl() {
+        CustomUserDetailsService service = new CustomUserDetailsService(stubRepository(), 60_000, 10);
+
+        MemberPrincipal first = service.loadCachedPrincipal(1L);
+        MemberPrincipal second = service.loadCachedPrincipal(1L);
+
+        assertThat(second).isSameAs(first);
+        assertThat(lookups).containsExactly(1L);
+    }
+
+    @Test
+    void fullCacheEvictsLeastRecentlyUsedOnly() {
+        CustomUserDetailsService service = new CustomUserDetailsService(stubRepository(), 60_000, 2);
+        service.loadCachedPrincipal(1L);
+        service.loadCachedPrincipal(2L);
+        // 1번을 다시 써서 2번이 가장 오래 안 쓴 항목이 된다
+        service.loadCachedPrincipal(1L);
+
+        service.loadCachedPrincipal(3L);
+        service.loadCachedPrincipal(1L);
+        service.loadCachedPrincipal(2L);
+
+        // 가득 찼을 때 전부 비우지 않으므로 1번은 다시 조회하지 않는다
+        assertThat(lookups).containsExactly(1L, 2L, 3L, 2L);
+    }
+
+    @Test
+    void missingMemberIsRememberedAsNull() {
+        CustomUserDetailsService service = new CustomUserDetailsService(stubRepository(), 60_000, 10);
+
+        assertThat(service.loadCachedPrincipal(404L)).isNull();
+        assertThat(service.loadCachedPrincipal(404L)).isNull();
+        assertThat(lookups).containsExactly(404L);
+    }
+
+    /**
+     * findById만 응답하는 회원 리포지토리 대역. 404번은 없는 회원
+     */
+    private MemberRepository stubRepository() {
+        return (MemberRepository) Proxy.newProxyInstance(MemberRepository.class.getClassLoader(),
+                new Class<?>[]{MemberRepository.class}, (proxy, method, args) -> {
+                    if (!method.getName().equals("findById")) {
+                        throw new UnsupportedOperationException(method.getName());
+                    }
+                    Long id = (Long) args[0];
+                    lookups.add(id);
+                    if (id == 404L) {
+                        return Optional.empty();
+                    }
+                    return Optional.of(Member.builder().id(id).email("m" + id + "@bablog.test").name("회원" + id).build());
+                });
+    }
+}
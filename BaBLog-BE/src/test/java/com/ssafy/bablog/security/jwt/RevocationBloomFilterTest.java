@@ -0,0 +1,65 @@
+package com.ssafy.bablog.security.jwt;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RevocationBloomFilterTest {
+
+    private static final long SEED = 20240101L;
+
+    @Test
+    void addedIdsAreAlwaysFound() {
+        RevocationBloomFilter filter = new RevocationBloomFilter(1 << 16);
+        Random random = new Random(SEED);
+        long[][] ids = new long[1000][];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = new long[]{random.nextLong(), random.nextLong()};
+            filter.add(ids[i][0], ids[i][1]);
+        }
+
+        for (long[] id : ids) {
+            assertThat(filter.mightContain(id[0], id[1])).isTrue();
+        }
+    }
+
+    @Test
+    void emptyFilterContainsNothing() {
+        RevocationBloomFilter filter = new RevocationBloomFilter(1 << 10);
+
+        assertThat(filter.mightContain(0, 0)).isFalse();
+        assertThat(filter.mightContain(1, 2)).isFalse();
+    }
+
+    @Test
+    void falsePositiveRateStaysLowAtDesignLoad() {
+        // 항목당 16비트, 해시 4개면 이론상 오탐률은 0.3% 정도
+        int entries = 4096;
+        RevocationBloomFilter filter = new RevocationBloomFilter(entries * 16);
+        Random random = new Random(SEED);
+        for (int i = 0; i < entries; i++) {
+            filter.add(random.nextLong(), random.nextLong());
+        }
+
+        int probes = 100_000;
+        int falsePositives = 0;
+        for (int i = 0; i < probes; i++) {
+            if (filter.mightContain(random.nextLong(), random.nextLong())) {
+                falsePositives++;
+            }
+        }
+        assertThat(falsePositives / (double) probes).isLessThan(0.01);
+    }
+
+    @Test
+    void tinySizeStillWorks() {
+        RevocationBloomFilter filter = new RevocationBloomFilter(1);
+        TokenId id = TokenId.digest("token");
+
+        filter.add(id.high(), id.low());
+
+        assertThat(filter.mightContain(id.high(), id.low())).isTrue();
+    }
+}
@@ -0,0 +1,45 @@
+package com.ssafy.bablog.security.jwt;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenIdTest {
+
+    @Test
+    void uuidJtiUsesBothHalves() {
+        UUID uuid = UUID.randomUUID();
+
+        TokenId id = TokenId.of("any.token.value", uuid.toString());
+
+        assertThat(id.high()).isEqualTo(uuid.getMostSignificantBits());
+        assertThat(id.low()).isEqualTo(uuid.getLeastSignificantBits());
+    }
+
+    @Test
+    void uppercaseUuidParsesLikeLowercase() {
+        String jti = "0F1E2D3C-4B5A-6978-8796-A5B4C3D2E1F0";
+
+        assertThat(TokenId.of("token", jti)).isEqualTo(TokenId.of("token", jti.toLowerCase()));
+        assertThat(TokenId.uuidHigh(jti)).isEqualTo(UUID.fromString(jti).getMostSignificantBits());
+        assertThat(TokenId.uuidLow(jti)).isEqualTo(UUID.fromString(jti).getLeastSignificantBits());
+    }
+
+    @Test
+    void rejectsMalformedUuid() {
+        assertThat(TokenId.isUuid("123e4567-e89b-12d3-a456-426614174000")).isTrue();
+        assertThat(TokenId.isUuid(null)).isFalse();
+        assertThat(TokenId.isUuid("123e4567e89b12d3a456426614174000")).isFalse();
+        assertThat(TokenId.isUuid("123e4567-e89b-12d3-a456-42661417400g")).isFalse();
+        assertThat(TokenId.isUuid("123e4567-e89b-12d3-a456_426614174000")).isFalse();
+    }
+
+    @Test
+    void tokenWithoutUuidJtiFallsBackToDigest() {
+        assertThat(TokenId.of("legacy.token", null)).isEqualTo(TokenId.digest("legacy.token"));
+        assertThat(TokenId.of("legacy.token", "not-a-uuid")).isEqualTo(TokenId.digest("legacy.token"));
+        assertThat(TokenId.digest("legacy.token")).isNotEqualTo(TokenId.digest("legacy.token2"));
+    }
+}
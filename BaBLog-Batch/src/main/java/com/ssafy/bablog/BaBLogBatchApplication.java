@@ -16,7 +16,8 @@ import org.springframework.scheduling.annotation.EnableScheduling;
         "com.ssafy.bablog.food.repository.mapper",
         "com.ssafy.bablog.member_nutrient.repository.mapper",
         "com.ssafy.bablog.report.repository.mapper",
-        "com.ssafy.bablog.batch.failure.mapper"
+        "com.ssafy.bablog.batch.failure.mapper",
+        "com.ssafy.bablog.batch.seed.mapper"
 })
 public class BaBLogBatchApplication {
 
@@ -0,0 +1,39 @@
+package com.ssafy.bablog.batch.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 배치 커넥션 풀 크기를 동시 사용량에 맞춰 늘린다.
+ * - 워커(파티션)마다 회원 id 커서가 스텝 내내 커넥션 1개를 점유한다 → grid-size
+ * - 리포트 데이터 조회는 DB 퍼밋만큼 동시에 실행된다 → report.concurrency.db-permits
+ * - 그 외 writer upsert, 스텝 메타데이터, 실패 로그 → batch.datasource.extra-connections
+ * spring.datasource.hikari.* 바인딩이 끝난 뒤, 설정된 maximum-pool-size가 이 합보다 작으면 합으로 올린다. 더 크게 잡은 값은 그대로 둔다.
+ */
+@Component
+public class BatchConnectionPoolSizer implements BeanPostProcessor {
+
+    private static final Logger log = LoggerFactory.getLogger(BatchConnectionPoolSizer.class);
+
+    private final int requiredConnections;
+
+    public BatchConnectionPoolSizer(@Value("${batch.worker.grid-size:8}") int gridSize,
+                                    @Value("${report.concurrency.db-permits:8}") int dbPermits,
+                                    @Value("${batch.datasource.extra-connections:4}") int extraConnections) {
+        this.requiredConnections = gridSize + Math.max(1, dbPermits) + extraConnections;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof HikariDataSource dataSource && dataSource.getMaximumPoolSize() < requiredConnections) {
+            log.info("Raising batch connection pool size from {} to {} (cursors + DB permits + extra)",
+                    dataSource.getMaximumPoolSize(), requiredConnections);
+            dataSource.setMaximumPoolSize(requiredConnections);
+        }
+        return bean;
+    }
+}
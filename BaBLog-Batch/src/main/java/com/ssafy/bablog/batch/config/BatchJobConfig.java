@@ -1,20 +1,35 @@
 package com.ssafy.bablog.batch.config;
 
+import com.ssafy.bablog.batch.listener.MemberSkipFailureListener;
+import com.ssafy.bablog.batch.listener.StepMetricsListener;
 import com.ssafy.bablog.batch.member.MemberIdProvider;
-import com.ssafy.bablog.batch.partition.MemberIdListPartitioner;
+import com.ssafy.bablog.batch.partition.MemberIdRangePartitioner;
+import com.ssafy.bablog.batch.processor.DailyReportItemProcessor;
+import com.ssafy.bablog.batch.processor.PendingReport;
+import com.ssafy.bablog.batch.processor.WeeklyReportItemProcessor;
+import com.ssafy.bablog.batch.reader.MemberIdCursorItemReader;
 import com.ssafy.bablog.batch.tasklet.CreateDailyMealsTasklet;
-import com.ssafy.bablog.batch.tasklet.GenerateDailyReportTasklet;
-import com.ssafy.bablog.batch.tasklet.GenerateWeeklyReportTasklet;
+import com.ssafy.bablog.batch.writer.DailyReportItemWriter;
+import com.ssafy.bablog.batch.writer.WeeklyReportItemWriter;
+import com.ssafy.bablog.report.domain.DailyReport;
+import com.ssafy.bablog.report.domain.WeeklyReport;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.batch.core.Job;
 import org.springframework.batch.core.Step;
 import org.springframework.batch.core.configuration.annotation.EnableBatchProcessing;
+import org.springframework.batch.core.configuration.annotation.StepScope;
 import org.springframework.batch.core.job.builder.JobBuilder;
 import org.springframework.batch.core.partition.support.Partitioner;
 import org.springframework.batch.core.repository.JobRepository;
 import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.core.step.skip.AlwaysSkipItemSkipPolicy;
 import org.springframework.batch.support.transaction.ResourcelessTransactionManager;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.core.task.TaskExecutor;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.jdbc.datasource.DataSourceTransactionManager;
@@ -25,7 +40,20 @@ import javax.sql.DataSource;
 @EnableBatchProcessing
 public class BatchJobConfig {
 
-    private static final int GRID_SIZE = 8;
+    private static final Logger log = LoggerFactory.getLogger(BatchJobConfig.class);
+
+    // chunk 단위로 AI 호출을 동시에 띄우고 모두 끝나면 커밋한다. 워커당 동시 AI 호출 수 = chunk 크기.
+    // 전체 동시 AI 호출 수는 min(grid-size × chunk-size, report.concurrency.ai-permits).
+    @Value("${batch.report.chunk-size:10}")
+    private int reportChunkSize;
+
+    // 파티션(=동시 워커) 수. 워커마다 회원 id 커서가 커넥션 1개를 잡으므로 풀 크기는 BatchConnectionPoolSizer가 맞춘다.
+    // 실제 AI/DB 동시 실행 수는 report.concurrency.* 로 제한한다.
+    @Value("${batch.worker.grid-size:8}")
+    private int gridSize;
+
+    @Value("${batch.worker.virtual-threads:false}")
+    private boolean virtualThreads;
 
     @Bean
     public Job dailyMealInitJob(JobRepository jobRepository, Step createDailyMealsPartitionStep) {
@@ -51,21 +79,44 @@ public class BatchJobConfig {
     // 파티셔닝 기준 메타데이터가 담긴 파티셔너
     @Bean
     public Partitioner memberIdPartitioner(MemberIdProvider memberIdProvider) {
-        return new MemberIdListPartitioner(memberIdProvider);
+        return new MemberIdRangePartitioner(memberIdProvider);
     }
 
     // 멀티 스레드 실행기 객체
+    // 가상 스레드는 JDK 21 이상에서만 동작하므로, 그 미만 런타임에서는 기존 플랫폼 스레드 풀로 대체한다.
+    // 가상 스레드 모드에서는 실행기에서 동시 실행 수를 제한하지 않는다. 파티션 수만큼 워커가 뜨고,
+    // AI/DB 동시 실행 수는 ReportConcurrencyLimiter 퍼밋이, 커넥션 수는 풀 크기가 정한다.
     @Bean
     public TaskExecutor batchTaskExecutor() {
+        if (virtualThreads && Runtime.version().feature() >= 21) {
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("batch-worker-");
+            executor.setVirtualThreads(true);
+            return executor;
+        }
+        if (virtualThreads) {
+            log.warn("Virtual threads require JDK 21+, falling back to platform threads: runtime={}",
+                    Runtime.version());
+        }
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
         executor.setThreadNamePrefix("batch-worker-");
-        executor.setCorePoolSize(GRID_SIZE);
-        executor.setMaxPoolSize(GRID_SIZE);
+        executor.setCorePoolSize(gridSize);
+        executor.setMaxPoolSize(gridSize);
         executor.setQueueCapacity(0);
         executor.initialize();
         return executor;
     }
 
+    // 파티션의 [fromId, toId) 구간을 커서로 스트리밍하는 reader. 스텝마다 별도 인스턴스가 생성된다.
+    @Bean
+    @StepScope
+    public MemberIdCursorItemReader memberIdReader(SqlSessionFactory sqlSessionFactory,
+                                                   @Value("#{stepExecutionContext['fromId']}") Long fromId,
+                                                   @Value("#{stepExecutionContext['toId']}") Long toId) {
+        long safeFromId = fromId == null ? 1L : fromId;
+        long safeToId = toId == null ? Long.MAX_VALUE : toId;
+        return new MemberIdCursorItemReader(sqlSessionFactory, safeFromId, safeToId);
+    }
+
     @Bean(name = "transactionManager")
     public ResourcelessTransactionManager resourcelessTransactionManager() {
         return new ResourcelessTransactionManager();
@@ -81,27 +132,55 @@ public class BatchJobConfig {
     @Bean
     public Step createDailyMealsWorkerStep(JobRepository jobRepository,
                                            ResourcelessTransactionManager transactionManager,
-                                           CreateDailyMealsTasklet tasklet) {
+                                           CreateDailyMealsTasklet tasklet,
+                                           StepMetricsListener metricsListener) {
         return new StepBuilder("createDailyMealsWorkerStep", jobRepository)
                 .tasklet(tasklet, transactionManager)
+                .listener(metricsListener)
                 .build();
     }
 
+    // 리포트 스텝은 chunk 단위로 커밋해 read/write/skip 건수를 남기고, 실패 시 마지막 커밋 지점부터 재시작한다.
+    // processorNonTransactional: writer 실패로 chunk를 재처리할 때 AI 호출을 다시 하지 않도록 처리 결과를 재사용한다.
     @Bean
     public Step generateDailyReportWorkerStep(JobRepository jobRepository,
                                               ResourcelessTransactionManager transactionManager,
-                                              GenerateDailyReportTasklet tasklet) {
+                                              MemberIdCursorItemReader memberIdReader,
+                                              DailyReportItemProcessor processor,
+                                              DailyReportItemWriter writer,
+                                              MemberSkipFailureListener skipListener,
+                                              StepMetricsListener metricsListener) {
         return new StepBuilder("generateDailyReportWorkerStep", jobRepository)
-                .tasklet(tasklet, transactionManager)
+                .<Long, PendingReport<DailyReport>>chunk(reportChunkSize, transactionManager)
+                .reader(memberIdReader)
+                .processor(processor)
+                .writer(writer)
+                .faultTolerant()
+                .skipPolicy(new AlwaysSkipItemSkipPolicy())
+                .processorNonTransactional()
+                .listener(skipListener)
+                .listener(metricsListener)
                 .build();
     }
 
     @Bean
     public Step generateWeeklyReportWorkerStep(JobRepository jobRepository,
                                                ResourcelessTransactionManager transactionManager,
-                                               GenerateWeeklyReportTasklet tasklet) {
+                                               MemberIdCursorItemReader memberIdReader,
+                                               WeeklyReportItemProcessor processor,
+                                               WeeklyReportItemWriter writer,
+                                               MemberSkipFailureListener skipListener,
+                                               StepMetricsListener metricsListener) {
         return new StepBuilder("generateWeeklyReportWorkerStep", jobRepository)
-                .tasklet(tasklet, transactionManager)
+                .<Long, PendingReport<WeeklyReport>>chunk(reportChunkSize, transactionManager)
+                .reader(memberIdReader)
+                .processor(processor)
+                .writer(writer)
+                .faultTolerant()
+                .skipPolicy(new AlwaysSkipItemSkipPolicy())
+                .processorNonTransactional()
+                .listener(skipListener)
+                .listener(metricsListener)
                 .build();
     }
 
@@ -116,7 +195,7 @@ public class BatchJobConfig {
                 .partitioner(createDailyMealsWorkerStep.getName(), memberIdPartitioner)
                 .step(createDailyMealsWorkerStep)
                 .taskExecutor(batchTaskExecutor)
-                .gridSize(GRID_SIZE)
+                .gridSize(gridSize)
                 .build();
     }
 
@@ -129,7 +208,7 @@ public class BatchJobConfig {
                 .partitioner(generateDailyReportWorkerStep.getName(), memberIdPartitioner)
                 .step(generateDailyReportWorkerStep)
                 .taskExecutor(batchTaskExecutor)
-                .gridSize(GRID_SIZE)
+                .gridSize(gridSize)
                 .build();
     }
 
@@ -142,7 +221,7 @@ public class BatchJobConfig {
                 .partitioner(generateWeeklyReportWorkerStep.getName(), memberIdPartitioner)
                 .step(generateWeeklyReportWorkerStep)
                 .taskExecutor(batchTaskExecutor)
-                .gridSize(GRID_SIZE)
+                .gridSize(gridSize)
                 .build();
     }
 }
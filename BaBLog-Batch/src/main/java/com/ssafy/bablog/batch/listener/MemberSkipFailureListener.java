@@ -0,0 +1,75 @@
+package com.ssafy.bablog.batch.listener;
+
+import com.ssafy.bablog.batch.failure.BatchFailureLogService;
+import com.ssafy.bablog.batch.processor.PendingReport;
+import com.ssafy.bablog.report.domain.DailyReport;
+import com.ssafy.bablog.report.domain.WeeklyReport;
+import org.springframework.batch.core.SkipListener;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+
+/**
+ * chunk 스텝에서 skip 된 회원을 batch_failure_log에 남긴다.
+ * skip 건수 자체는 StepExecution(read/process/write skip count)에 기록된다.
+ */
+@Component
+@StepScope
+public class MemberSkipFailureListener implements SkipListener<Long, Object> {
+
+    private final BatchFailureLogService failureLogService;
+    private final String jobName;
+    private final String stepName;
+    private final LocalDate targetDate;
+    private final LocalDate weekStart;
+    private final LocalDate weekEnd;
+
+    public MemberSkipFailureListener(BatchFailureLogService failureLogService,
+                                     @Value("#{stepExecution}") StepExecution stepExecution,
+                                     @Value("#{jobParameters['targetDate']}") String targetDate,
+                                     @Value("#{jobParameters['weekStart']}") String weekStart,
+                                     @Value("#{jobParameters['weekEnd']}") String weekEnd) {
+        this.failureLogService = failureLogService;
+        this.jobName = stepExecution.getJobExecution().getJobInstance().getJobName();
+        this.stepName = stepExecution.getStepName();
+        this.targetDate = parseDate(targetDate);
+        this.weekStart = parseDate(weekStart);
+        this.weekEnd = parseDate(weekEnd);
+    }
+
+    @Override
+    public void onSkipInRead(Throwable t) {
+        failureLogService.logFailure(jobName, stepName, null, targetDate, weekStart, weekEnd, t);
+    }
+
+    @Override
+    public void onSkipInProcess(Long memberId, Throwable t) {
+        failureLogService.logFailure(jobName, stepName, memberId, targetDate, weekStart, weekEnd, t);
+    }
+
+    @Override
+    public void onSkipInWrite(Object item, Throwable t) {
+        failureLogService.logFailure(jobName, stepName, resolveMemberId(item), targetDate, weekStart, weekEnd, t);
+    }
+
+    private Long resolveMemberId(Object item) {
+        // AI 호출 실패로 future가 예외로 끝난 경우도 회원 id는 carrier에 남아 있다
+        if (item instanceof PendingReport<?> pending) {
+            return pending.getMemberId();
+        }
+        if (item instanceof DailyReport report) {
+            return report.getMemberId();
+        }
+        if (item instanceof WeeklyReport report) {
+            return report.getMemberId();
+        }
+        return null;
+    }
+
+    private LocalDate parseDate(String raw) {
+        return raw == null || raw.isBlank() ? null : LocalDate.parse(raw);
+    }
+}
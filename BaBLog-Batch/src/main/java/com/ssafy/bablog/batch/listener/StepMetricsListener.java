@@ -0,0 +1,72 @@
+package com.ssafy.bablog.batch.listener;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * 워커 스텝(파티션) 실행이 끝날 때마다 처리량을 Micrometer에 기록한다.
+ * - 카운터 `batch.step.items` (step, result=written|skipped)
+ * - 타이머 `batch.step.duration` (step, status): 파티션 1개 실행 시간
+ * - 분포 `batch.step.throughput` (step): 파티션 1개의 초당 처리 건수
+ * 파티션 스텝 이름의 `:partitionN`은 떼어 내고 워커 스텝 이름으로 묶는다.
+ */
+@Component
+public class StepMetricsListener implements StepExecutionListener {
+
+    private final MeterRegistry meterRegistry;
+
+    public StepMetricsListener(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public ExitStatus afterStep(StepExecution stepExecution) {
+        String step = workerStepName(stepExecution.getStepName());
+        long written = stepExecution.getWriteCount();
+        long skipped = stepExecution.getSkipCount();
+
+        Counter.builder("batch.step.items")
+                .tag("step", step)
+                .tag("result", "written")
+                .register(meterRegistry)
+                .increment(written);
+        Counter.builder("batch.step.items")
+                .tag("step", step)
+                .tag("result", "skipped")
+                .register(meterRegistry)
+                .increment(skipped);
+
+        LocalDateTime startTime = stepExecution.getStartTime();
+        if (startTime != null) {
+            Duration elapsed = Duration.between(startTime, LocalDateTime.now());
+            Timer.builder("batch.step.duration")
+                    .tag("step", step)
+                    .tag("status", stepExecution.getStatus().name())
+                    .register(meterRegistry)
+                    .record(elapsed);
+            if (written > 0 && !elapsed.isZero()) {
+                DistributionSummary.builder("batch.step.throughput")
+                        .baseUnit("items/s")
+                        .tag("step", step)
+                        .register(meterRegistry)
+                        .record(written * 1000.0 / Math.max(elapsed.toMillis(), 1));
+            }
+        }
+        return stepExecution.getExitStatus();
+    }
+
+    // "generateDailyReportWorkerStep:partition3" → "generateDailyReportWorkerStep"
+    private String workerStepName(String stepName) {
+        int separator = stepName.indexOf(':');
+        return separator < 0 ? stepName : stepName.substring(0, separator);
+    }
+}
@@ -1,7 +1,11 @@
 package com.ssafy.bablog.batch.member;
 
+import com.ssafy.bablog.member.repository.mapper.MemberIdRange;
+
 import java.util.List;
 
 public interface MemberIdProvider {
-    List<Long> fetchAllMemberIds();
+    List<MemberIdRange> fetchIdRanges(int gridSize);
+
+    List<Long> fetchMemberIdsAfter(Long afterId, Long toId, int limit);
 }
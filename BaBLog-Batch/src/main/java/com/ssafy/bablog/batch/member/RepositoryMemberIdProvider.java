@@ -1,6 +1,7 @@
 package com.ssafy.bablog.batch.member;
 
 import com.ssafy.bablog.member.repository.MemberRepository;
+import com.ssafy.bablog.member.repository.mapper.MemberIdRange;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
@@ -15,7 +16,12 @@ public class RepositoryMemberIdProvider implements MemberIdProvider {
     }
 
     @Override
-    public List<Long> fetchAllMemberIds() {
-        return memberRepository.findAllIds();
+    public List<MemberIdRange> fetchIdRanges(int gridSize) {
+        return memberRepository.findIdRanges(gridSize);
+    }
+
+    @Override
+    public List<Long> fetchMemberIdsAfter(Long afterId, Long toId, int limit) {
+        return memberRepository.findIdsAfter(afterId, toId, limit);
     }
 }
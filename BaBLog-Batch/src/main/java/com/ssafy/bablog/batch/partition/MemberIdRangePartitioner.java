@@ -0,0 +1,48 @@
+package com.ssafy.bablog.batch.partition;
+
+import com.ssafy.bablog.batch.member.MemberIdProvider;
+import com.ssafy.bablog.member.repository.mapper.MemberIdRange;
+import org.springframework.batch.core.partition.support.Partitioner;
+import org.springframework.batch.item.ExecutionContext;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * DB에서 NTILE로 나눈 구간 경계만 받아 워커마다 [fromId, toId) 를 넘긴다.
+ * ExecutionContext에는 long 두 개만 직렬화되므로 회원 수가 늘어도 job repository 크기가 일정하다.
+ */
+public class MemberIdRangePartitioner implements Partitioner {
+
+    public static final String FROM_ID_KEY = "fromId";
+    public static final String TO_ID_KEY = "toId";
+
+    private final MemberIdProvider memberIdProvider;
+
+    public MemberIdRangePartitioner(MemberIdProvider memberIdProvider) {
+        this.memberIdProvider = memberIdProvider;
+    }
+
+    @Override
+    public Map<String, ExecutionContext> partition(int gridSize) {
+        List<MemberIdRange> ranges = memberIdProvider.fetchIdRanges(Math.max(1, gridSize));
+        Map<String, ExecutionContext> partitions = new HashMap<>();
+        if (ranges == null || ranges.isEmpty()) {
+            return partitions;
+        }
+
+        for (int i = 0; i < ranges.size(); i++) {
+            long fromId = ranges.get(i).getMinId();
+            // 다음 구간 시작 id까지 비워 두지 않아야 파티셔닝 이후 끼어든 id도 어느 한 구간에 속한다.
+            long toId = i + 1 < ranges.size()
+                    ? ranges.get(i + 1).getMinId()
+                    : ranges.get(i).getMaxId() + 1;
+            ExecutionContext context = new ExecutionContext();
+            context.putLong(FROM_ID_KEY, fromId);
+            context.putLong(TO_ID_KEY, toId);
+            partitions.put("partition" + i, context);
+        }
+        return partitions;
+    }
+}
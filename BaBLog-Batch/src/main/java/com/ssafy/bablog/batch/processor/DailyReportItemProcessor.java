@@ -0,0 +1,32 @@
+package com.ssafy.bablog.batch.processor;
+
+import com.ssafy.bablog.batch.service.ReportBatchService;
+import com.ssafy.bablog.report.domain.DailyReport;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.item.ItemProcessor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+
+/**
+ * 회원 데이터 조회까지만 동기로 처리하고, AI 호출이 끝나기를 기다리지 않고 future를 넘긴다.
+ */
+@Component
+@StepScope
+public class DailyReportItemProcessor implements ItemProcessor<Long, PendingReport<DailyReport>> {
+
+    private final ReportBatchService reportBatchService;
+    private final LocalDate targetDate;
+
+    public DailyReportItemProcessor(ReportBatchService reportBatchService,
+                                    @Value("#{jobParameters['targetDate']}") String targetDate) {
+        this.reportBatchService = reportBatchService;
+        this.targetDate = LocalDate.parse(targetDate);
+    }
+
+    @Override
+    public PendingReport<DailyReport> process(Long memberId) {
+        return new PendingReport<>(memberId, reportBatchService.buildDailyReport(memberId, targetDate));
+    }
+}
@@ -0,0 +1,33 @@
+package com.ssafy.bablog.batch.processor;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * processor가 writer로 넘기는 진행 중인 리포트.
+ * AI 호출이 실패해 future가 예외로 끝나도 skip 리스너가 어느 회원인지 알 수 있도록 회원 id를 함께 들고 다닌다.
+ */
+public class PendingReport<T> {
+
+    private final Long memberId;
+    private final CompletableFuture<T> future;
+
+    public PendingReport(Long memberId, CompletableFuture<T> future) {
+        this.memberId = memberId;
+        this.future = future;
+    }
+
+    public Long getMemberId() {
+        return memberId;
+    }
+
+    public CompletableFuture<T> getFuture() {
+        return future;
+    }
+
+    /**
+     * 리포트가 준비될 때까지 기다린다. 생성에 실패했으면 CompletionException을 던진다.
+     */
+    public T join() {
+        return future.join();
+    }
+}
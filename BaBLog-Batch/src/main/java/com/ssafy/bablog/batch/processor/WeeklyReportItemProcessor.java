@@ -0,0 +1,32 @@
+package com.ssafy.bablog.batch.processor;
+
+import com.ssafy.bablog.batch.service.ReportBatchService;
+import com.ssafy.bablog.report.domain.WeeklyReport;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.item.ItemProcessor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+
+@Component
+@StepScope
+public class WeeklyReportItemProcessor implements ItemProcessor<Long, PendingReport<WeeklyReport>> {
+
+    private final ReportBatchService reportBatchService;
+    private final LocalDate weekStart;
+    private final LocalDate weekEnd;
+
+    public WeeklyReportItemProcessor(ReportBatchService reportBatchService,
+                                     @Value("#{jobParameters['weekStart']}") String weekStart,
+                                     @Value("#{jobParameters['weekEnd']}") String weekEnd) {
+        this.reportBatchService = reportBatchService;
+        this.weekStart = LocalDate.parse(weekStart);
+        this.weekEnd = LocalDate.parse(weekEnd);
+    }
+
+    @Override
+    public PendingReport<WeeklyReport> process(Long memberId) {
+        return new PendingReport<>(memberId, reportBatchService.buildWeeklyReport(memberId, weekStart, weekEnd));
+    }
+}
@@ -0,0 +1,81 @@
+package com.ssafy.bablog.batch.reader;
+
+import com.ssafy.bablog.member.repository.mapper.MemberMapper;
+import org.apache.ibatis.cursor.Cursor;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStreamException;
+import org.springframework.batch.item.ItemStreamReader;
+
+import java.io.IOException;
+import java.util.Iterator;
+
+/**
+ * [fromId, toId) 구간의 회원 id를 MyBatis Cursor로 스트리밍한다.
+ * 커서는 chunk 트랜잭션과 무관하게 스텝 내내 열려 있어야 하므로 Spring 관리 세션이 아닌 전용 SqlSession을 연다.
+ * 커밋마다 마지막으로 넘긴 id를 저장하고, 재시작 시 그 id 이후부터 커서를 다시 연다.
+ * (MySQL에서 서버 측 커서로 읽으려면 JDBC URL에 useCursorFetch=true 가 필요하다.)
+ */
+public class MemberIdCursorItemReader implements ItemStreamReader<Long> {
+
+    private static final String LAST_MEMBER_ID_KEY = "memberIdReader.lastMemberId";
+
+    private final SqlSessionFactory sqlSessionFactory;
+    private final long fromId;
+    private final long toId;
+
+    private SqlSession sqlSession;
+    private Cursor<Long> cursor;
+    private Iterator<Long> iterator;
+    private long lastReadId;
+
+    public MemberIdCursorItemReader(SqlSessionFactory sqlSessionFactory, long fromId, long toId) {
+        this.sqlSessionFactory = sqlSessionFactory;
+        this.fromId = fromId;
+        this.toId = toId;
+    }
+
+    @Override
+    public void open(ExecutionContext executionContext) throws ItemStreamException {
+        lastReadId = executionContext.containsKey(LAST_MEMBER_ID_KEY)
+                ? executionContext.getLong(LAST_MEMBER_ID_KEY)
+                : fromId - 1;
+        sqlSession = sqlSessionFactory.openSession();
+        cursor = sqlSession.getMapper(MemberMapper.class).streamIdsAfter(lastReadId, toId);
+        iterator = cursor.iterator();
+    }
+
+    @Override
+    public Long read() {
+        if (iterator == null || !iterator.hasNext()) {
+            return null;
+        }
+        Long memberId = iterator.next();
+        lastReadId = memberId;
+        return memberId;
+    }
+
+    @Override
+    public void update(ExecutionContext executionContext) throws ItemStreamException {
+        executionContext.putLong(LAST_MEMBER_ID_KEY, lastReadId);
+    }
+
+    @Override
+    public void close() throws ItemStreamException {
+        try {
+            if (cursor != null) {
+                cursor.close();
+            }
+        } catch (IOException e) {
+            throw new ItemStreamException("회원 id 커서를 닫지 못했습니다.", e);
+        } finally {
+            if (sqlSession != null) {
+                sqlSession.close();
+            }
+            cursor = null;
+            iterator = null;
+            sqlSession = null;
+        }
+    }
+}
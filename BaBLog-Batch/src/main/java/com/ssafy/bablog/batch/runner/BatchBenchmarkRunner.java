@@ -0,0 +1,128 @@
+package com.ssafy.bablog.batch.runner;
+
+import com.ssafy.bablog.batch.member.MemberIdProvider;
+import com.ssafy.bablog.report.service.ReportPhase;
+import com.ssafy.bablog.report.service.ReportPhaseTimer;
+import com.ssafy.bablog.report.service.dto.ReportPhaseStats;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 세 잡을 차례로 실행하고 잡별 처리량과 리포트 구간별 소요 시간을 로그로 남기는 벤치마크 (bench 프로필).
+ * loadtest(합성 데이터), test(Mock AI) 프로필과 함께 켠다. 구간 시간은 ReportPhaseTimer, DB 왕복 수는
+ * MyBatisMetricsInterceptor가 모으며 잡마다 초기화한다.
+ */
+@Component
+@Profile("bench")
+public class BatchBenchmarkRunner implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(BatchBenchmarkRunner.class);
+    private static final int COUNT_PAGE_SIZE = 10_000;
+
+    private final JobLauncher jobLauncher;
+    private final Job dailyMealInitJob;
+    private final Job dailyReportJob;
+    private final Job weeklyReportJob;
+    private final MemberIdProvider memberIdProvider;
+    private final ReportPhaseTimer phaseTimer;
+
+    @Value("${batch.startup.base-date:}")
+    private String baseDate;
+
+    public BatchBenchmarkRunner(JobLauncher jobLauncher,
+                                Job dailyMealInitJob,
+                                Job dailyReportJob,
+                                Job weeklyReportJob,
+                                MemberIdProvider memberIdProvider,
+                                ReportPhaseTimer phaseTimer) {
+        this.jobLauncher = jobLauncher;
+        this.dailyMealInitJob = dailyMealInitJob;
+        this.dailyReportJob = dailyReportJob;
+        this.weeklyReportJob = weeklyReportJob;
+        this.memberIdProvider = memberIdProvider;
+        this.phaseTimer = phaseTimer;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        LocalDate base = BatchStartupRunner.resolveBaseDate(baseDate);
+        LocalDate weekEnd = BatchStartupRunner.lastWeekEnd(base);
+        long members = countMembers();
+        phaseTimer.setEnabled(true);
+
+        runJob(dailyMealInitJob, members, new JobParametersBuilder()
+                .addString("targetDate", base.toString())
+                .toJobParameters());
+        runJob(dailyReportJob, members, new JobParametersBuilder()
+                .addString("targetDate", base.minusDays(1).toString())
+                .toJobParameters());
+        runJob(weeklyReportJob, members, new JobParametersBuilder()
+                .addString("weekStart", weekEnd.minusDays(6).toString())
+                .addString("weekEnd", weekEnd.toString())
+                .toJobParameters());
+    }
+
+    private void runJob(Job job, long members, JobParameters parameters) {
+        JobParameters withRunId = new JobParametersBuilder(parameters)
+                .addLong("runAt", System.currentTimeMillis())
+                .toJobParameters();
+        phaseTimer.reset();
+        long started = System.nanoTime();
+        JobExecution execution;
+        try {
+            execution = jobLauncher.run(job, withRunId);
+        } catch (Exception ex) {
+            log.error("Benchmark job failed: jobName={}, message={}", job.getName(), ex.getMessage(), ex);
+            return;
+        }
+        long elapsed = System.nanoTime() - started;
+        long statements = phaseTimer.statementCount();
+
+        log.info("[bench] {} {}: members={}, elapsed={} ms, throughput={} members/s, statements={} ({} per member)",
+                job.getName(), execution.getStatus(), members, elapsed / 1_000_000,
+                format(members * 1e9 / Math.max(elapsed, 1)), statements, format(members == 0 ? 0 : (double) statements / members));
+        for (Map.Entry<ReportPhase, ReportPhaseStats> entry : phaseTimer.snapshot().entrySet()) {
+            ReportPhaseStats stats = entry.getValue();
+            if (stats.getCount() == 0) {
+                continue;
+            }
+            log.info("[bench]   {} count={}, p50={} ms, p99={} ms, max={} ms, mean={} ms",
+                    entry.getKey(), stats.getCount(), millis(stats.getP50Nanos()), millis(stats.getP99Nanos()),
+                    millis(stats.getMaxNanos()), millis(stats.getTotalNanos() / stats.getCount()));
+        }
+    }
+
+    private long countMembers() {
+        long count = 0;
+        long lastId = 0;
+        List<Long> ids = memberIdProvider.fetchMemberIdsAfter(lastId, Long.MAX_VALUE, COUNT_PAGE_SIZE);
+        while (!ids.isEmpty()) {
+            count += ids.size();
+            lastId = ids.get(ids.size() - 1);
+            ids = ids.size() < COUNT_PAGE_SIZE ? List.of() : memberIdProvider.fetchMemberIdsAfter(lastId, Long.MAX_VALUE, COUNT_PAGE_SIZE);
+        }
+        return count;
+    }
+
+    private static String millis(long nanos) {
+        return format(nanos / 1e6);
+    }
+
+    private static String format(double value) {
+        return String.format("%.3f", value);
+    }
+}
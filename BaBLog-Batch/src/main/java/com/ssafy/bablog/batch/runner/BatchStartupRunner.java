@@ -6,25 +6,31 @@ import org.springframework.batch.core.Job;
 import org.springframework.batch.core.JobParameters;
 import org.springframework.batch.core.JobParametersBuilder;
 import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.ApplicationArguments;
 import org.springframework.boot.ApplicationRunner;
 import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Component;
 
+import java.time.DayOfWeek;
 import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
 
 @Component
-@Profile("test")
+@Profile("test & !bench")
 public class BatchStartupRunner implements ApplicationRunner {
 
     private static final Logger log = LoggerFactory.getLogger(BatchStartupRunner.class);
-    private static final LocalDate BASE_DATE = LocalDate.of(2025, 12, 22);
 
     private final JobLauncher jobLauncher;
     private final Job dailyMealInitJob;
     private final Job dailyReportJob;
     private final Job weeklyReportJob;
 
+    // 비우면 오늘. loadtest 프로필의 합성 데이터도 이 날짜 전날까지 생성된다.
+    @Value("${batch.startup.base-date:}")
+    private String baseDate;
+
     public BatchStartupRunner(JobLauncher jobLauncher,
                               Job dailyMealInitJob,
                               Job dailyReportJob,
@@ -37,10 +43,11 @@ public class BatchStartupRunner implements ApplicationRunner {
 
     @Override
     public void run(ApplicationArguments args) {
-        LocalDate dailyMealDate = BASE_DATE;
-        LocalDate dailyReportDate = BASE_DATE.minusDays(1);
-        LocalDate weekStart = LocalDate.of(2025, 12, 15);
-        LocalDate weekEnd = LocalDate.of(2025, 12, 21);
+        LocalDate base = resolveBaseDate(baseDate);
+        LocalDate dailyMealDate = base;
+        LocalDate dailyReportDate = base.minusDays(1);
+        LocalDate weekEnd = lastWeekEnd(base);
+        LocalDate weekStart = weekEnd.minusDays(6);
 
         runJob(dailyMealInitJob, new JobParametersBuilder()
                 .addString("targetDate", dailyMealDate.toString())
@@ -54,6 +61,15 @@ public class BatchStartupRunner implements ApplicationRunner {
                 .toJobParameters());
     }
 
+    static LocalDate resolveBaseDate(String baseDate) {
+        return baseDate == null || baseDate.isBlank() ? LocalDate.now() : LocalDate.parse(baseDate);
+    }
+
+    // 기준일 이전의 마지막 월~일 주간의 일요일
+    static LocalDate lastWeekEnd(LocalDate base) {
+        return base.with(TemporalAdjusters.previous(DayOfWeek.SUNDAY));
+    }
+
     private void runJob(Job job, JobParameters parameters) {
         JobParameters withRunId = new JobParametersBuilder(parameters)
                 .addLong("runAt", System.currentTimeMillis())
@@ -1,5 +1,7 @@
 package com.ssafy.bablog.batch.scheduler;
 
+import com.ssafy.bablog.report.service.ReportInsightCache;
+import com.ssafy.bablog.report.service.dto.ReportInsightCacheStats;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.batch.core.Job;
@@ -20,15 +22,18 @@ public class BatchJobScheduler {
     private final Job dailyMealInitJob;
     private final Job dailyReportJob;
     private final Job weeklyReportJob;
+    private final ReportInsightCache reportInsightCache;
 
     public BatchJobScheduler(JobLauncher jobLauncher,
                              Job dailyMealInitJob,
                              Job dailyReportJob,
-                             Job weeklyReportJob) {
+                             Job weeklyReportJob,
+                             ReportInsightCache reportInsightCache) {
         this.jobLauncher = jobLauncher;
         this.dailyMealInitJob = dailyMealInitJob;
         this.dailyReportJob = dailyReportJob;
         this.weeklyReportJob = weeklyReportJob;
+        this.reportInsightCache = reportInsightCache;
     }
 
     @Scheduled(cron = "0 0 0 * * *")
@@ -57,6 +62,20 @@ public class BatchJobScheduler {
                 .toJobParameters());
     }
 
+    @Scheduled(cron = "0 30 0 * * *")
+    public void purgeExpiredInsightCache() {
+        int purged = reportInsightCache.purgeExpired();
+        log.info("Report insight cache purged: rows={}, stats={}", purged, describe());
+    }
+
+    private String describe() {
+        ReportInsightCacheStats stats = reportInsightCache.stats();
+        return "memoryHits=" + stats.getMemoryHits()
+                + ", persistentHits=" + stats.getPersistentHits()
+                + ", misses=" + stats.getMisses()
+                + ", memorySize=" + stats.getMemorySize();
+    }
+
     private void runJob(Job job, org.springframework.batch.core.JobParameters parameters) {
         try {
             jobLauncher.run(job, parameters);
@@ -0,0 +1,281 @@
+package com.ssafy.bablog.batch.seed;
+
+import com.ssafy.bablog.batch.seed.mapper.SeedIdOffsets;
+import com.ssafy.bablog.batch.seed.mapper.SeedRun;
+import com.ssafy.bablog.batch.seed.mapper.SyntheticDataMapper;
+import com.ssafy.bablog.food.domain.Food;
+import com.ssafy.bablog.meal.domain.Meal;
+import com.ssafy.bablog.meal.domain.MealFood;
+import com.ssafy.bablog.meal.domain.MealType;
+import com.ssafy.bablog.meal_log.domain.MealLog;
+import com.ssafy.bablog.member.domain.Gender;
+import com.ssafy.bablog.member.domain.Member;
+import com.ssafy.bablog.member.repository.MemberRepository;
+import com.ssafy.bablog.member_nutrient.domain.MemberNutrient;
+import com.ssafy.bablog.member_nutrient.domain.MemberNutrientDaily;
+import com.ssafy.bablog.member_nutrient.util.MemberNutrientCalculator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * 부하 테스트용 합성 데이터 생성기 (loadtest 프로필).
+ * seed가 같으면 회원/음식/식단 이력이 항상 같게 생성된다. 회원별 Random을 seed와 회원 번호로 만들기 때문에
+ * 적재 단위(batch-size)를 바꿔도 결과는 같다.
+ * - 회원 N명(+권장 섭취량, 일자별 스냅샷), 음식 카탈로그, 기준일 전날까지 M일치 meal/meal_food/meal_log
+ * - member_daily_nutrition 롤업은 적재한 meal_log로 다시 계산한다.
+ * 회원 묶음(batch-size) 단위로 한 트랜잭션에 넣고 seed_run에 진행 회원 수를 남긴다. 중간에 끊기면 다음 실행이 그 회원부터 이어서 만들고,
+ * 롤업까지 끝나야 완료로 표시한다.
+ * 배치 잡보다 먼저 실행되며, test 프로필과 함께 켜면 MockReportAiService(report.ai.mock.latency-ms)로 리포트 잡까지 돌릴 수 있다.
+ */
+@Component
+@Profile("loadtest")
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class SyntheticDataGenerator implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(SyntheticDataGenerator.class);
+
+    // 끼니별 기록 확률 (BREAKFAST, LUNCH, DINNER, SNACK). 기록하지 않은 끼니는 빈 meal만 남는다.
+    private static final double[] MEAL_RECORD_RATE = {0.65, 0.85, 0.85, 0.45};
+    private static final int MAX_FOODS_PER_MEAL = 4;
+
+    private final SyntheticDataMapper syntheticDataMapper;
+    private final MemberRepository memberRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${seed.random-seed:42}")
+    private long randomSeed;
+
+    @Value("${seed.members:1000}")
+    private int memberCount;
+
+    @Value("${seed.foods:3000}")
+    private int foodCount;
+
+    @Value("${seed.days:28}")
+    private int days;
+
+    // 한 INSERT 문에 넣을 최대 행 수
+    @Value("${seed.batch-size:1000}")
+    private int batchSize;
+
+    @Value("${seed.password:bablog1234!}")
+    private String password;
+
+    // 식단 이력의 마지막 날 = 기준일 전날 (BatchStartupRunner와 같은 기준일)
+    @Value("${batch.startup.base-date:}")
+    private String baseDate;
+
+    public SyntheticDataGenerator(SyntheticDataMapper syntheticDataMapper,
+                                  MemberRepository memberRepository,
+                                  DataSource dataSource) {
+        this.syntheticDataMapper = syntheticDataMapper;
+        this.memberRepository = memberRepository;
+        // 배치의 transactionManager는 Resourceless라 커넥션을 묶지 않으므로 적재 단위 트랜잭션은 DataSource로 따로 만든다
+        this.transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        syntheticDataMapper.createRunTableIfAbsent();
+        SeedRun run = syntheticDataMapper.findRun(randomSeed);
+        if (run != null && run.getCompletedAt() != null) {
+            log.info("Synthetic data already loaded for seed {}, skipping", randomSeed);
+            return;
+        }
+        if (run == null && memberRepository.existsByEmail(email(0))) {
+            // seed_run이 생기기 전에 적재한 데이터는 이어서 만들 기준이 없으므로 그대로 둔다
+            log.warn("Synthetic data for seed {} exists without a seed_run row, skipping", randomSeed);
+            return;
+        }
+        long started = System.currentTimeMillis();
+        if (run == null) {
+            run = startRun();
+        } else {
+            log.info("Resuming synthetic data for seed {} from member {}/{}",
+                    randomSeed, run.getLoadedMembers(), run.getMembers());
+        }
+
+        // 카탈로그는 seed와 시작 id로 다시 만들 수 있으므로 이어서 실행할 때는 메모리에만 만든다
+        SyntheticFoodCatalog catalog = SyntheticFoodCatalog.generate(randomSeed, run.getFoods(), run.getFirstFoodId());
+        int mealsPerMember = (int) (ChronoUnit.DAYS.between(run.getStartDate(), run.getEndDate()) + 1)
+                * MealType.values().length;
+        Buffers buffers = new Buffers();
+        String encodedPassword = new BCryptPasswordEncoder().encode(password);
+        for (int index = run.getLoadedMembers(); index < run.getMembers(); index++) {
+            Random random = new Random(randomSeed * 1_000_003L + index);
+            Member member = member(random, index, run.getFirstMemberId() + index, encodedPassword);
+            MemberNutrient nutrient = MemberNutrientCalculator.calculate(
+                    member.getGender(), member.getHeightCm(), member.getWeightKg(), member.getId());
+            buffers.members.add(member);
+            buffers.nutrients.add(nutrient);
+
+            long nextMealId = run.getFirstMealId() + (long) index * mealsPerMember;
+            for (LocalDate date = run.getStartDate(); !date.isAfter(run.getEndDate()); date = date.plusDays(1)) {
+                buffers.dailies.add(snapshot(nutrient, date));
+                for (MealType mealType : MealType.values()) {
+                    Meal meal = Meal.create(member.getId(), mealType, date);
+                    meal.setId(nextMealId++);
+                    if (random.nextDouble() < MEAL_RECORD_RATE[mealType.ordinal()]) {
+                        fillMeal(random, catalog, meal, buffers.mealFoods);
+                        buffers.mealLogs.add(MealLog.fromDelta(meal, meal));
+                    }
+                    buffers.meals.add(meal);
+                }
+            }
+            if (buffers.meals.size() >= batchSize || index == run.getMembers() - 1) {
+                int loadedMembers = index + 1;
+                transactionTemplate.executeWithoutResult(status -> {
+                    buffers.flush();
+                    syntheticDataMapper.updateLoadedMembers(randomSeed, loadedMembers);
+                });
+            }
+        }
+
+        // 롤업은 meal_log로 다시 계산하는 upsert라 중간에 끊겨도 처음부터 다시 돌리면 된다
+        long lastMemberId = run.getFirstMemberId() + run.getMembers() - 1;
+        for (long from = run.getFirstMemberId(); from <= lastMemberId; from += batchSize) {
+            syntheticDataMapper.rebuildDailyNutrition(from, Math.min(from + batchSize - 1, lastMemberId));
+        }
+        syntheticDataMapper.completeRun(randomSeed);
+        log.info("Synthetic data loaded: seed={}, members={}, foods={}, days={} ({}~{}), meals={} in {} ms",
+                randomSeed, run.getMembers(), catalog.foods().size(), mealsPerMember / MealType.values().length,
+                run.getStartDate(), run.getEndDate(), (long) run.getMembers() * mealsPerMember,
+                System.currentTimeMillis() - started);
+    }
+
+    /**
+     * id 시작값과 기간을 정해 음식 카탈로그와 seed_run 행을 한 트랜잭션으로 넣는다.
+     */
+    private SeedRun startRun() {
+        LocalDate endDate = (baseDate == null || baseDate.isBlank() ? LocalDate.now() : LocalDate.parse(baseDate)).minusDays(1);
+        SeedIdOffsets offsets = syntheticDataMapper.findMaxIds();
+        SeedRun run = new SeedRun();
+        run.setRandomSeed(randomSeed);
+        run.setMembers(memberCount);
+        run.setFoods(Math.max(foodCount, 1));
+        run.setStartDate(endDate.minusDays(Math.max(days, 1) - 1L));
+        run.setEndDate(endDate);
+        run.setFirstMemberId(offsets.getMemberId() + 1);
+        run.setFirstFoodId(offsets.getFoodId() + 1);
+        run.setFirstMealId(offsets.getMealId() + 1);
+
+        SyntheticFoodCatalog catalog = SyntheticFoodCatalog.generate(randomSeed, run.getFoods(), run.getFirstFoodId());
+        transactionTemplate.executeWithoutResult(status -> {
+            insertInBatches(catalog.foods(), syntheticDataMapper::insertFoods);
+            syntheticDataMapper.insertRun(run);
+        });
+        return run;
+    }
+
+    private Member member(Random random, int index, long memberId, String encodedPassword) {
+        Gender gender = random.nextBoolean() ? Gender.MALE : Gender.FEMALE;
+        double height = gender == Gender.MALE ? 173 + random.nextGaussian() * 6 : 160 + random.nextGaussian() * 5;
+        double bmi = 18.5 + random.nextDouble() * 10;
+        return Member.builder()
+                .id(memberId)
+                .email(email(index))
+                .password(encodedPassword)
+                .name("부하" + index)
+                .gender(gender)
+                .birthDate(LocalDate.of(1960 + random.nextInt(45), 1 + random.nextInt(12), 1 + random.nextInt(28)))
+                .heightCm(BigDecimal.valueOf(Math.round(height * 10) / 10.0))
+                .weightKg(BigDecimal.valueOf(Math.round(bmi * height * height / 1000) / 10.0))
+                .build();
+    }
+
+    private String email(int index) {
+        return "seed" + randomSeed + "-" + index + "@bablog.test";
+    }
+
+    private MemberNutrientDaily snapshot(MemberNutrient nutrient, LocalDate date) {
+        return MemberNutrientDaily.builder()
+                .memberId(nutrient.getMemberId())
+                .targetDate(date)
+                .kcal(nutrient.getKcal())
+                .protein(nutrient.getProtein())
+                .fat(nutrient.getFat())
+                .saturatedFat(nutrient.getSaturatedFat())
+                .transFat(nutrient.getTransFat())
+                .carbohydrates(nutrient.getCarbohydrates())
+                .sugar(nutrient.getSugar())
+                .natrium(nutrient.getNatrium())
+                .cholesterol(nutrient.getCholesterol())
+                .build();
+    }
+
+    // 음식 1~4개를 골라 meal_food를 만들고, 앱에서 음식 추가할 때와 같은 델타 계산으로 meal 합계를 채운다.
+    private void fillMeal(Random random, SyntheticFoodCatalog catalog, Meal meal, List<MealFood> mealFoods) {
+        boolean snack = meal.getMealType() == MealType.SNACK;
+        int foods = 1 + random.nextInt(snack ? 2 : MAX_FOODS_PER_MEAL);
+        Set<Long> added = new HashSet<>();
+        for (int i = 0; i < foods; i++) {
+            Food food = catalog.pick(random, snack);
+            if (!added.add(food.getId())) {
+                continue;
+            }
+            BigDecimal intake = catalog.intake(random, food);
+            meal.applyNutritionDelta(Meal.nutritionDelta(food, intake));
+            mealFoods.add(MealFood.builder()
+                    .mealId(meal.getId())
+                    .foodId(food.getId())
+                    .intake(intake)
+                    .unit("g")
+                    .build());
+        }
+    }
+
+    private <T> void insertInBatches(List<T> rows, Function<List<T>, Integer> insert) {
+        for (int from = 0; from < rows.size(); from += batchSize) {
+            insert.apply(rows.subList(from, Math.min(from + batchSize, rows.size())));
+        }
+    }
+
+    /**
+     * 외래 키 순서(member → 스냅샷 → meal → meal_food/meal_log)대로 비운다.
+     */
+    private final class Buffers {
+        private final List<Member> members = new ArrayList<>();
+        private final List<MemberNutrient> nutrients = new ArrayList<>();
+        private final List<MemberNutrientDaily> dailies = new ArrayList<>();
+        private final List<Meal> meals = new ArrayList<>();
+        private final List<MealFood> mealFoods = new ArrayList<>();
+        private final List<MealLog> mealLogs = new ArrayList<>();
+
+        private void flush() {
+            insertInBatches(members, syntheticDataMapper::insertMembers);
+            insertInBatches(nutrients, syntheticDataMapper::insertMemberNutrients);
+            insertInBatches(dailies, syntheticDataMapper::insertMemberNutrientDailies);
+            insertInBatches(meals, syntheticDataMapper::insertMeals);
+            insertInBatches(mealFoods, syntheticDataMapper::insertMealFoods);
+            insertInBatches(mealLogs, syntheticDataMapper::insertMealLogs);
+            members.clear();
+            nutrients.clear();
+            dailies.clear();
+            meals.clear();
+            mealFoods.clear();
+            mealLogs.clear();
+        }
+    }
+}
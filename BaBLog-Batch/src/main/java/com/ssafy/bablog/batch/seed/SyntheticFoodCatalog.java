@@ -0,0 +1,120 @@
+package com.ssafy.bablog.batch.seed;
+
+import com.ssafy.bablog.food.domain.Food;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 합성 음식 카탈로그. 대표 음식(100g 기준 영양 값)을 제조사별 변형으로 늘려 count개를 만든다.
+ * 변형은 영양 값을 ±15% 흔들고, 1인분 중량(food_weight)은 대표 음식 값을 따른다.
+ */
+final class SyntheticFoodCatalog {
+
+    private static final BigDecimal STANDARD = BigDecimal.valueOf(100);
+
+    // name, 1인분(g), kcal, protein, fat, saturatedFat, transFat, carbohydrates, sugar, natrium, cholesterol, 간식 여부
+    private static final Object[][] BASE_FOODS = {
+            {"흰쌀밥", 210, 145, 2.5, 0.3, 0.1, 0, 32, 0, 2, 0, false},
+            {"현미밥", 210, 150, 3.0, 1.0, 0.2, 0, 33, 0, 2, 0, false},
+            {"김치찌개", 300, 45, 3.5, 2.5, 0.8, 0, 2.5, 1.0, 380, 10, false},
+            {"된장찌개", 300, 50, 3.8, 2.2, 0.4, 0, 4.5, 1.2, 420, 3, false},
+            {"닭가슴살", 100, 109, 23, 1.2, 0.3, 0, 0, 0, 45, 60, false},
+            {"삼겹살구이", 150, 331, 17, 29, 10, 0.1, 0, 0, 50, 75, false},
+            {"불고기", 150, 190, 15, 10, 3.5, 0.1, 9, 7, 420, 45, false},
+            {"비빔밥", 400, 140, 4.5, 3.5, 0.8, 0, 23, 2.5, 300, 30, false},
+            {"김밥", 250, 165, 4.5, 4, 1, 0, 27, 2, 380, 15, false},
+            {"라면", 500, 90, 2, 3.5, 1.6, 0, 12.5, 0.6, 350, 0, false},
+            {"떡볶이", 250, 200, 4, 3, 0.8, 0, 38, 9, 520, 2, false},
+            {"계란말이", 100, 160, 11, 11, 3, 0, 3, 1.5, 350, 350, false},
+            {"고등어구이", 120, 230, 20, 16, 4, 0.1, 0, 0, 120, 70, false},
+            {"두부조림", 100, 110, 9, 6, 1, 0, 5, 2.5, 350, 0, false},
+            {"시금치나물", 70, 45, 3, 2, 0.3, 0, 5, 0.5, 300, 0, false},
+            {"잡채", 150, 150, 3, 6, 1, 0, 22, 7, 330, 10, false},
+            {"닭가슴살 샐러드", 250, 70, 8, 2.5, 0.5, 0, 4, 2.5, 150, 25, false},
+            {"돈까스", 200, 280, 13, 16, 4, 0.2, 20, 2, 420, 45, false},
+            {"후라이드치킨", 200, 280, 19, 18, 5, 0.2, 10, 0.5, 550, 90, false},
+            {"피자", 200, 260, 11, 10, 4.5, 0.2, 32, 3.5, 600, 25, false},
+            {"햄버거", 220, 250, 12, 11, 4, 0.3, 26, 5, 480, 35, false},
+            {"사과", 200, 53, 0.3, 0.2, 0, 0, 14, 10, 1, 0, true},
+            {"바나나", 120, 90, 1.1, 0.3, 0.1, 0, 23, 12, 1, 0, true},
+            {"우유", 200, 65, 3.2, 3.6, 2.3, 0.1, 4.7, 4.7, 40, 12, true},
+            {"요거트", 100, 95, 3.5, 3, 2, 0, 13, 11, 50, 10, true},
+            {"아메리카노", 350, 4, 0.3, 0, 0, 0, 0.5, 0, 5, 0, true},
+            {"카페라떼", 350, 55, 2.8, 2.8, 1.8, 0.1, 4.5, 4.5, 40, 10, true},
+            {"초코과자", 40, 520, 6, 28, 16, 0.3, 60, 35, 250, 15, true}
+    };
+
+    private final List<Food> foods;
+    private final List<Food> mainFoods;
+    private final List<Food> snackFoods;
+
+    private SyntheticFoodCatalog(List<Food> foods, List<Food> mainFoods, List<Food> snackFoods) {
+        this.foods = foods;
+        this.mainFoods = mainFoods;
+        this.snackFoods = snackFoods;
+    }
+
+    static SyntheticFoodCatalog generate(long seed, int count, long firstId) {
+        Random random = new Random(seed);
+        List<Food> foods = new ArrayList<>(count);
+        List<Food> mainFoods = new ArrayList<>();
+        List<Food> snackFoods = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Object[] base = BASE_FOODS[i % BASE_FOODS.length];
+            int variant = i / BASE_FOODS.length;
+            // 대표 음식(variant 0)은 원래 값, 이후는 제조사 변형
+            double jitter = variant == 0 ? 1.0 : 0.85 + random.nextDouble() * 0.3;
+            Food food = Food.builder()
+                    .id(firstId + i)
+                    .name(variant == 0 ? (String) base[0] : base[0] + " " + variant)
+                    .standard(STANDARD)
+                    .foodWeight(BigDecimal.valueOf(((Number) base[1]).intValue()))
+                    .kcal(nutrient(base[2], jitter))
+                    .protein(nutrient(base[3], jitter))
+                    .fat(nutrient(base[4], jitter))
+                    .saturatedFat(nutrient(base[5], jitter))
+                    .transFat(nutrient(base[6], jitter))
+                    .carbohydrates(nutrient(base[7], jitter))
+                    .sugar(nutrient(base[8], jitter))
+                    .natrium(nutrient(base[9], jitter))
+                    .cholesterol(nutrient(base[10], jitter))
+                    .vendor(variant == 0 ? null : "제조사" + (variant % 50 + 1))
+                    .build();
+            foods.add(food);
+            if ((Boolean) base[11]) {
+                snackFoods.add(food);
+            } else {
+                mainFoods.add(food);
+            }
+        }
+        return new SyntheticFoodCatalog(foods, mainFoods, snackFoods);
+    }
+
+    List<Food> foods() {
+        return foods;
+    }
+
+    /**
+     * 앞쪽(대표 음식)일수록 자주 뽑히도록 치우친 분포로 고른다. 인기 음식 통계/캐시 적중률이 실제와 비슷해진다.
+     */
+    Food pick(Random random, boolean snack) {
+        List<Food> pool = snack && !snackFoods.isEmpty() ? snackFoods : mainFoods;
+        return pool.get((int) (pool.size() * Math.pow(random.nextDouble(), 3)));
+    }
+
+    /**
+     * 1인분의 50~150%
+     */
+    BigDecimal intake(Random random, Food food) {
+        double ratio = 0.5 + random.nextDouble();
+        return food.getFoodWeight().multiply(BigDecimal.valueOf(ratio)).setScale(0, RoundingMode.HALF_UP);
+    }
+
+    private static BigDecimal nutrient(Object value, double jitter) {
+        return BigDecimal.valueOf(((Number) value).doubleValue() * jitter).setScale(2, RoundingMode.HALF_UP);
+    }
+}
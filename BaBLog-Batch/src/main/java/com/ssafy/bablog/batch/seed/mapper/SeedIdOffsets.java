@@ -0,0 +1,34 @@
+package com.ssafy.bablog.batch.seed.mapper;
+
+/**
+ * 적재 시작 시점의 테이블별 최대 id. 새 행은 이 값 다음부터 id를 붙인다.
+ */
+public class SeedIdOffsets {
+    private long memberId;
+    private long foodId;
+    private long mealId;
+
+    public long getMemberId() {
+        return memberId;
+    }
+
+    public void setMemberId(long memberId) {
+        this.memberId = memberId;
+    }
+
+    public long getFoodId() {
+        return foodId;
+    }
+
+    public void setFoodId(long foodId) {
+        this.foodId = foodId;
+    }
+
+    public long getMealId() {
+        return mealId;
+    }
+
+    public void setMealId(long mealId) {
+        this.mealId = mealId;
+    }
+}
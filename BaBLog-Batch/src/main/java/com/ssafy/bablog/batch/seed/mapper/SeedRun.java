@@ -0,0 +1,101 @@
+package com.ssafy.bablog.batch.seed.mapper;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * seed 하나의 적재 진행 상태 (seed_run 행).
+ * 시작할 때 정한 id 시작값과 기간을 저장해 두고, 중단 후 다시 실행하면 loadedMembers번째 회원부터 같은 데이터를 이어서 만든다.
+ */
+public class SeedRun {
+    private long randomSeed;
+    private int members;
+    private int foods;
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private long firstMemberId;
+    private long firstFoodId;
+    private long firstMealId;
+    private int loadedMembers;
+    private LocalDateTime completedAt;
+
+    public long getRandomSeed() {
+        return randomSeed;
+    }
+
+    public void setRandomSeed(long randomSeed) {
+        this.randomSeed = randomSeed;
+    }
+
+    public int getMembers() {
+        return members;
+    }
+
+    public void setMembers(int members) {
+        this.members = members;
+    }
+
+    public int getFoods() {
+        return foods;
+    }
+
+    public void setFoods(int foods) {
+        this.foods = foods;
+    }
+
+    public LocalDate getStartDate() {
+        return startDate;
+    }
+
+    public void setStartDate(LocalDate startDate) {
+        this.startDate = startDate;
+    }
+
+    public LocalDate getEndDate() {
+        return endDate;
+    }
+
+    public void setEndDate(LocalDate endDate) {
+        this.endDate = endDate;
+    }
+
+    public long getFirstMemberId() {
+        return firstMemberId;
+    }
+
+    public void setFirstMemberId(long firstMemberId) {
+        this.firstMemberId = firstMemberId;
+    }
+
+    public long getFirstFoodId() {
+        return firstFoodId;
+    }
+
+    public void setFirstFoodId(long firstFoodId) {
+        this.firstFoodId = firstFoodId;
+    }
+
+    public long getFirstMealId() {
+        return firstMealId;
+    }
+
+    public void setFirstMealId(long firstMealId) {
+        this.firstMealId = firstMealId;
+    }
+
+    public int getLoadedMembers() {
+        return loadedMembers;
+    }
+
+    public void setLoadedMembers(int loadedMembers) {
+        this.loadedMembers = loadedMembers;
+    }
+
+    public LocalDateTime getCompletedAt() {
+        return completedAt;
+    }
+
+    public void setCompletedAt(LocalDateTime completedAt) {
+        this.completedAt = completedAt;
+    }
+}
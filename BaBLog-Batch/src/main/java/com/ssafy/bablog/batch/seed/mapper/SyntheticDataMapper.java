@@ -0,0 +1,54 @@
+package com.ssafy.bablog.batch.seed.mapper;
+
+import com.ssafy.bablog.food.domain.Food;
+import com.ssafy.bablog.meal.domain.Meal;
+import com.ssafy.bablog.meal.domain.MealFood;
+import com.ssafy.bablog.meal_log.domain.MealLog;
+import com.ssafy.bablog.member.domain.Member;
+import com.ssafy.bablog.member_nutrient.domain.MemberNutrient;
+import com.ssafy.bablog.member_nutrient.domain.MemberNutrientDaily;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.util.List;
+
+/**
+ * 부하 테스트용 합성 데이터 적재. 모두 multi-row INSERT 한 문장으로 처리한다.
+ * member/food/meal은 다른 행이 참조하므로 생성기가 정한 id를 그대로 넣는다.
+ */
+@Mapper
+public interface SyntheticDataMapper {
+    /**
+     * 적재 진행 상태 테이블(seed_run). 부하 테스트 전용이라 애플리케이션 DDL에 두지 않고 생성기가 만든다.
+     */
+    void createRunTableIfAbsent();
+
+    SeedRun findRun(@Param("randomSeed") long randomSeed);
+
+    int insertRun(SeedRun run);
+
+    int updateLoadedMembers(@Param("randomSeed") long randomSeed, @Param("loadedMembers") int loadedMembers);
+
+    int completeRun(@Param("randomSeed") long randomSeed);
+
+    SeedIdOffsets findMaxIds();
+
+    int insertMembers(@Param("members") List<Member> members);
+
+    int insertMemberNutrients(@Param("nutrients") List<MemberNutrient> nutrients);
+
+    int insertMemberNutrientDailies(@Param("dailies") List<MemberNutrientDaily> dailies);
+
+    int insertFoods(@Param("foods") List<Food> foods);
+
+    int insertMeals(@Param("meals") List<Meal> meals);
+
+    int insertMealFoods(@Param("mealFoods") List<MealFood> mealFoods);
+
+    int insertMealLogs(@Param("mealLogs") List<MealLog> mealLogs);
+
+    /**
+     * [fromMemberId, toMemberId] 회원의 meal_log를 일자별로 합산해 member_daily_nutrition을 다시 채운다.
+     */
+    int rebuildDailyNutrition(@Param("fromMemberId") long fromMemberId, @Param("toMemberId") long toMemberId);
+}
@@ -18,4 +18,9 @@ public class CoreMealBatchService implements MealBatchService {
     public void createDailyMeals(Long memberId, LocalDate targetDate) {
         mealService.createDailyMeals(memberId, targetDate);
     }
+
+    @Override
+    public int createDailyMealsInRange(long fromId, long toId, LocalDate targetDate) {
+        return mealService.createDailyMealsInRange(fromId, toId, targetDate);
+    }
 }
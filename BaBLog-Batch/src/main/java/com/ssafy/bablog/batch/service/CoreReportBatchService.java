@@ -1,9 +1,13 @@
 package com.ssafy.bablog.batch.service;
 
+import com.ssafy.bablog.report.domain.DailyReport;
+import com.ssafy.bablog.report.domain.WeeklyReport;
 import com.ssafy.bablog.report.service.ReportService;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 @Service
 public class CoreReportBatchService implements ReportBatchService {
@@ -15,12 +19,22 @@ public class CoreReportBatchService implements ReportBatchService {
     }
 
     @Override
-    public void generateDailyReport(Long memberId, LocalDate targetDate) {
-        reportService.generateDailyReport(memberId, targetDate);
+    public CompletableFuture<DailyReport> buildDailyReport(Long memberId, LocalDate targetDate) {
+        return reportService.buildDailyReportAsync(memberId, targetDate);
     }
 
     @Override
-    public void generateWeeklyReport(Long memberId, LocalDate weekStart, LocalDate weekEnd) {
-        reportService.generateWeeklyReport(memberId, weekStart, weekEnd);
+    public void saveDailyReports(List<DailyReport> reports) {
+        reportService.saveDailyReports(reports);
+    }
+
+    @Override
+    public CompletableFuture<WeeklyReport> buildWeeklyReport(Long memberId, LocalDate weekStart, LocalDate weekEnd) {
+        return reportService.buildWeeklyReportAsync(memberId, weekStart, weekEnd);
+    }
+
+    @Override
+    public void saveWeeklyReports(List<WeeklyReport> reports) {
+        reportService.saveWeeklyReports(reports);
     }
 }
@@ -4,4 +4,6 @@ import java.time.LocalDate;
 
 public interface MealBatchService {
     void createDailyMeals(Long memberId, LocalDate targetDate);
+
+    int createDailyMealsInRange(long fromId, long toId, LocalDate targetDate);
 }
@@ -1,9 +1,18 @@
 package com.ssafy.bablog.batch.service;
 
+import com.ssafy.bablog.report.domain.DailyReport;
+import com.ssafy.bablog.report.domain.WeeklyReport;
+
 import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 public interface ReportBatchService {
-    void generateDailyReport(Long memberId, LocalDate targetDate);
+    CompletableFuture<DailyReport> buildDailyReport(Long memberId, LocalDate targetDate);
+
+    void saveDailyReports(List<DailyReport> reports);
+
+    CompletableFuture<WeeklyReport> buildWeeklyReport(Long memberId, LocalDate weekStart, LocalDate weekEnd);
 
-    void generateWeeklyReport(Long memberId, LocalDate weekStart, LocalDate weekEnd);
+    void saveWeeklyReports(List<WeeklyReport> reports);
 }
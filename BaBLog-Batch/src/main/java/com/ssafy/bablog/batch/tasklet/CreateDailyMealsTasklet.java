@@ -2,10 +2,15 @@ package com.ssafy.bablog.batch.tasklet;
 
 import com.ssafy.bablog.batch.failure.BatchFailureLogService;
 import com.ssafy.bablog.batch.member.MemberIdProvider;
+import com.ssafy.bablog.batch.partition.MemberIdRangePartitioner;
 import com.ssafy.bablog.batch.service.MealBatchService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.batch.core.StepContribution;
 import org.springframework.batch.core.scope.context.ChunkContext;
 import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.item.ExecutionContext;
 import org.springframework.batch.repeat.RepeatStatus;
 import org.springframework.stereotype.Component;
 
@@ -16,10 +21,17 @@ import java.util.Map;
 @Component
 public class CreateDailyMealsTasklet implements Tasklet {
 
+    private static final Logger log = LoggerFactory.getLogger(CreateDailyMealsTasklet.class);
+    private static final int PAGE_SIZE = 500;
+
     private final MemberIdProvider memberIdProvider;
     private final MealBatchService mealBatchService;
     private final BatchFailureLogService failureLogService;
 
+    // true면 ID 페이지 단위로 INSERT ... SELECT 일괄 생성, false면 회원별 생성
+    @Value("${batch.meal-init.bulk:true}")
+    private boolean bulk;
+
     public CreateDailyMealsTasklet(MemberIdProvider memberIdProvider,
                                    MealBatchService mealBatchService,
                                    BatchFailureLogService failureLogService) {
@@ -35,21 +47,42 @@ public class CreateDailyMealsTasklet implements Tasklet {
         String jobName = chunkContext.getStepContext().getJobName();
         String stepName = chunkContext.getStepContext().getStepName();
 
-        @SuppressWarnings("unchecked")
-        List<Long> memberIds = (List<Long>) chunkContext.getStepContext()
-                .getStepExecutionContext()
-                .get("memberIds");
-        if (memberIds == null || memberIds.isEmpty()) {
-            memberIds = memberIdProvider.fetchAllMemberIds();
-        }
-        for (Long memberId : memberIds) {
-            try {
-                mealBatchService.createDailyMeals(memberId, targetDate);
-            } catch (Exception ex) {
-                failureLogService.logFailure(jobName, stepName, memberId, targetDate, null, null, ex);
+        ExecutionContext stepContext = contribution.getStepExecution().getExecutionContext();
+        long lastId = stepContext.getLong(MemberIdRangePartitioner.FROM_ID_KEY, 1L) - 1;
+        long toId = stepContext.getLong(MemberIdRangePartitioner.TO_ID_KEY, Long.MAX_VALUE);
+
+        List<Long> memberIds = memberIdProvider.fetchMemberIdsAfter(lastId, toId, PAGE_SIZE);
+        while (!memberIds.isEmpty()) {
+            if (!bulk || !createPage(memberIds, targetDate)) {
+                for (Long memberId : memberIds) {
+                    try {
+                        mealBatchService.createDailyMeals(memberId, targetDate);
+                    } catch (Exception ex) {
+                        failureLogService.logFailure(jobName, stepName, memberId, targetDate, null, null, ex);
+                    }
+                }
             }
+            // 처리한 회원 수를 write count로 남겨 스텝 처리량(StepMetricsListener)에 반영한다
+            contribution.incrementWriteCount(memberIds.size());
+            lastId = memberIds.get(memberIds.size() - 1);
+            memberIds = memberIds.size() < PAGE_SIZE
+                    ? List.of()
+                    : memberIdProvider.fetchMemberIdsAfter(lastId, toId, PAGE_SIZE);
         }
 
         return RepeatStatus.FINISHED;
     }
+
+    // 페이지의 첫 ID ~ 마지막 ID 구간을 한 번에 생성. 실패하면 회원별 생성으로 되돌려 실패 회원을 기록한다.
+    private boolean createPage(List<Long> memberIds, LocalDate targetDate) {
+        long fromId = memberIds.get(0);
+        long toId = memberIds.get(memberIds.size() - 1) + 1;
+        try {
+            mealBatchService.createDailyMealsInRange(fromId, toId, targetDate);
+            return true;
+        } catch (Exception ex) {
+            log.warn("Bulk meal creation failed for ids [{}, {}), falling back to per-member", fromId, toId, ex);
+            return false;
+        }
+    }
 }
@@ -0,0 +1,31 @@
+package com.ssafy.bablog.batch.writer;
+
+import com.ssafy.bablog.batch.processor.PendingReport;
+import com.ssafy.bablog.batch.service.ReportBatchService;
+import com.ssafy.bablog.report.domain.DailyReport;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * chunk 안의 AI 호출이 모두 끝나기를 기다린 뒤 한 번에 upsert 한다.
+ */
+@Component
+public class DailyReportItemWriter implements ItemWriter<PendingReport<DailyReport>> {
+
+    private final ReportBatchService reportBatchService;
+
+    public DailyReportItemWriter(ReportBatchService reportBatchService) {
+        this.reportBatchService = reportBatchService;
+    }
+
+    @Override
+    public void write(Chunk<? extends PendingReport<DailyReport>> chunk) {
+        List<DailyReport> reports = chunk.getItems().stream()
+                .map(PendingReport::join)
+                .toList();
+        reportBatchService.saveDailyReports(reports);
+    }
+}
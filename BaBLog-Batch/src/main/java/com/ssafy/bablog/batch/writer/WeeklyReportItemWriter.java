@@ -0,0 +1,28 @@
+package com.ssafy.bablog.batch.writer;
+
+import com.ssafy.bablog.batch.processor.PendingReport;
+import com.ssafy.bablog.batch.service.ReportBatchService;
+import com.ssafy.bablog.report.domain.WeeklyReport;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Component
+public class WeeklyReportItemWriter implements ItemWriter<PendingReport<WeeklyReport>> {
+
+    private final ReportBatchService reportBatchService;
+
+    public WeeklyReportItemWriter(ReportBatchService reportBatchService) {
+        this.reportBatchService = reportBatchService;
+    }
+
+    @Override
+    public void write(Chunk<? extends PendingReport<WeeklyReport>> chunk) {
+        List<WeeklyReport> reports = chunk.getItems().stream()
+                .map(PendingReport::join)
+                .toList();
+        reportBatchService.saveWeeklyReports(reports);
+    }
+}
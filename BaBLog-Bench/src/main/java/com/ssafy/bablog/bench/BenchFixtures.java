@@ -0,0 +1,121 @@
+package com.ssafy.bablog.bench;
+
+import com.ssafy.bablog.food.domain.Food;
+import com.ssafy.bablog.meal.domain.Meal;
+import com.ssafy.bablog.meal.domain.MealFood;
+import com.ssafy.bablog.meal.domain.MealType;
+import com.ssafy.bablog.meal.repository.mapper.MealFoodWithFood;
+import com.ssafy.bablog.meal.service.dto.MealAggregate;
+import com.ssafy.bablog.meal_log.domain.MealLog;
+import com.ssafy.bablog.member.domain.Gender;
+import com.ssafy.bablog.member.domain.Member;
+import com.ssafy.bablog.member_nutrient.domain.MemberNutrientDaily;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 벤치마크 입력. 실행마다 같은 값이 나오도록 고정 seed의 Random만 사용한다.
+ */
+final class BenchFixtures {
+
+    static final long SEED = 20240101L;
+
+    private static final String[] FOOD_NAMES = {
+            "현미밥", "닭가슴살 샐러드", "김치찌개", "된장국", "고등어구이", "계란말이", "불고기", "비빔밥",
+            "잡채", "두부조림", "시금치나물", "떡볶이", "라면", "바나나", "우유", "아메리카노"
+    };
+
+    private BenchFixtures() {
+    }
+
+    static List<Food> foods(Random random, int count) {
+        List<Food> foods = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            foods.add(Food.builder()
+                    .id((long) i + 1)
+                    .name(FOOD_NAMES[i % FOOD_NAMES.length] + " " + i)
+                    .standard(BigDecimal.valueOf(100))
+                    .kcal(decimal(random, 20, 600))
+                    .protein(decimal(random, 0, 40))
+                    .fat(decimal(random, 0, 30))
+                    .saturatedFat(decimal(random, 0, 10))
+                    .transFat(decimal(random, 0, 1))
+                    .carbohydrates(decimal(random, 0, 90))
+                    .sugar(decimal(random, 0, 30))
+                    .natrium(decimal(random, 0, 1500))
+                    .cholesterol(decimal(random, 0, 200))
+                    .foodWeight(BigDecimal.valueOf(100))
+                    .vendor(i % 3 == 0 ? null : "제조사" + (i % 7))
+                    .build());
+        }
+        return foods;
+    }
+
+    static BigDecimal intake(Random random) {
+        return BigDecimal.valueOf(50 + random.nextInt(251));
+    }
+
+    /**
+     * 하루치 식단 4끼. 각 끼니는 음식 foodsPerMeal개이고 Meal/MealLog 합계는 음식 영양의 합으로 채운다.
+     */
+    static List<MealAggregate> dailyMeals(Random random, List<Food> foods, Long memberId, LocalDate date, int foodsPerMeal) {
+        List<MealAggregate> meals = new ArrayList<>(MealType.values().length);
+        long mealFoodId = 1;
+        for (MealType mealType : MealType.values()) {
+            Meal meal = Meal.create(memberId, mealType, date);
+            meal.setId(memberId * 10 + mealType.ordinal());
+            List<MealFoodWithFood> rows = new ArrayList<>(foodsPerMeal);
+            for (int i = 0; i < foodsPerMeal; i++) {
+                Food food = foods.get(random.nextInt(foods.size()));
+                BigDecimal intake = intake(random);
+                MealFood mealFood = MealFood.builder()
+                        .id(mealFoodId++)
+                        .mealId(meal.getId())
+                        .foodId(food.getId())
+                        .intake(intake)
+                        .unit("g")
+                        .build();
+                rows.add(new MealFoodWithFood(mealFood, food));
+                meal.applyNutritionDelta(Meal.nutritionDelta(food, intake));
+            }
+            meals.add(new MealAggregate(meal, rows, MealLog.fromDelta(meal, meal)));
+        }
+        return meals;
+    }
+
+    static Member member(Long memberId) {
+        return Member.builder()
+                .id(memberId)
+                .email("bench" + memberId + "@bablog.com")
+                .name("벤치" + memberId)
+                .gender(memberId % 2 == 0 ? Gender.FEMALE : Gender.MALE)
+                .birthDate(LocalDate.of(1995, 1, 1))
+                .heightCm(BigDecimal.valueOf(170))
+                .weightKg(BigDecimal.valueOf(65))
+                .build();
+    }
+
+    static MemberNutrientDaily target(Long memberId, LocalDate date) {
+        return MemberNutrientDaily.builder()
+                .memberId(memberId)
+                .targetDate(date)
+                .kcal(BigDecimal.valueOf(2200))
+                .protein(BigDecimal.valueOf(60))
+                .fat(BigDecimal.valueOf(60))
+                .saturatedFat(BigDecimal.valueOf(15))
+                .transFat(BigDecimal.valueOf(2))
+                .carbohydrates(BigDecimal.valueOf(300))
+                .sugar(BigDecimal.valueOf(50))
+                .natrium(BigDecimal.valueOf(2000))
+                .cholesterol(BigDecimal.valueOf(300))
+                .build();
+    }
+
+    private static BigDecimal decimal(Random random, int min, int max) {
+        return BigDecimal.valueOf(min * 100L + random.nextInt((max - min) * 100 + 1), 2);
+    }
+}
@@ -0,0 +1,35 @@
+package com.ssafy.bablog.bench;
+
+import org.openjdk.jmh.Main;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * JMH 실행 진입점. 옵션은 JMH 기본 CLI와 같고(-f, -wi, -i, 벤치마크 정규식 등),
+ * 결과 형식/파일을 지정하지 않으면 target/jmh-result.json 에 JSON으로 남겨 이전 결과와 비교할 수 있게 한다.
+ */
+public final class BenchmarkRunner {
+
+    static final String DEFAULT_RESULT_FILE = "target/jmh-result.json";
+
+    private BenchmarkRunner() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        CommandLineOptions cmd = new CommandLineOptions(args);
+        if (cmd.shouldHelp() || cmd.shouldList() || cmd.shouldListWithParams()
+                || cmd.shouldListProfilers() || cmd.shouldListResultFormats()) {
+            Main.main(args);
+            return;
+        }
+        Options options = new OptionsBuilder()
+                .parent(cmd)
+                .resultFormat(cmd.getResultFormat().orElse(ResultFormatType.JSON))
+                .result(cmd.getResult().orElse(DEFAULT_RESULT_FILE))
+                .build();
+        new Runner(options).run();
+    }
+}
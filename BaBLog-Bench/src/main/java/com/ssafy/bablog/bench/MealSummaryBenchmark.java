@@ -0,0 +1,85 @@
+package com.ssafy.bablog.bench;
+
+import com.ssafy.bablog.food.domain.Food;
+import com.ssafy.bablog.meal.domain.Meal;
+import com.ssafy.bablog.meal.domain.MealType;
+import com.ssafy.bablog.meal.repository.mapper.MealFoodWithFood;
+import com.ssafy.bablog.meal.service.dto.MealAggregate;
+import com.ssafy.bablog.meal.service.dto.MealSummary;
+import com.ssafy.bablog.meal.service.dto.NutritionSummary;
+import com.ssafy.bablog.meal.util.MealSummaryAssembler;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 대시보드/식단 목록 응답에서 쓰는 합계와 끼니별 요약.
+ * days: 1(일간), 7(주간), 31(월간) 기간의 식단을 한 번에 합산하는 경우
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MealSummaryBenchmark {
+
+    private static final Long MEMBER_ID = 1L;
+    private static final LocalDate DATE = LocalDate.of(2025, 1, 6);
+
+    @Param({"1", "7", "31"})
+    public int days;
+
+    @Param({"3"})
+    public int foodsPerMeal;
+
+    private List<Meal> meals;
+    private Map<MealType, Meal> mealsByType;
+    private Map<Long, List<MealFoodWithFood>> foodsByMeal;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(BenchFixtures.SEED);
+        List<Food> foods = BenchFixtures.foods(random, 512);
+        meals = new ArrayList<>(days * MealType.values().length);
+        mealsByType = new EnumMap<>(MealType.class);
+        foodsByMeal = new HashMap<>();
+        for (int day = 0; day < days; day++) {
+            for (MealAggregate aggregate : BenchFixtures.dailyMeals(random, foods, MEMBER_ID, DATE.plusDays(day), foodsPerMeal)) {
+                meals.add(aggregate.getMeal());
+                if (day == 0) {
+                    mealsByType.put(aggregate.getMeal().getMealType(), aggregate.getMeal());
+                    foodsByMeal.put(aggregate.getMeal().getId(), aggregate.getFoods());
+                }
+            }
+        }
+    }
+
+    @Benchmark
+    public NutritionSummary sumTotals() {
+        return MealSummaryAssembler.sumTotals(meals);
+    }
+
+    // 하루 4끼 요약 (days와 무관)
+    @Benchmark
+    public List<MealSummary> buildSummaries() {
+        return MealSummaryAssembler.buildSummaries(DATE, mealsByType, foodsByMeal);
+    }
+}
@@ -0,0 +1,185 @@
+package com.ssafy.bablog.bench;
+
+import com.ssafy.bablog.food.domain.Food;
+import com.ssafy.bablog.food.repository.FoodRepository;
+import com.ssafy.bablog.food.service.FoodCache;
+import com.ssafy.bablog.meal.domain.Meal;
+import com.ssafy.bablog.meal.domain.MealFood;
+import com.ssafy.bablog.meal.domain.MealType;
+import com.ssafy.bablog.meal.repository.MealFoodRepository;
+import com.ssafy.bablog.meal.repository.MealRepository;
+import com.ssafy.bablog.meal.service.MealReadSupport;
+import com.ssafy.bablog.meal.service.MealService;
+import com.ssafy.bablog.meal.service.dto.MealAggregate;
+import com.ssafy.bablog.meal.service.dto.MealFoodUpdateCommand;
+import com.ssafy.bablog.meal_log.domain.MealLog;
+import com.ssafy.bablog.meal_log.repository.MealLogRepository;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * 식단 음식 수정(PATCH) 1건이 DB에 보내는 쓰기 문장 수와 서비스 계층 시간.
+ * - legacyUpdate: 변경 전 MealService.updateMealFood 그대로. 기존 값 차감(meal UPDATE + meal_log upsert)과
+ *   새 값 적용(같은 2문장)을 따로 실행하고 그 사이에 meal_food UPDATE. 총 5문장
+ * - netDeltaUpdate: 현재 MealService.updateMealFood. 순 델타 1개로 meal+meal_log UPDATE 1문장 + 일별 합계 + meal_food UPDATE
+ * 리포지토리는 호출만 세는 프록시이므로 시간은 DB 왕복을 뺀 값이다.
+ * 문장 수는 {@link WriteCounters}의 보조 지표(writes, operations)로 JSON 결과에 남고, writes/op = writes / operations.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MealWriteBenchmark {
+
+    private static final Long MEMBER_ID = 1L;
+    private static final LocalDate DATE = LocalDate.of(2024, 1, 15);
+
+    private long writes;
+
+    private Food oldFood;
+    private Food newFood;
+    private MealFood mealFood;
+    private BigDecimal oldIntake;
+    private Meal meal;
+    private MealFoodUpdateCommand command;
+
+    private MealRepository legacyMealRepository;
+    private MealLogRepository legacyMealLogRepository;
+    private MealFoodRepository legacyMealFoodRepository;
+    private MealService mealService;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(BenchFixtures.SEED);
+        List<Food> foods = BenchFixtures.foods(random, 2);
+        oldFood = foods.get(0);
+        newFood = foods.get(1);
+        meal = Meal.create(MEMBER_ID, MealType.LUNCH, DATE);
+        meal.setId(10L);
+        mealFood = MealFood.create(meal.getId(), oldFood.getId(), BenchFixtures.intake(random), "g");
+        mealFood.setId(100L);
+        oldIntake = mealFood.getIntake();
+        command = new MealFoodUpdateCommand(meal.getId(), newFood.getId(), BenchFixtures.intake(random), "g");
+
+        Runnable onWrite = () -> writes++;
+        legacyMealRepository = counting(MealRepository.class, onWrite, Map.of());
+        legacyMealLogRepository = counting(MealLogRepository.class, onWrite, Map.of());
+        legacyMealFoodRepository = counting(MealFoodRepository.class, onWrite, Map.of());
+
+        MealRepository mealRepository = counting(MealRepository.class, onWrite, Map.of(
+                "findById", args -> Optional.of(meal),
+                "adjustNutritionWithLog", args -> true));
+        MealFoodRepository mealFoodRepository = counting(MealFoodRepository.class, onWrite,
+                Map.of("findById", args -> Optional.of(mealFood)));
+        MealLogRepository mealLogRepository = counting(MealLogRepository.class, onWrite, Map.of());
+        FoodRepository foodRepository = counting(FoodRepository.class, onWrite,
+                Map.of("findById", args -> Optional.of(oldFood.getId().equals(args[0]) ? oldFood : newFood)));
+        FoodCache foodCache = new FoodCache(foodRepository, 16);
+        mealService = new MealService(mealRepository, mealFoodRepository, foodCache, mealLogRepository, null,
+                new MealReadSupport(mealFoodRepository, mealLogRepository));
+    }
+
+    @Benchmark
+    public Meal legacyUpdate(WriteCounters counters) {
+        writes = 0;
+        Meal reverse = Meal.reverseDelta(Meal.nutritionDelta(oldFood, oldIntake));
+        legacyMealRepository.adjustNutrition(meal.getId(), reverse);
+        legacyMealLogRepository.upsertNutrition(MealLog.fromDelta(meal, reverse));
+        meal.applyNutritionDelta(reverse);
+
+        legacyMealFoodRepository.update(mealFood);
+
+        Meal apply = Meal.nutritionDelta(newFood, command.getIntake());
+        legacyMealRepository.adjustNutrition(meal.getId(), apply);
+        legacyMealLogRepository.upsertNutrition(MealLog.fromDelta(meal, apply));
+        meal.applyNutritionDelta(apply);
+        counters.record(writes);
+        return meal;
+    }
+
+    @Benchmark
+    public MealAggregate netDeltaUpdate(WriteCounters counters) {
+        // 매번 같은 수정(old → new)이 되도록 기존 값으로 되돌린 뒤 수정한다
+        mealFood.update(oldFood.getId(), oldIntake, "g");
+        writes = 0;
+        MealAggregate result = mealService.updateMealFood(MEMBER_ID, mealFood.getId(), command);
+        counters.record(writes);
+        return result;
+    }
+
+    /**
+     * 조회(find*)를 제외한 리포지토리 호출을 쓰기 문장 1개로 센다. 반환값은 answers에 있으면 그 결과, 없으면 빈 값.
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> T counting(Class<T> type, Runnable onWrite, Map<String, Function<Object[], Object>> answers) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+            String name = method.getName();
+            if (method.getDeclaringClass() == Object.class) {
+                return name.equals("hashCode") ? System.identityHashCode(proxy) : name.equals("equals") ? proxy == args[0] : type.getSimpleName();
+            }
+            if (!name.startsWith("find")) {
+                onWrite.run();
+            }
+            if (answers.containsKey(name)) {
+                return answers.get(name).apply(args);
+            }
+            Class<?> returnType = method.getReturnType();
+            if (returnType == Optional.class) {
+                return Optional.empty();
+            }
+            if (returnType == List.class) {
+                return List.of();
+            }
+            if (returnType == boolean.class) {
+                return false;
+            }
+            if (returnType == int.class) {
+                return 0;
+            }
+            return null;
+        });
+    }
+
+    /**
+     * 반복(iteration)마다 JMH 결과에 보조 지표로 기록되는 쓰기 문장 수와 호출 수
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class WriteCounters {
+        public long writes;
+        public long operations;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            writes = 0;
+            operations = 0;
+        }
+
+        private void record(long statements) {
+            writes += statements;
+            operations++;
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.ssafy.bablog.bench;
+
+import com.ssafy.bablog.food.domain.Food;
+import com.ssafy.bablog.meal.domain.Meal;
+import com.ssafy.bablog.meal.domain.NutrientVector;
+import com.ssafy.bablog.meal.util.NutritionCalculator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 음식 추가/수정/삭제마다 실행되는 영양 스케일링과 Meal 델타 계산.
+ * 결과는 음식 1건(= 호출 1회) 기준 시간이다. 할당량은 `-prof gc`로 함께 본다 (gc.alloc.rate.norm = 음식 1건당 바이트).
+ * 실행: java -jar BaBLog-Bench/target/benchmarks.jar NutritionBenchmark -prof gc
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class NutritionBenchmark {
+
+    private static final int BATCH = 256;
+
+    private Food[] foods;
+    private BigDecimal[] intakes;
+    private BigDecimal[] updatedIntakes;
+    private Meal[] deltas;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(BenchFixtures.SEED);
+        List<Food> pool = BenchFixtures.foods(random, BATCH);
+        foods = pool.toArray(new Food[0]);
+        intakes = new BigDecimal[BATCH];
+        updatedIntakes = new BigDecimal[BATCH];
+        deltas = new Meal[BATCH];
+        for (int i = 0; i < BATCH; i++) {
+            intakes[i] = BenchFixtures.intake(random);
+            updatedIntakes[i] = BenchFixtures.intake(random);
+            deltas[i] = Meal.nutritionDelta(foods[i], intakes[i]);
+        }
+    }
+
+    // 변경 전 방식: 성분마다 BigDecimal 배율 계산 (9회)
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public void scaleNutrient(Blackhole bh) {
+        for (int i = 0; i < BATCH; i++) {
+            Food food = foods[i];
+            BigDecimal intake = intakes[i];
+            bh.consume(NutritionCalculator.scaleNutrient(food.getKcal(), food, intake));
+            bh.consume(NutritionCalculator.scaleNutrient(food.getProtein(), food, intake));
+            bh.consume(NutritionCalculator.scaleNutrient(food.getFat(), food, intake));
+            bh.consume(NutritionCalculator.scaleNutrient(food.getSaturatedFat(), food, intake));
+            bh.consume(NutritionCalculator.scaleNutrient(food.getTransFat(), food, intake));
+            bh.consume(NutritionCalculator.scaleNutrient(food.getCarbohydrates(), food, intake));
+            bh.consume(NutritionCalculator.scaleNutrient(food.getSugar(), food, intake));
+            bh.consume(NutritionCalculator.scaleNutrient(food.getNatrium(), food, intake));
+            bh.consume(NutritionCalculator.scaleNutrient(food.getCholesterol(), food, intake));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public void nutrientVectorOfIntake(Blackhole bh) {
+        for (int i = 0; i < BATCH; i++) {
+            bh.consume(NutrientVector.ofIntake(foods[i], intakes[i]));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public void nutritionDelta(Blackhole bh) {
+        for (int i = 0; i < BATCH; i++) {
+            bh.consume(Meal.nutritionDelta(foods[i], intakes[i]));
+        }
+    }
+
+    // 한 끼에 음식을 차례로 추가하는 경우
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public Meal applyNutritionDelta() {
+        Meal meal = Meal.fromNutrients(NutrientVector.zero());
+        for (int i = 0; i < BATCH; i++) {
+            meal.applyNutritionDelta(deltas[i]);
+        }
+        return meal;
+    }
+
+    // 섭취량 수정: 새 델타 - 기존 델타
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public void netDelta(Blackhole bh) {
+        for (int i = 0; i < BATCH; i++) {
+            bh.consume(Meal.netDelta(Meal.nutritionDelta(foods[i], updatedIntakes[i]), deltas[i]));
+        }
+    }
+}
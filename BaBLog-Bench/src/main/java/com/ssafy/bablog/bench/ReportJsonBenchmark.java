@@ -0,0 +1,92 @@
+package com.ssafy.bablog.bench;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssafy.bablog.food.domain.Food;
+import com.ssafy.bablog.meal.domain.NutrientVector;
+import com.ssafy.bablog.meal.service.dto.MealAggregate;
+import com.ssafy.bablog.report.service.DailyScoreCalculator;
+import com.ssafy.bablog.report.service.dto.DailyScoreResult;
+import com.ssafy.bablog.report.service.dto.NutritionSnapshot;
+import com.ssafy.bablog.report.util.ReportPayloadAssembler;
+import com.ssafy.bablog.report.util.ReportPayloadAssembler.MealPattern;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * daily_report JSON 컬럼 직렬화와 주간 리포트에서 metrics를 다시 읽는 역직렬화.
+ * ObjectMapper는 Spring Boot 기본 설정처럼 클래스패스의 모듈을 등록해 만든다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ReportJsonBenchmark {
+
+    private static final Long MEMBER_ID = 1L;
+    private static final LocalDate DATE = LocalDate.of(2025, 1, 6);
+    private static final TypeReference<Map<String, Object>> MAP_TYPE = new TypeReference<>() {};
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    private Map<String, Object> metrics;
+    private DailyScoreResult ruleScore;
+    private String metricsJson;
+
+    @Setup
+    public void setUp() throws Exception {
+        Random random = new Random(BenchFixtures.SEED);
+        List<Food> foods = BenchFixtures.foods(random, 512);
+        List<MealAggregate> meals = BenchFixtures.dailyMeals(random, foods, MEMBER_ID, DATE, 3);
+        NutrientVector total = NutrientVector.zero();
+        for (MealAggregate meal : meals) {
+            total.add(meal.getMealLog().toNutrientVector());
+        }
+        NutritionSnapshot actual = NutritionSnapshot.from(total);
+        MealPattern pattern = ReportPayloadAssembler.analyzeMealPattern(meals);
+        metrics = ReportPayloadAssembler.buildDailyMetrics(actual, BenchFixtures.target(MEMBER_ID, DATE), pattern);
+        ruleScore = new DailyScoreCalculator().calculate(
+                actual,
+                NutritionSnapshot.from(BenchFixtures.target(MEMBER_ID, DATE)),
+                pattern.mainMealCount(),
+                pattern.snackRatio().doubleValue(),
+                pattern.dinnerRatio().doubleValue(),
+                pattern.foodVariety()
+        );
+        metricsJson = objectMapper.writeValueAsString(metrics);
+    }
+
+    @Benchmark
+    public String writeMetrics() throws Exception {
+        return objectMapper.writeValueAsString(metrics);
+    }
+
+    // 일간 리포트 1건이 저장될 때 쓰는 나머지 JSON 컬럼 (항목 점수/지표)
+    @Benchmark
+    public void writeScoreColumns(Blackhole bh) throws Exception {
+        bh.consume(objectMapper.writeValueAsString(ruleScore.getNutrientScores()));
+        bh.consume(objectMapper.writeValueAsString(ruleScore.getMetrics()));
+    }
+
+    @Benchmark
+    public Map<String, Object> readMetrics() throws Exception {
+        return objectMapper.readValue(metricsJson, MAP_TYPE);
+    }
+}
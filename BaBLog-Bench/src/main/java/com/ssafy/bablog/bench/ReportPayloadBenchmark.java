@@ -0,0 +1,120 @@
+package com.ssafy.bablog.bench;
+
+import com.ssafy.bablog.food.domain.Food;
+import com.ssafy.bablog.meal.domain.NutrientVector;
+import com.ssafy.bablog.meal.service.dto.MealAggregate;
+import com.ssafy.bablog.member.domain.Member;
+import com.ssafy.bablog.member_nutrient.domain.MemberNutrientDaily;
+import com.ssafy.bablog.report.service.DailyScoreCalculator;
+import com.ssafy.bablog.report.service.dto.DailyScoreResult;
+import com.ssafy.bablog.report.service.dto.NutritionSnapshot;
+import com.ssafy.bablog.report.util.ReportPayloadAssembler;
+import com.ssafy.bablog.report.util.ReportPayloadAssembler.MealPattern;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 리포트 1건을 만들 때 DB/AI 호출을 제외한 계산 구간 (회원 1명 기준).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ReportPayloadBenchmark {
+
+    private static final Long MEMBER_ID = 1L;
+    private static final LocalDate DATE = LocalDate.of(2025, 1, 6);
+
+    private final DailyScoreCalculator scoreCalculator = new DailyScoreCalculator();
+
+    private Member member;
+    private MemberNutrientDaily target;
+    private NutritionSnapshot targetSnapshot;
+    private NutritionSnapshot actual;
+    private List<MealAggregate> meals;
+    private MealPattern pattern;
+    private Map<String, Object> metrics;
+    private DailyScoreResult ruleScore;
+    private List<Map<String, Object>> weeklyMetrics;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(BenchFixtures.SEED);
+        List<Food> foods = BenchFixtures.foods(random, 512);
+        member = BenchFixtures.member(MEMBER_ID);
+        target = BenchFixtures.target(MEMBER_ID, DATE);
+        targetSnapshot = NutritionSnapshot.from(target);
+        meals = BenchFixtures.dailyMeals(random, foods, MEMBER_ID, DATE, 3);
+        actual = snapshotOf(meals);
+        pattern = ReportPayloadAssembler.analyzeMealPattern(meals);
+        metrics = ReportPayloadAssembler.buildDailyMetrics(actual, target, pattern);
+        ruleScore = score();
+
+        weeklyMetrics = new ArrayList<>(7);
+        for (int day = 0; day < 7; day++) {
+            List<MealAggregate> dayMeals = BenchFixtures.dailyMeals(random, foods, MEMBER_ID, DATE.plusDays(day), 3);
+            Map<String, Object> dayMetrics = new HashMap<>(ReportPayloadAssembler.buildDailyMetrics(
+                    snapshotOf(dayMeals), target, ReportPayloadAssembler.analyzeMealPattern(dayMeals)));
+            dayMetrics.put("date", DATE.plusDays(day).toString());
+            weeklyMetrics.add(dayMetrics);
+        }
+    }
+
+    @Benchmark
+    public Map<String, Object> dailyMetrics() {
+        return ReportPayloadAssembler.buildDailyMetrics(actual, target, ReportPayloadAssembler.analyzeMealPattern(meals));
+    }
+
+    @Benchmark
+    public DailyScoreResult dailyScore() {
+        return score();
+    }
+
+    // HYBRID 모드 프롬프트 (규칙 점수 포함)
+    @Benchmark
+    public Map<String, Object> dailyPrompt() {
+        return ReportPayloadAssembler.buildDailyPrompt(member, DATE, actual, target, metrics, meals, ruleScore);
+    }
+
+    @Benchmark
+    public Map<String, Object> weeklyPrompt() {
+        return ReportPayloadAssembler.buildWeeklyPrompt(member, DATE, DATE.plusDays(6), weeklyMetrics);
+    }
+
+    private DailyScoreResult score() {
+        return scoreCalculator.calculate(
+                actual,
+                targetSnapshot,
+                pattern.mainMealCount(),
+                pattern.snackRatio().doubleValue(),
+                pattern.dinnerRatio().doubleValue(),
+                pattern.foodVariety()
+        );
+    }
+
+    private static NutritionSnapshot snapshotOf(List<MealAggregate> meals) {
+        NutrientVector total = NutrientVector.zero();
+        for (MealAggregate meal : meals) {
+            total.add(meal.getMealLog().toNutrientVector());
+        }
+        return NutritionSnapshot.from(total);
+    }
+}
@@ -0,0 +1,139 @@
+package com.ssafy.bablog.config;
+
+import com.ssafy.bablog.report.service.ReportPhaseTimer;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.ibatis.cache.CacheKey;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Signature;
+import org.apache.ibatis.session.ResultHandler;
+import org.apache.ibatis.session.RowBounds;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 매퍼 문장별 Micrometer 계측
+ * - 타이머 `mybatis.statement` (statement=`MealLogMapper.findDailyTotal`, command=SELECT|INSERT|UPDATE|DELETE, outcome)
+ * - 반환 행 수/변경 행 수 `mybatis.statement.rows` (커서 조회는 행 수를 알 수 없어 제외)
+ * - `mybatis.metrics.slow-query-ms` 이상 걸린 문장은 SQL과 함께 WARN 로그 (파라미터는 남기지 않는다)
+ * - 구간 측정이 켜져 있으면 `ReportPhaseTimer` 문장 수(= DB 왕복 수)도 센다 (배치 벤치마크). Spring Batch 메타 테이블(JDBC)은 포함하지 않는다.
+ * Executor 프록시의 바깥 호출만 가로채므로 query 오버로드가 내부에서 서로 호출해도 한 번만 기록한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@Intercepts({
+        @Signature(type = Executor.class, method = "update", args = {MappedStatement.class, Object.class}),
+        @Signature(type = Executor.class, method = "query",
+                args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class}),
+        @Signature(type = Executor.class, method = "query",
+                args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class, CacheKey.class, BoundSql.class}),
+        @Signature(type = Executor.class, method = "queryCursor", args = {MappedStatement.class, Object.class, RowBounds.class})
+})
+public class MyBatisMetricsInterceptor implements Interceptor {
+
+    private final MeterRegistry meterRegistry;
+    private final ReportPhaseTimer phaseTimer;
+    private final Map<String, StatementMeters> meters = new ConcurrentHashMap<>();
+
+    @Value("${mybatis.metrics.slow-query-ms:500}")
+    private long slowQueryMs;
+
+    @Override
+    public Object intercept(Invocation invocation) throws Throwable {
+        MappedStatement statement = (MappedStatement) invocation.getArgs()[0];
+        phaseTimer.countStatement();
+        StatementMeters statementMeters = meters.computeIfAbsent(statement.getId(), id -> new StatementMeters(statement));
+        long started = System.nanoTime();
+        Object result;
+        try {
+            result = invocation.proceed();
+        } catch (Throwable e) {
+            statementMeters.failure.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+            throw e;
+        }
+        long elapsed = System.nanoTime() - started;
+        statementMeters.success.record(elapsed, TimeUnit.NANOSECONDS);
+        long rows = rows(result);
+        if (rows >= 0) {
+            statementMeters.rows.record(rows);
+        }
+        if (slowQueryMs > 0 && elapsed >= TimeUnit.MILLISECONDS.toNanos(slowQueryMs)) {
+            logSlowQuery(statement, invocation.getArgs()[1], statementMeters.name, elapsed, rows);
+        }
+        return result;
+    }
+
+    private void logSlowQuery(MappedStatement statement, Object parameter, String name, long elapsedNanos, long rows) {
+        String sql;
+        try {
+            sql = statement.getBoundSql(parameter).getSql().replaceAll("\\s+", " ").trim();
+        } catch (Exception e) {
+            sql = "(unavailable)";
+        }
+        log.warn("Slow MyBatis statement {}: {} ms, rows={}, sql={}",
+                name, TimeUnit.NANOSECONDS.toMillis(elapsedNanos), rows < 0 ? "-" : rows, sql);
+    }
+
+    // select는 결과 List 크기, insert/update/delete는 변경 행 수. 커서 등 알 수 없으면 -1
+    private static long rows(Object result) {
+        if (result instanceof Collection<?> collection) {
+            return collection.size();
+        }
+        if (result instanceof Integer count) {
+            return count;
+        }
+        return -1;
+    }
+
+    // "com.ssafy.bablog.meal_log.repository.mapper.MealLogMapper.findDailyTotal" → "MealLogMapper.findDailyTotal"
+    private static String shortName(String statementId) {
+        int method = statementId.lastIndexOf('.');
+        if (method <= 0) {
+            return statementId;
+        }
+        int mapper = statementId.lastIndexOf('.', method - 1);
+        return statementId.substring(mapper + 1);
+    }
+
+    private final class StatementMeters {
+        private final String name;
+        private final Timer success;
+        private final Timer failure;
+        private final DistributionSummary rows;
+
+        private StatementMeters(MappedStatement statement) {
+            this.name = shortName(statement.getId());
+            String command = statement.getSqlCommandType().name();
+            this.success = timer(command, "success");
+            this.failure = timer(command, "error");
+            this.rows = DistributionSummary.builder("mybatis.statement.rows")
+                    .description("Rows returned or affected per MyBatis statement")
+                    .tag("statement", name)
+                    .tag("command", command)
+                    .register(meterRegistry);
+        }
+
+        private Timer timer(String command, String outcome) {
+            return Timer.builder("mybatis.statement")
+                    .description("MyBatis mapped statement execution time")
+                    .tag("statement", name)
+                    .tag("command", command)
+                    .tag("outcome", outcome)
+                    .register(meterRegistry);
+        }
+    }
+}
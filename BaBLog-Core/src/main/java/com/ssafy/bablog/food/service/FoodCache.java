@@ -0,0 +1,118 @@
+package com.ssafy.bablog.food.service;
+
+import com.ssafy.bablog.food.domain.Food;
+import com.ssafy.bablog.food.repository.FoodRepository;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * food id 기준 read-through 캐시. 음식 카탈로그는 거의 바뀌지 않는 참조 데이터라 식단 쓰기마다 DB를 다시 조회하지 않는다.
+ * - id 해시로 나눈 SEGMENTS개 구간마다 접근 순서 LRU를 두고 구간 단위로만 잠가, 동시 요청이 잠금 하나에 몰리지 않게 한다
+ *   (크기 상한은 구간별로 나눠 적용하므로 제거 순서는 근사 LRU)
+ * - 조회/적중/크기는 `food.cache.requests`(result=hit|miss), `food.cache.size`로 노출한다
+ * 반환하는 Food는 캐시에 있는 인스턴스를 그대로 공유하므로 호출 측에서 값을 바꾸면 안 된다 (읽기 전용으로만 사용).
+ * Core를 쓰는 배치는 실행 한 번 동안만 떠 있으므로 무효화 없이 크기 상한만 둔다.
+ */
+@Component
+public class FoodCache implements MeterBinder {
+
+    private static final int SEGMENTS = 16;
+
+    private final FoodRepository foodRepository;
+    private final Segment[] segments;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    public FoodCache(FoodRepository foodRepository,
+                     @Value("${food.cache.max-size:50000}") int maxSize) {
+        this.foodRepository = foodRepository;
+        int segmentSize = Math.max(1, (maxSize + SEGMENTS - 1) / SEGMENTS);
+        this.segments = new Segment[SEGMENTS];
+        for (int i = 0; i < SEGMENTS; i++) {
+            segments[i] = new Segment(segmentSize);
+        }
+    }
+
+    public Optional<Food> findById(Long foodId) {
+        if (foodId == null) {
+            return Optional.empty();
+        }
+        Food cached = get(foodId);
+        if (cached != null) {
+            hits.incrementAndGet();
+            return Optional.of(cached);
+        }
+        misses.incrementAndGet();
+        Optional<Food> loaded = foodRepository.findById(foodId);
+        loaded.ifPresent(this::put);
+        return loaded;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("food.cache.requests", hits, AtomicLong::get)
+                .description("Food cache lookups")
+                .tag("result", "hit")
+                .register(registry);
+        FunctionCounter.builder("food.cache.requests", misses, AtomicLong::get)
+                .description("Food cache lookups")
+                .tag("result", "miss")
+                .register(registry);
+        Gauge.builder("food.cache.size", this, FoodCache::size)
+                .description("Foods held in the cache")
+                .register(registry);
+    }
+
+    private int size() {
+        int size = 0;
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                size += segment.size();
+            }
+        }
+        return size;
+    }
+
+    private Food get(Long foodId) {
+        Segment segment = segment(foodId);
+        synchronized (segment) {
+            return segment.get(foodId);
+        }
+    }
+
+    private void put(Food food) {
+        Segment segment = segment(food.getId());
+        synchronized (segment) {
+            segment.put(food.getId(), food);
+        }
+    }
+
+    private Segment segment(Long foodId) {
+        // 연속된 id가 한 구간에 몰리지 않도록 섞은 뒤 상위 비트를 쓴다
+        return segments[(Long.hashCode(foodId) * 0x9E3779B9) >>> (Integer.SIZE - Integer.numberOfTrailingZeros(SEGMENTS))];
+    }
+
+    private static final class Segment extends LinkedHashMap<Long, Food> {
+        private final int maxSize;
+
+        private Segment(int maxSize) {
+            super(16, 0.75f, true);
+            this.maxSize = maxSize;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, Food> eldest) {
+            return size() > maxSize;
+        }
+    }
+}
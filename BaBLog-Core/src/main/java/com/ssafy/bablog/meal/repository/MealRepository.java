@@ -10,11 +10,25 @@ import java.util.Optional;
 public interface MealRepository {
     Meal save(Meal meal);
 
+    /**
+     * [fromId, toId) 구간 회원의 하루치 기본 식단을 INSERT ... SELECT 한 번으로 생성한다.
+     * @return 새로 생성된 식단 수 (이미 존재하는 식단은 제외)
+     */
+    int createDefaultMealsInRange(long fromId, long toId, LocalDate mealDate);
+
     Optional<Meal> findById(Long mealId);
 
     List<Meal> findByMemberAndDate(Long memberId, LocalDate mealDate);
 
+    List<Meal> findByMemberAndDateRange(Long memberId, LocalDate from, LocalDate to);
+
     Optional<Meal> findByMemberAndTypeAndDate(Long memberId, MealType mealType, LocalDate mealDate);
 
     void adjustNutrition(Long mealId, Meal delta);
+
+    /**
+     * meal과 연결된 meal_log에 같은 델타를 한 번의 UPDATE로 반영한다.
+     * @return meal_log 행이 없어 반영하지 못했으면 false
+     */
+    boolean adjustNutritionWithLog(Long mealId, Meal delta);
 }
@@ -26,6 +26,12 @@ public class MealRepositoryImpl implements MealRepository {
         return meal;
     }
 
+    @Override
+    @Transactional
+    public int createDefaultMealsInRange(long fromId, long toId, LocalDate mealDate) {
+        return mealMapper.insertDefaultMealsInRange(fromId, toId, mealDate, List.of(MealType.values()));
+    }
+
     @Override
     public Optional<Meal> findById(Long mealId) {
         return Optional.ofNullable(mealMapper.findById(mealId));
@@ -36,6 +42,11 @@ public class MealRepositoryImpl implements MealRepository {
         return mealMapper.findByMemberAndDate(memberId, mealDate);
     }
 
+    @Override
+    public List<Meal> findByMemberAndDateRange(Long memberId, LocalDate from, LocalDate to) {
+        return mealMapper.findByMemberAndDateRange(memberId, from, to);
+    }
+
     @Override
     public Optional<Meal> findByMemberAndTypeAndDate(Long memberId, MealType mealType, LocalDate mealDate) {
         return Optional.ofNullable(mealMapper.findByMemberAndTypeAndDate(memberId, mealType, mealDate));
@@ -46,4 +57,9 @@ public class MealRepositoryImpl implements MealRepository {
     public void adjustNutrition(Long mealId, Meal delta) {
         mealMapper.adjustNutrition(mealId, delta);
     }
+
+    @Override
+    public boolean adjustNutritionWithLog(Long mealId, Meal delta) {
+        return mealMapper.adjustNutritionWithLog(mealId, delta) > 0;
+    }
 }
@@ -12,13 +12,24 @@ import java.util.List;
 public interface MealMapper {
     void insert(Meal meal);
 
+    int insertDefaultMealsInRange(@Param("fromId") long fromId,
+                                  @Param("toId") long toId,
+                                  @Param("mealDate") LocalDate mealDate,
+                                  @Param("mealTypes") List<MealType> mealTypes);
+
     Meal findById(@Param("id") Long id);
 
     List<Meal> findByMemberAndDate(@Param("memberId") Long memberId, @Param("mealDate") LocalDate mealDate);
 
+    List<Meal> findByMemberAndDateRange(@Param("memberId") Long memberId,
+                                        @Param("from") LocalDate from,
+                                        @Param("to") LocalDate to);
+
     Meal findByMemberAndTypeAndDate(@Param("memberId") Long memberId,
                                     @Param("mealType") MealType mealType,
                                     @Param("mealDate") LocalDate mealDate);
 
     void adjustNutrition(@Param("id") Long id, @Param("delta") Meal delta);
+
+    int adjustNutritionWithLog(@Param("id") Long id, @Param("delta") Meal delta);
 }
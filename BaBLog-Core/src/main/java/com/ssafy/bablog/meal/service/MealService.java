@@ -1,7 +1,7 @@
 package com.ssafy.bablog.meal.service;
 
 import com.ssafy.bablog.food.domain.Food;
-import com.ssafy.bablog.food.repository.FoodRepository;
+import com.ssafy.bablog.food.service.FoodCache;
 import com.ssafy.bablog.meal.domain.Meal;
 import com.ssafy.bablog.meal.domain.MealFood;
 import com.ssafy.bablog.meal.domain.MealType;
@@ -21,6 +21,7 @@ import com.ssafy.bablog.meal_log.repository.MealLogRepository;
 import com.ssafy.bablog.member_nutrient.domain.MemberNutrientDaily;
 import com.ssafy.bablog.member_nutrient.service.MemberNutrientService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -28,7 +29,9 @@ import org.springframework.web.server.ResponseStatusException;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -39,21 +42,41 @@ public class MealService {
 
     private final MealRepository mealRepository;
     private final MealFoodRepository mealFoodRepository;
-    private final FoodRepository foodRepository;
+    private final FoodCache foodCache;
     private final MealLogRepository mealLogRepository;
     private final MemberNutrientService memberNutrientService;
     private final MealReadSupport mealReadSupport;
 
+    // true면 기본 식단을 미리 만들지 않고 음식이 추가될 때 생성한다. 조회 API는 없는 타입을 빈 식단으로 채운다.
+    @Value("${meal.lazy-default-meals:false}")
+    private boolean lazyDefaultMeals;
+
     /**
      * Member 1명의 하루치 기본 Meal 레코드를 생성 (존재하면 건너뜀)
      */
     public void createDailyMeals(Long memberId, LocalDate mealDate) {
         memberNutrientService.ensureTodaySnapshot(memberId);
+        if (lazyDefaultMeals) {
+            return;
+        }
         for (MealType mealType : MealType.values()) {
             getOrCreateMeal(memberId, mealType, mealDate);
         }
     }
 
+    /**
+     * [fromId, toId) 구간 회원들의 하루치 기본 Meal을 set 기반으로 일괄 생성 (존재하면 건너뜀)
+     * 회원당 조회/삽입을 반복하지 않고 스냅샷 upsert 1회 + INSERT IGNORE ... SELECT 1회로 처리한다.
+     * @return 새로 생성된 Meal 수
+     */
+    public int createDailyMealsInRange(long fromId, long toId, LocalDate mealDate) {
+        memberNutrientService.ensureSnapshotsInRange(fromId, toId, mealDate);
+        if (lazyDefaultMeals) {
+            return 0;
+        }
+        return mealRepository.createDefaultMealsInRange(fromId, toId, mealDate);
+    }
+
     /**
      * 식단 추가
      * 식단에 Food 추가 및 영양소 누적
@@ -73,7 +96,7 @@ public class MealService {
         mealFoodRepository.save(mealFood);
 
         // 6. 추가한 음식의 영양 정보를 해당 날짜의 mealLog/meal에 누적하기
-        applyNutritionDelta(meal, food, command.getIntake());
+        adjustNutrition(meal, Meal.nutritionDelta(food, command.getIntake()));
 
         return new MealFoodAddition(meal, mealFood, food);
     }
@@ -89,7 +112,7 @@ public class MealService {
         Map<Long, List<MealFoodWithFood>> foodsByMeal = mealReadSupport.mealFoodsByMealIds(mealIds);
         Map<Long, MealLog> logsByMeal = mealReadSupport.mealLogsByMealIds(mealIds);
 
-        return meals.stream()
+        return withVirtualMeals(memberId, mealDate, meals).stream()
                 .map(meal -> new MealAggregate(
                         meal,
                         foodsByMeal.getOrDefault(meal.getId(), List.of()),
@@ -98,6 +121,33 @@ public class MealService {
                 .toList();
     }
 
+    /**
+     * from~to 날짜별 식단 (날짜 순). 식단/음식/meal_log를 기간 단위로 한 번씩 조회한다.
+     */
+    @Transactional(readOnly = true)
+    public Map<LocalDate, List<MealAggregate>> getMealsInRange(Long memberId, LocalDate from, LocalDate to) {
+        List<Meal> meals = mealRepository.findByMemberAndDateRange(memberId, from, to);
+        List<Long> mealIds = meals.stream().map(Meal::getId).toList();
+        Map<Long, List<MealFoodWithFood>> foodsByMeal = mealReadSupport.mealFoodsByMealIds(mealIds);
+        Map<Long, MealLog> logsByMeal = mealReadSupport.mealLogsByMealIds(mealIds);
+        Map<LocalDate, List<Meal>> mealsByDate = new HashMap<>();
+        for (Meal meal : meals) {
+            mealsByDate.computeIfAbsent(meal.getMealDate(), k -> new ArrayList<>()).add(meal);
+        }
+
+        Map<LocalDate, List<MealAggregate>> result = new LinkedHashMap<>();
+        for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+            result.put(date, withVirtualMeals(memberId, date, mealsByDate.getOrDefault(date, List.of())).stream()
+                    .map(meal -> new MealAggregate(
+                            meal,
+                            foodsByMeal.getOrDefault(meal.getId(), List.of()),
+                            logsByMeal.get(meal.getId())
+                    ))
+                    .toList());
+        }
+        return result;
+    }
+
     /**
      * 식단 단일 조회
      * BREAK_FAST 단일 조회, LUNCH 단일 조회...
@@ -119,14 +169,14 @@ public class MealService {
     public void deleteMealFood(Long memberId, Long mealFoodId) {
         MealFoodContext context = loadMealFoodContext(mealFoodId, memberId);
 
-        applyNutritionReverseDelta(context.meal(), context.food(), context.mealFood().getIntake());
+        adjustNutrition(context.meal(), Meal.reverseDelta(Meal.nutritionDelta(context.food(), context.mealFood().getIntake())));
 
         mealFoodRepository.deleteById(mealFoodId);
     }
 
     /**
      * mealfood 수정
-     * 식단 음식 수정 시 기존값만큼 차감 이후 새값만큼 증가
+     * 식단 음식 수정 시 (새값 - 기존값) 순 델타를 한 번만 반영
      */
     public MealAggregate updateMealFood(Long memberId, Long mealFoodId, MealFoodUpdateCommand command) {
         MealFoodContext context = loadMealFoodContext(mealFoodId, memberId);
@@ -147,13 +197,12 @@ public class MealService {
         BigDecimal newIntake = command.getIntake() != null ? command.getIntake() : oldIntake;
         String newUnit = command.getUnit() != null ? command.getUnit() : existing.getUnit();
 
-        // 기존 영양 차감
-        applyNutritionReverseDelta(context.meal(), oldFood, oldIntake);
-
-        // 신규 값 적용
         existing.update(newFood.getId(), newIntake, newUnit);
         mealFoodRepository.update(existing);
-        applyNutritionDelta(context.meal(), newFood, newIntake);
+
+        // 기존 영양 차감 + 신규 값 적용을 순 델타 하나로 반영
+        Meal netDelta = Meal.netDelta(Meal.nutritionDelta(newFood, newIntake), Meal.nutritionDelta(oldFood, oldIntake));
+        adjustNutrition(context.meal(), netDelta);
 
         return buildMealAggregate(context.meal());
     }
@@ -191,27 +240,24 @@ public class MealService {
     }
 
     private Food findFoodOrThrow(Long foodId) {
-        return foodRepository.findById(foodId)
+        return foodCache.findById(foodId)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "음식 정보를 찾을 수 없습니다."));
     }
 
+    /**
+     * meal/meal_log에 델타를 반영하고 member_daily_nutrition은 그 날의 meal_log 합으로 다시 계산
+     * meal_log 행이 있으면 UPDATE 한 번, 식단의 첫 음식이라 없을 때만 meal UPDATE + meal_log upsert
+     */
     private void adjustNutrition(Meal meal, Meal delta) {
-        mealRepository.adjustNutrition(meal.getId(), delta);
+        MealLog logDelta = MealLog.fromDelta(meal, delta);
+        if (!mealRepository.adjustNutritionWithLog(meal.getId(), delta)) {
+            mealRepository.adjustNutrition(meal.getId(), delta);
+            mealLogRepository.upsertNutrition(logDelta);
+        }
+        mealLogRepository.refreshDailyNutrition(logDelta);
         meal.applyNutritionDelta(delta);
     }
 
-    private void applyNutritionDelta(Meal meal, Food food, BigDecimal intake) {
-        Meal mealDelta = Meal.nutritionDelta(food, intake);
-        adjustNutrition(meal, mealDelta);
-        mealLogRepository.upsertNutrition(MealLog.from(meal, food, intake));
-    }
-
-    private void applyNutritionReverseDelta(Meal meal, Food food, BigDecimal intake) {
-        Meal reversedDelta = Meal.reverseDelta(Meal.nutritionDelta(food, intake));
-        adjustNutrition(meal, reversedDelta);
-        mealLogRepository.upsertNutrition(MealLog.from(meal, food, intake).reverseDelta());
-    }
-
     private MealFoodContext loadMealFoodContext(Long mealFoodId, Long memberId) {
         MealFood mealFood = mealFoodRepository.findById(mealFoodId)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "식단에 추가된 음식을 찾을 수 없습니다."));
@@ -220,7 +266,7 @@ public class MealService {
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "식단 정보를 찾을 수 없습니다."));
         ensureMealOwner(meal, memberId);
 
-        Food food = foodRepository.findById(mealFood.getFoodId())
+        Food food = foodCache.findById(mealFood.getFoodId())
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "음식 정보를 찾을 수 없습니다."));
 
         return new MealFoodContext(meal, mealFood, food);
@@ -237,6 +283,22 @@ public class MealService {
         );
     }
 
+    /**
+     * 저장되지 않은 식사 타입을 id 없는 빈 식단으로 채워 BREAKFAST~SNACK 순서로 반환
+     */
+    private List<Meal> withVirtualMeals(Long memberId, LocalDate mealDate, List<Meal> meals) {
+        if (meals.size() == MealType.values().length) {
+            return meals;
+        }
+        Map<MealType, Meal> mealsByType = indexMealsByType(meals);
+        List<Meal> result = new ArrayList<>();
+        for (MealType mealType : MealType.values()) {
+            Meal meal = mealsByType.get(mealType);
+            result.add(meal != null ? meal : Meal.create(memberId, mealType, mealDate));
+        }
+        return result;
+    }
+
     private Map<MealType, Meal> indexMealsByType(List<Meal> meals) {
         Map<MealType, Meal> map = new HashMap<>();
         for (Meal meal : meals) {
@@ -1,6 +1,7 @@
 package com.ssafy.bablog.meal.service.dto;
 
 import com.ssafy.bablog.meal.domain.Meal;
+import com.ssafy.bablog.meal.domain.NutrientVector;
 import com.ssafy.bablog.meal_log.domain.MealLog;
 import com.ssafy.bablog.member_nutrient.domain.MemberNutrientDaily;
 import java.math.BigDecimal;
@@ -87,24 +88,21 @@ public class NutritionSummary {
         );
     }
 
-    public void addFromMeal(Meal meal) {
-        if (meal == null) {
-            return;
-        }
-        this.kcal = add(this.kcal, meal.getKcal());
-        this.protein = add(this.protein, meal.getProtein());
-        this.fat = add(this.fat, meal.getFat());
-        this.saturatedFat = add(this.saturatedFat, meal.getSaturatedFat());
-        this.transFat = add(this.transFat, meal.getTransFat());
-        this.carbohydrates = add(this.carbohydrates, meal.getCarbohydrates());
-        this.sugar = add(this.sugar, meal.getSugar());
-        this.natrium = add(this.natrium, meal.getNatrium());
-        this.cholesterol = add(this.cholesterol, meal.getCholesterol());
+    public static NutritionSummary from(NutrientVector nutrients) {
+        return new NutritionSummary(
+                nutrients.getOrZero(NutrientVector.KCAL),
+                nutrients.getOrZero(NutrientVector.PROTEIN),
+                nutrients.getOrZero(NutrientVector.FAT),
+                nutrients.getOrZero(NutrientVector.SATURATED_FAT),
+                nutrients.getOrZero(NutrientVector.TRANS_FAT),
+                nutrients.getOrZero(NutrientVector.CARBOHYDRATES),
+                nutrients.getOrZero(NutrientVector.SUGAR),
+                nutrients.getOrZero(NutrientVector.NATRIUM),
+                nutrients.getOrZero(NutrientVector.CHOLESTEROL)
+        );
     }
 
-    private BigDecimal add(BigDecimal base, BigDecimal value) {
-        BigDecimal safeBase = base == null ? BigDecimal.ZERO : base;
-        BigDecimal safeValue = value == null ? BigDecimal.ZERO : value;
-        return safeBase.add(safeValue);
+    public NutrientVector toNutrientVector() {
+        return NutrientVector.of(kcal, protein, fat, saturatedFat, transFat, carbohydrates, sugar, natrium, cholesterol);
     }
 }
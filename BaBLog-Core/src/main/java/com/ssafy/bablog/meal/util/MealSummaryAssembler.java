@@ -4,6 +4,7 @@ import com.ssafy.bablog.meal.service.dto.MealSummary;
 import com.ssafy.bablog.meal.service.dto.NutritionSummary;
 import com.ssafy.bablog.meal.domain.Meal;
 import com.ssafy.bablog.meal.domain.MealType;
+import com.ssafy.bablog.meal.domain.NutrientVector;
 import com.ssafy.bablog.meal.repository.mapper.MealFoodWithFood;
 import java.math.BigDecimal;
 import java.time.LocalDate;
@@ -17,11 +18,11 @@ public final class MealSummaryAssembler {
     }
 
     public static NutritionSummary sumTotals(List<Meal> meals) {
-        NutritionSummary totals = NutritionSummary.zero();
+        NutrientVector totals = NutrientVector.zero();
         for (Meal meal : meals) {
-            totals.addFromMeal(meal);
+            totals.add(meal.toNutrientVector());
         }
-        return totals;
+        return NutritionSummary.from(totals);
     }
 
     public static List<MealSummary> buildSummaries(
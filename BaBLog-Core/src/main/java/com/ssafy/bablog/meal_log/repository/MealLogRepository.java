@@ -9,6 +9,12 @@ import java.util.List;
 public interface MealLogRepository {
     void upsertNutrition(MealLog mealLog);
 
+    /**
+     * mealLog의 회원/일자에 해당하는 member_daily_nutrition(회원/일자 합계)을 그 날의 meal_log 합으로 다시 계산.
+     * meal_log에 델타를 반영한 뒤 같은 트랜잭션에서 호출한다.
+     */
+    void refreshDailyNutrition(MealLog mealLog);
+
     List<MealLog> findByMealIds(List<Long> mealIds);
 
     MealLogDailyTotal findDailyTotal(Long memberId, LocalDate targetDate);
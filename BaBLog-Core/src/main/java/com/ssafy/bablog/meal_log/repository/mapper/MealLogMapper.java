@@ -12,6 +12,8 @@ import java.util.List;
 public interface MealLogMapper {
     void upsert(MealLog mealLog);
 
+    void refreshDailyNutrition(MealLog mealLog);
+
     List<MealLog> findByMealIds(List<Long> mealIds);
 
     MealLogDailyTotal findDailyTotal(@Param("memberId") Long memberId,
@@ -1,6 +1,7 @@
 package com.ssafy.bablog.member.repository;
 
 import com.ssafy.bablog.member.domain.Member;
+import com.ssafy.bablog.member.repository.mapper.MemberIdRange;
 
 import java.util.List;
 import java.util.Optional;
@@ -24,4 +25,14 @@ public interface MemberRepository {
      * 스케줄러에서 전 회원을 순회할 때 사용.
      */
     List<Long> findAllIds();
+
+    /**
+     * afterId 초과, toId 미만 구간의 회원 id를 오름차순으로 limit개 조회 (keyset 페이징).
+     */
+    List<Long> findIdsAfter(Long afterId, Long toId, int limit);
+
+    /**
+     * 회원 id를 gridSize 개 구간으로 나눈 경계값. 배치 파티셔닝에 사용.
+     */
+    List<MemberIdRange> findIdRanges(int gridSize);
 }
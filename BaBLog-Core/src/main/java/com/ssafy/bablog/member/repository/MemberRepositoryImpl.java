@@ -1,6 +1,7 @@
 package com.ssafy.bablog.member.repository;
 
 import com.ssafy.bablog.member.domain.Member;
+import com.ssafy.bablog.member.repository.mapper.MemberIdRange;
 import com.ssafy.bablog.member.repository.mapper.MemberMapper;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
@@ -60,4 +61,14 @@ public class MemberRepositoryImpl implements MemberRepository {
     public java.util.List<Long> findAllIds() {
         return memberMapper.findAllIds();
     }
+
+    @Override
+    public java.util.List<Long> findIdsAfter(Long afterId, Long toId, int limit) {
+        return memberMapper.findIdsAfter(afterId, toId, limit);
+    }
+
+    @Override
+    public java.util.List<MemberIdRange> findIdRanges(int gridSize) {
+        return memberMapper.findIdRanges(gridSize);
+    }
 }
@@ -0,0 +1,14 @@
+package com.ssafy.bablog.member.repository.mapper;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 회원 id를 N등분했을 때 한 구간의 최소/최대 id.
+ */
+@Getter
+@Setter
+public class MemberIdRange {
+    private Long minId;
+    private Long maxId;
+}
@@ -3,6 +3,7 @@ package com.ssafy.bablog.member.repository.mapper;
 import com.ssafy.bablog.member.domain.Member;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.cursor.Cursor;
 
 @Mapper
 public interface MemberMapper {
@@ -21,4 +22,12 @@ public interface MemberMapper {
     void deleteById(@Param("id") Long id);
 
     java.util.List<Long> findAllIds();
+
+    java.util.List<Long> findIdsAfter(@Param("afterId") Long afterId,
+                                      @Param("toId") Long toId,
+                                      @Param("limit") int limit);
+
+    java.util.List<MemberIdRange> findIdRanges(@Param("gridSize") int gridSize);
+
+    Cursor<Long> streamIdsAfter(@Param("afterId") Long afterId, @Param("toId") Long toId);
 }
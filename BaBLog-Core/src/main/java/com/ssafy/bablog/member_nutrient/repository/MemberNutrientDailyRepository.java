@@ -9,6 +9,11 @@ import java.util.Optional;
 public interface MemberNutrientDailyRepository {
     void upsert(MemberNutrientDaily daily);
 
+    /**
+     * [fromId, toId) 구간 회원의 현재 목표 영양소를 date 스냅샷으로 일괄 저장한다.
+     */
+    int upsertSnapshotsInRange(long fromId, long toId, LocalDate date);
+
     Optional<MemberNutrientDaily> findByMemberAndDate(Long memberId, LocalDate date);
 
     List<MemberNutrientDaily> findRange(Long memberId, LocalDate from, LocalDate to);
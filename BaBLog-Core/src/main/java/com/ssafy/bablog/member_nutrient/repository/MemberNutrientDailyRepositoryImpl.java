@@ -24,6 +24,12 @@ public class MemberNutrientDailyRepositoryImpl implements MemberNutrientDailyRep
         mapper.upsert(daily);
     }
 
+    @Override
+    @Transactional
+    public int upsertSnapshotsInRange(long fromId, long toId, LocalDate date) {
+        return mapper.upsertSnapshotsInRange(fromId, toId, date);
+    }
+
     @Override
     public Optional<MemberNutrientDaily> findByMemberAndDate(Long memberId, LocalDate date) {
         return Optional.ofNullable(mapper.findByMemberAndDate(memberId, date));
@@ -11,6 +11,10 @@ import java.util.List;
 public interface MemberNutrientDailyMapper {
     void upsert(MemberNutrientDaily daily);
 
+    int upsertSnapshotsInRange(@Param("fromId") long fromId,
+                               @Param("toId") long toId,
+                               @Param("targetDate") LocalDate targetDate);
+
     MemberNutrientDaily findByMemberAndDate(@Param("memberId") Long memberId, @Param("targetDate") LocalDate targetDate);
 
     List<MemberNutrientDaily> findRange(@Param("memberId") Long memberId,
@@ -14,8 +14,8 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
 
-import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.Map;
 import java.util.Optional;
 
 @Service
@@ -26,6 +26,7 @@ public class MemberNutrientService {
     private final MemberNutrientRepository memberNutrientRepository;
     private final MemberNutrientDailyRepository memberNutrientDailyRepository;
     private final MemberRepository memberRepository;
+    private final MemberNutrientCache memberNutrientCache;
 
     /**
      * 가입 시 키/몸무게가 모두 존재하면 권장 섭취량을 저장한다.
@@ -81,52 +82,19 @@ public class MemberNutrientService {
     }
 
     /**
-     * 특정 날짜의 목표 스냅샷 조회
+     * 특정 날짜의 목표 스냅샷 조회 (회원 확인/스냅샷/기본값 모두 MemberNutrientCache를 거친다)
      */
     @Transactional(readOnly = true)
     public MemberNutrientDaily getDaily(Long memberId, LocalDate date) {
-        // 존재하는 회원인지 확인
-        getMember(memberId);
-
-        // 1순위: 일별 스냅샷
-        Optional<MemberNutrientDaily> daily = memberNutrientDailyRepository.findByMemberAndDate(memberId, date);
-        if (daily.isPresent()) {
-            return daily.get();
-        }
-
-        // 2순위: 현재 member_nutrient를 날짜에 맞춰 스냅샷 형태로 반환
-        Optional<MemberNutrient> base = memberNutrientRepository.findByMemberId(memberId);
-        if (base.isPresent()) {
-            MemberNutrient nutrient = base.get();
-            return MemberNutrientDaily.builder()
-                    .memberId(memberId)
-                    .targetDate(date)
-                    .kcal(nutrient.getKcal())
-                    .protein(nutrient.getProtein())
-                    .fat(nutrient.getFat())
-                    .saturatedFat(nutrient.getSaturatedFat())
-                    .transFat(nutrient.getTransFat())
-                    .carbohydrates(nutrient.getCarbohydrates())
-                    .sugar(nutrient.getSugar())
-                    .natrium(nutrient.getNatrium())
-                    .cholesterol(nutrient.getCholesterol())
-                    .build();
-        }
+        return memberNutrientCache.getDaily(memberId, date);
+    }
 
-        // 3순위: 아무 데이터도 없으면 0으로 채운 스냅샷 반환
-        return MemberNutrientDaily.builder()
-                .memberId(memberId)
-                .targetDate(date)
-                .kcal(BigDecimal.ZERO)
-                .protein(BigDecimal.ZERO)
-                .fat(BigDecimal.ZERO)
-                .saturatedFat(BigDecimal.ZERO)
-                .transFat(BigDecimal.ZERO)
-                .carbohydrates(BigDecimal.ZERO)
-                .sugar(BigDecimal.ZERO)
-                .natrium(BigDecimal.ZERO)
-                .cholesterol(BigDecimal.ZERO)
-                .build();
+    /**
+     * 기간의 목표 스냅샷을 날짜 순으로 조회. 스냅샷이 없는 날은 현재 member_nutrient(없으면 0)로 채운다.
+     */
+    @Transactional(readOnly = true)
+    public Map<LocalDate, MemberNutrientDaily> getDailyRange(Long memberId, LocalDate from, LocalDate to) {
+        return memberNutrientCache.getDailyRange(memberId, from, to);
     }
 
     // -------------------- private --------------------
@@ -149,27 +117,28 @@ public class MemberNutrientService {
     }
 
     public void ensureTodaySnapshot(Long memberId) {
+        // 오늘 스냅샷이 이미 저장돼 있으면 다시 쓰지 않는다 (목표가 바뀌면 그때 오늘 스냅샷을 갱신한다)
+        if (memberNutrientCache.hasStoredSnapshot(memberId, LocalDate.now())) {
+            return;
+        }
         Member member = getMember(memberId);
         memberNutrientRepository.findByMemberId(memberId).ifPresent(n -> upsertDaily(memberId, LocalDate.now(), n));
     }
 
+    /**
+     * [fromId, toId) 구간 회원의 목표 영양소 스냅샷을 한 번에 저장 (배치 전용)
+     */
+    public int ensureSnapshotsInRange(long fromId, long toId, LocalDate date) {
+        int saved = memberNutrientDailyRepository.upsertSnapshotsInRange(fromId, toId, date);
+        memberNutrientCache.invalidateAll();
+        return saved;
+    }
+
     private void upsertDaily(Long memberId, LocalDate date, MemberNutrient nutrient) {
         if (nutrient == null) {
             return;
         }
-        MemberNutrientDaily daily = MemberNutrientDaily.builder()
-                .memberId(memberId)
-                .targetDate(date)
-                .kcal(nutrient.getKcal())
-                .protein(nutrient.getProtein())
-                .fat(nutrient.getFat())
-                .saturatedFat(nutrient.getSaturatedFat())
-                .transFat(nutrient.getTransFat())
-                .carbohydrates(nutrient.getCarbohydrates())
-                .sugar(nutrient.getSugar())
-                .natrium(nutrient.getNatrium())
-                .cholesterol(nutrient.getCholesterol())
-                .build();
-        memberNutrientDailyRepository.upsert(daily);
+        memberNutrientDailyRepository.upsert(MemberNutrientDaily.of(memberId, date, nutrient));
+        memberNutrientCache.invalidate(memberId);
     }
 }
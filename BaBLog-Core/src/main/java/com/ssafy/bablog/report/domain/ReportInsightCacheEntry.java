@@ -0,0 +1,23 @@
+package com.ssafy.bablog.report.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReportInsightCacheEntry {
+    private String cacheKey;
+    private String reportType;
+    private String promptVersion;
+    private String resultJson;
+    private LocalDateTime expiresAt;
+    private LocalDateTime createdAt;
+}
@@ -10,7 +10,17 @@ import java.util.Optional;
 public interface DailyReportRepository {
     void upsert(DailyReport report);
 
+    /**
+     * 여러 리포트를 한 번의 multi-row upsert로 저장한다. 배치 writer에서 chunk 단위로 사용.
+     */
+    void upsertAll(List<DailyReport> reports);
+
     Optional<DailyReport> findByMemberAndDate(Long memberId, LocalDate reportDate);
 
+    /**
+     * 기간 내 일간 리포트의 날짜/metrics만 조회한다. 주간 리포트 입력 구성용.
+     */
+    List<DailyReport> findMetricsByMemberAndRange(Long memberId, LocalDate startDate, LocalDate endDate);
+
     List<DailyScorePoint> findScoresByMemberAndRange(Long memberId, LocalDate startDate, LocalDate endDate);
 }
@@ -21,11 +21,24 @@ public class DailyReportRepositoryImpl implements DailyReportRepository {
         mapper.upsert(report);
     }
 
+    @Override
+    public void upsertAll(List<DailyReport> reports) {
+        if (reports == null || reports.isEmpty()) {
+            return;
+        }
+        mapper.upsertAll(reports);
+    }
+
     @Override
     public Optional<DailyReport> findByMemberAndDate(Long memberId, LocalDate reportDate) {
         return Optional.ofNullable(mapper.findByMemberAndDate(memberId, reportDate));
     }
 
+    @Override
+    public List<DailyReport> findMetricsByMemberAndRange(Long memberId, LocalDate startDate, LocalDate endDate) {
+        return mapper.findMetricsByMemberAndRange(memberId, startDate, endDate);
+    }
+
     @Override
     public List<DailyScorePoint> findScoresByMemberAndRange(Long memberId, LocalDate startDate, LocalDate endDate) {
         return mapper.findScoresByMemberAndRange(memberId, startDate, endDate);
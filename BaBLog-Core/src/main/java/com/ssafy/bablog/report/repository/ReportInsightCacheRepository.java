@@ -0,0 +1,14 @@
+package com.ssafy.bablog.report.repository;
+
+import com.ssafy.bablog.report.domain.ReportInsightCacheEntry;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+public interface ReportInsightCacheRepository {
+    void upsert(ReportInsightCacheEntry entry);
+
+    Optional<ReportInsightCacheEntry> findValid(String cacheKey, LocalDateTime now);
+
+    int deleteExpired(LocalDateTime now);
+}
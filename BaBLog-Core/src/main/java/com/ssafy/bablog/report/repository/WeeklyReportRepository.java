@@ -3,10 +3,16 @@ package com.ssafy.bablog.report.repository;
 import com.ssafy.bablog.report.domain.WeeklyReport;
 
 import java.time.LocalDate;
+import java.util.List;
 import java.util.Optional;
 
 public interface WeeklyReportRepository {
     void upsert(WeeklyReport report);
 
+    /**
+     * 여러 리포트를 한 번의 multi-row upsert로 저장한다. 배치 writer에서 chunk 단위로 사용.
+     */
+    void upsertAll(List<WeeklyReport> reports);
+
     Optional<WeeklyReport> findByMemberAndRange(Long memberId, LocalDate startDate, LocalDate endDate);
 }
@@ -6,6 +6,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -19,6 +20,14 @@ public class WeeklyReportRepositoryImpl implements WeeklyReportRepository {
         mapper.upsert(report);
     }
 
+    @Override
+    public void upsertAll(List<WeeklyReport> reports) {
+        if (reports == null || reports.isEmpty()) {
+            return;
+        }
+        mapper.upsertAll(reports);
+    }
+
     @Override
     public Optional<WeeklyReport> findByMemberAndRange(Long memberId, LocalDate startDate, LocalDate endDate) {
         return Optional.ofNullable(mapper.findByMemberAndRange(memberId, startDate, endDate));
@@ -13,9 +13,15 @@ import com.ssafy.bablog.report.service.dto.DailyScorePoint;
 public interface DailyReportMapper {
     void upsert(DailyReport report);
 
+    void upsertAll(@Param("reports") List<DailyReport> reports);
+
     DailyReport findByMemberAndDate(@Param("memberId") Long memberId,
                                     @Param("reportDate") LocalDate reportDate);
 
+    List<DailyReport> findMetricsByMemberAndRange(@Param("memberId") Long memberId,
+                                                  @Param("startDate") LocalDate startDate,
+                                                  @Param("endDate") LocalDate endDate);
+
     List<DailyScorePoint> findScoresByMemberAndRange(@Param("memberId") Long memberId,
                                                      @Param("startDate") LocalDate startDate,
                                                      @Param("endDate") LocalDate endDate);
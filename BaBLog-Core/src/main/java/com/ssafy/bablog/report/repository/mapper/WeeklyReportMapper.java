@@ -5,11 +5,14 @@ import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 
 import java.time.LocalDate;
+import java.util.List;
 
 @Mapper
 public interface WeeklyReportMapper {
     void upsert(WeeklyReport report);
 
+    void upsertAll(@Param("reports") List<WeeklyReport> reports);
+
     WeeklyReport findByMemberAndRange(@Param("memberId") Long memberId,
                                       @Param("startDate") LocalDate startDate,
                                       @Param("endDate") LocalDate endDate);
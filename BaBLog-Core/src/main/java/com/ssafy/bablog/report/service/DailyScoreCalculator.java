@@ -0,0 +1,341 @@
+package com.ssafy.bablog.report.service;
+
+import com.ssafy.bablog.report.service.dto.DailyScoreResult;
+import com.ssafy.bablog.report.service.dto.NutritionSnapshot;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * AI_EVALUATION_GUIDE.md 의 일간 100점 채점표와 주간 리스크 플래그를 그대로 옮긴 규칙 기반 채점기.
+ * 외부 호출 없이 순수 계산만 하므로 같은 입력이면 항상 같은 점수가 나온다.
+ */
+@Component
+public class DailyScoreCalculator {
+
+    public static final int MAX_KCAL = 25;
+    public static final int MAX_MACRO = 20;
+    public static final int MAX_PROTEIN = 10;
+    public static final int MAX_SUGAR = 8;
+    public static final int MAX_NATRIUM = 8;
+    public static final int MAX_SATURATED_FAT = 6;
+    public static final int MAX_TRANS_FAT = 3;
+    public static final int MAX_CHOLESTEROL = 3;
+    public static final int MAX_MEAL_PATTERN = 10;
+    public static final int MAX_FOOD_VARIETY = 7;
+    public static final int MAX_TOTAL = 100;
+
+    // 주간 리스크 플래그: 해당 조건을 만족한 날이 N일 이상이면 표시
+    static final int HIGH_NATRIUM_DAYS = 3;
+    static final int HIGH_SUGAR_DAYS = 3;
+    static final int IRREGULAR_MEAL_DAYS = 4;
+    static final int MACRO_IMBALANCE_DAYS = 5;
+    private static final double RISK_RATIO = 150;
+
+    // 3대 영양소 적정 에너지 비율(%)과 항목별 배점 (합 20점)
+    private static final double CARB_MIN = 45;
+    private static final double CARB_MAX = 65;
+    private static final double PROTEIN_MIN = 10;
+    private static final double PROTEIN_MAX = 30;
+    private static final double FAT_MIN = 20;
+    private static final double FAT_MAX = 35;
+    private static final int CARB_POINTS = 7;
+    private static final int PROTEIN_POINTS = 7;
+    private static final int FAT_POINTS = 6;
+
+    public DailyScoreResult calculate(NutritionSnapshot actual,
+                                      NutritionSnapshot target,
+                                      int mainMealCount,
+                                      double snackRatio,
+                                      double dinnerRatio,
+                                      int foodVariety) {
+        double kcalRatio = percent(actual.getKcal(), target.getKcal());
+        double proteinRatio = percent(actual.getProtein(), target.getProtein());
+
+        double carbEnergy = toDouble(actual.getCarbohydrates()) * 4;
+        double proteinEnergy = toDouble(actual.getProtein()) * 4;
+        double fatEnergy = toDouble(actual.getFat()) * 9;
+        double macroEnergy = carbEnergy + proteinEnergy + fatEnergy;
+        double carbPct = macroEnergy > 0 ? carbEnergy / macroEnergy * 100 : 0;
+        double proteinPct = macroEnergy > 0 ? proteinEnergy / macroEnergy * 100 : 0;
+        double fatPct = macroEnergy > 0 ? fatEnergy / macroEnergy * 100 : 0;
+
+        // 목표치가 없는 항목은 채점하지 않고, 채점한 항목의 만점 합으로 100점 환산한다.
+        Map<String, Integer> nutrientScores = new HashMap<>();
+        int available = MAX_MACRO + MAX_MEAL_PATTERN + MAX_FOOD_VARIETY;
+        available += putScore(nutrientScores, "kcal", kcalRatio, MAX_KCAL, scoreKcal(kcalRatio));
+        nutrientScores.put("macroBalance", macroEnergy > 0
+                ? scoreMacro(carbPct, CARB_MIN, CARB_MAX, CARB_POINTS)
+                + scoreMacro(proteinPct, PROTEIN_MIN, PROTEIN_MAX, PROTEIN_POINTS)
+                + scoreMacro(fatPct, FAT_MIN, FAT_MAX, FAT_POINTS)
+                : 0);
+        available += putScore(nutrientScores, "protein", proteinRatio, MAX_PROTEIN, scoreProtein(proteinRatio));
+        double sugarRatio = percent(actual.getSugar(), target.getSugar());
+        available += putScore(nutrientScores, "sugar", sugarRatio, MAX_SUGAR, scoreUpperLimit(sugarRatio, 8, 6, 3));
+        double natriumRatio = percent(actual.getNatrium(), target.getNatrium());
+        available += putScore(nutrientScores, "natrium", natriumRatio, MAX_NATRIUM, scoreUpperLimit(natriumRatio, 8, 6, 3));
+        double saturatedFatRatio = percent(actual.getSaturatedFat(), target.getSaturatedFat());
+        available += putScore(nutrientScores, "saturatedFat", saturatedFatRatio, MAX_SATURATED_FAT,
+                scoreUpperLimit(saturatedFatRatio, 6, 4, 2));
+        double transFatRatio = percent(actual.getTransFat(), target.getTransFat());
+        available += putScore(nutrientScores, "transFat", transFatRatio, MAX_TRANS_FAT, scoreTransFat(transFatRatio));
+        double cholesterolRatio = percent(actual.getCholesterol(), target.getCholesterol());
+        available += putScore(nutrientScores, "cholesterol", cholesterolRatio, MAX_CHOLESTEROL,
+                scoreUpperLimit(cholesterolRatio, 3, 2, 1));
+        nutrientScores.put("mealPattern", scoreMealPattern(mainMealCount, snackRatio, dinnerRatio));
+        nutrientScores.put("foodVariety", scoreFoodVariety(foodVariety));
+
+        int earned = nutrientScores.values().stream().mapToInt(Integer::intValue).sum();
+        int total = available == MAX_TOTAL ? earned : (int) Math.round(earned * (double) MAX_TOTAL / available);
+
+        Map<String, Object> metrics = new HashMap<>();
+        metrics.put("kcalRatio", round(kcalRatio));
+        metrics.put("proteinRatio", round(proteinRatio));
+        metrics.put("carbohydratePct", round(carbPct));
+        metrics.put("proteinPct", round(proteinPct));
+        metrics.put("fatPct", round(fatPct));
+
+        return DailyScoreResult.builder()
+                .totalScore(total)
+                .grade(grade(total))
+                .nutrientScores(nutrientScores)
+                .metrics(metrics)
+                .build();
+    }
+
+    /**
+     * 주간 리스크 플래그. AI_EVALUATION_GUIDE.md 기준으로 기간 중 조건을 만족한 날 수를 센다.
+     * dailyMetrics는 daily_report.metrics 형태(actual/target/mealPattern)이며, 기록이 없는 날과 목표가 없는 항목은 세지 않는다.
+     */
+    public List<String> weeklyRiskFlags(List<Map<String, Object>> dailyMetrics) {
+        int highNatriumDays = 0;
+        int highSugarDays = 0;
+        int irregularMealDays = 0;
+        int macroImbalanceDays = 0;
+        for (Map<String, Object> day : dailyMetrics) {
+            Map<?, ?> actual = asMap(day.get("actual"));
+            Map<?, ?> target = asMap(day.get("target"));
+            if (toDouble(number(actual.get("kcal"))) <= 0) {
+                continue;
+            }
+            if (percent(number(actual.get("natrium")), number(target.get("natrium"))) >= RISK_RATIO) {
+                highNatriumDays++;
+            }
+            if (percent(number(actual.get("sugar")), number(target.get("sugar"))) >= RISK_RATIO) {
+                highSugarDays++;
+            }
+            Map<?, ?> pattern = asMap(day.get("mealPattern"));
+            // mainMealCount가 없는 이전 metrics는 간식을 포함한 끼니 수로 대신한다.
+            Object mainMealCount = pattern.containsKey("mainMealCount") ? pattern.get("mainMealCount") : pattern.get("mealCount");
+            if (toDouble(number(mainMealCount)) <= 2) {
+                irregularMealDays++;
+            }
+            if (!macroInRange(number(actual.get("carbohydrates")), number(actual.get("protein")), number(actual.get("fat")))) {
+                macroImbalanceDays++;
+            }
+        }
+
+        List<String> riskFlags = new ArrayList<>();
+        if (highNatriumDays >= HIGH_NATRIUM_DAYS) {
+            riskFlags.add("고나트륨");
+        }
+        if (highSugarDays >= HIGH_SUGAR_DAYS) {
+            riskFlags.add("고당류");
+        }
+        if (irregularMealDays >= IRREGULAR_MEAL_DAYS) {
+            riskFlags.add("불규칙 식사");
+        }
+        if (macroImbalanceDays >= MACRO_IMBALANCE_DAYS) {
+            riskFlags.add("영양 불균형");
+        }
+        return riskFlags;
+    }
+
+    public static String grade(int score) {
+        if (score >= 90) {
+            return "매우 우수";
+        }
+        if (score >= 80) {
+            return "우수";
+        }
+        if (score >= 70) {
+            return "보통";
+        }
+        if (score >= 60) {
+            return "개선 필요";
+        }
+        return "집중 개선 필요";
+    }
+
+    static int scoreKcal(double ratio) {
+        if (ratio >= 95 && ratio <= 105) {
+            return 25;
+        }
+        if (ratio >= 90 && ratio <= 110) {
+            return 22;
+        }
+        if (ratio >= 80 && ratio <= 120) {
+            return 16;
+        }
+        if (ratio >= 70 && ratio <= 130) {
+            return 10;
+        }
+        if (ratio >= 60 && ratio <= 140) {
+            return 5;
+        }
+        return 0;
+    }
+
+    static int scoreMacro(double pct, double min, double max, int points) {
+        double deviation = pct < min ? min - pct : Math.max(0, pct - max);
+        if (deviation == 0) {
+            return points;
+        }
+        if (deviation <= 5) {
+            return Math.max(0, points - 2);
+        }
+        if (deviation <= 10) {
+            return Math.max(0, points - 4);
+        }
+        if (deviation <= 15) {
+            return Math.max(0, points - 6);
+        }
+        return 0;
+    }
+
+    static int scoreProtein(double ratio) {
+        if (ratio >= 90 && ratio <= 110) {
+            return 10;
+        }
+        if (ratio >= 80 && ratio <= 120) {
+            return 7;
+        }
+        if (ratio >= 70 && ratio <= 130) {
+            return 4;
+        }
+        if (ratio >= 60 && ratio <= 150) {
+            return 2;
+        }
+        return 0;
+    }
+
+    // 상한형 항목: 100% 이하 / 120% 이하 / 150% 이하 / 초과
+    static int scoreUpperLimit(double ratio, int full, int within120, int within150) {
+        if (ratio <= 100) {
+            return full;
+        }
+        if (ratio <= 120) {
+            return within120;
+        }
+        if (ratio <= 150) {
+            return within150;
+        }
+        return 0;
+    }
+
+    static int scoreTransFat(double ratio) {
+        if (ratio <= 100) {
+            return 3;
+        }
+        if (ratio <= 110) {
+            return 1;
+        }
+        return 0;
+    }
+
+    static int scoreMealPattern(int mainMealCount, double snackRatio, double dinnerRatio) {
+        int score;
+        if (mainMealCount >= 3) {
+            score = 10;
+        } else if (mainMealCount == 2) {
+            score = 6;
+        } else if (mainMealCount == 1) {
+            score = 2;
+        } else {
+            return 0;
+        }
+        if (snackRatio > 0.30) {
+            score -= 1;
+        }
+        if (dinnerRatio > 0.50) {
+            score -= 1;
+        }
+        return Math.max(0, score);
+    }
+
+    static int scoreFoodVariety(int foodVariety) {
+        if (foodVariety >= 10) {
+            return 7;
+        }
+        if (foodVariety >= 7) {
+            return 5;
+        }
+        if (foodVariety >= 4) {
+            return 3;
+        }
+        if (foodVariety >= 1) {
+            return 1;
+        }
+        return 0;
+    }
+
+    // 목표치가 없거나 0이면 NaN(채점하지 않음)을 돌려준다.
+    static double percent(BigDecimal actual, BigDecimal target) {
+        double targetValue = toDouble(target);
+        if (targetValue <= 0) {
+            return Double.NaN;
+        }
+        return toDouble(actual) / targetValue * 100;
+    }
+
+    // 채점 가능한 항목만 점수를 넣고 만점을 돌려준다 (채점하지 않으면 0)
+    private static int putScore(Map<String, Integer> scores, String key, double ratio, int max, int score) {
+        if (Double.isNaN(ratio)) {
+            return 0;
+        }
+        scores.put(key, score);
+        return max;
+    }
+
+    private static boolean macroInRange(BigDecimal carbohydrates, BigDecimal protein, BigDecimal fat) {
+        double carbEnergy = toDouble(carbohydrates) * 4;
+        double proteinEnergy = toDouble(protein) * 4;
+        double fatEnergy = toDouble(fat) * 9;
+        double macroEnergy = carbEnergy + proteinEnergy + fatEnergy;
+        return macroEnergy > 0
+                && inRange(carbEnergy / macroEnergy * 100, CARB_MIN, CARB_MAX)
+                && inRange(proteinEnergy / macroEnergy * 100, PROTEIN_MIN, PROTEIN_MAX)
+                && inRange(fatEnergy / macroEnergy * 100, FAT_MIN, FAT_MAX);
+    }
+
+    private static Map<?, ?> asMap(Object value) {
+        return value instanceof Map<?, ?> map ? map : Map.of();
+    }
+
+    // 저장된 metrics JSON을 다시 읽으면 Integer/Double, 새로 만든 값은 BigDecimal이다.
+    private static BigDecimal number(Object value) {
+        if (value instanceof BigDecimal decimal) {
+            return decimal;
+        }
+        return value instanceof Number number ? new BigDecimal(number.toString()) : null;
+    }
+
+    private static boolean inRange(double value, double min, double max) {
+        return value >= min && value <= max;
+    }
+
+    private static double toDouble(BigDecimal value) {
+        return value == null ? 0 : value.doubleValue();
+    }
+
+    private static Double round(double value) {
+        if (Double.isInfinite(value) || Double.isNaN(value)) {
+            return null;
+        }
+        return Math.round(value * 10) / 10.0;
+    }
+}
@@ -2,20 +2,54 @@ package com.ssafy.bablog.report.service;
 
 import com.ssafy.bablog.report.service.dto.AiDailyReportResult;
 import com.ssafy.bablog.report.service.dto.AiWeeklyReportResult;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
 
 @Service
 @Profile("test")
 public class MockReportAiService implements ReportAiClient {
 
+    // 실제 LLM 응답 시간을 흉내 내기 위한 지연(ms). 배치 처리량 측정 시 수 초 단위로 올려서 사용한다.
+    @Value("${report.ai.mock.latency-ms:200}")
+    private long latencyMs;
+
     @Override
     public <T> T generateDailyInsight(Map<String, Object> payload, Class<T> resultType) {
         simulateLatency();
+        return resultType.cast(buildDailyResult());
+    }
+
+    @Override
+    public <T> T generateWeeklyInsight(Map<String, Object> payload, Class<T> resultType) {
+        simulateLatency();
+        return resultType.cast(buildWeeklyResult(payload));
+    }
+
+    // 지연 동안 스레드를 재우지 않고 delayedExecutor로 완료 시점만 미룬다.
+    @Override
+    public <T> CompletableFuture<T> generateDailyInsightAsync(Map<String, Object> payload, Class<T> resultType) {
+        return CompletableFuture.supplyAsync(() -> resultType.cast(buildDailyResult()), delayedExecutor());
+    }
+
+    @Override
+    public <T> CompletableFuture<T> generateWeeklyInsightAsync(Map<String, Object> payload, Class<T> resultType) {
+        return CompletableFuture.supplyAsync(() -> resultType.cast(buildWeeklyResult(payload)), delayedExecutor());
+    }
+
+    @Override
+    public String promptVersion() {
+        return "mock";
+    }
+
+    private AiDailyReportResult buildDailyResult() {
         AiDailyReportResult result = new AiDailyReportResult();
         result.setScore(75);
         result.setGrade("보통");
@@ -31,12 +65,10 @@ public class MockReportAiService implements ReportAiClient {
                 "sugar", 6,
                 "natrium", 6
         ));
-        return resultType.cast(result);
+        return result;
     }
 
-    @Override
-    public <T> T generateWeeklyInsight(Map<String, Object> payload, Class<T> resultType) {
-        simulateLatency();
+    private AiWeeklyReportResult buildWeeklyResult(Map<String, Object> payload) {
         AiWeeklyReportResult result = new AiWeeklyReportResult();
         result.setScore(78);
         result.setGrade("보통");
@@ -55,7 +87,7 @@ public class MockReportAiService implements ReportAiClient {
         result.setRecommendations(List.of("다음 주 아침에 단백질 1회 추가하기"));
         result.setRiskFlags(List.of("테스트 데이터"));
         result.setTrend(Map.of("note", "mock"));
-        return resultType.cast(result);
+        return result;
     }
 
     private LocalDate resolveBestDay(Map<String, Object> payload) {
@@ -77,11 +109,13 @@ public class MockReportAiService implements ReportAiClient {
         }
     }
 
+    private Executor delayedExecutor() {
+        return CompletableFuture.delayedExecutor(latencyMs, TimeUnit.MILLISECONDS);
+    }
+
     private void simulateLatency() {
-        int delayMs = 6000 + (int) (Math.random() * 2001);
-        delayMs = 200;
         try {
-            Thread.sleep(delayMs);
+            Thread.sleep(latencyMs);
         } catch (InterruptedException ex) {
             Thread.currentThread().interrupt();
         }
@@ -1,9 +1,22 @@
 package com.ssafy.bablog.report.service;
 
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 public interface ReportAiClient {
     <T> T generateDailyInsight(Map<String, Object> payload, Class<T> resultType);
 
     <T> T generateWeeklyInsight(Map<String, Object> payload, Class<T> resultType);
+
+    /**
+     * 응답을 기다리는 동안 호출 스레드를 점유하지 않는 비동기 버전. 실패 시 future가 예외로 완료된다.
+     */
+    <T> CompletableFuture<T> generateDailyInsightAsync(Map<String, Object> payload, Class<T> resultType);
+
+    <T> CompletableFuture<T> generateWeeklyInsightAsync(Map<String, Object> payload, Class<T> resultType);
+
+    /**
+     * 시스템 프롬프트가 바뀌면 함께 바뀌는 버전 문자열. AI 응답 캐시 키에 포함된다.
+     */
+    String promptVersion();
 }
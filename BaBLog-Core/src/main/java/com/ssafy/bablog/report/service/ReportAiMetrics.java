@@ -0,0 +1,66 @@
+package com.ssafy.bablog.report.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.ai.chat.metadata.Usage;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 리포트 AI 호출 계측
+ * - 타이머 `report.ai.call` (type=daily|weekly, mode=sync|stream, outcome=success|error): 요청부터 파싱까지
+ * - 카운터 `report.ai.tokens` / 게이지 `report.ai.tokens.last` (type, kind=prompt|completion): 누적 토큰 수와 마지막 호출의 토큰 수
+ * 토큰 수는 응답 메타데이터에 usage가 있을 때만 기록한다 (스트리밍은 마지막 chunk에 담겨 온다).
+ */
+@Component
+@RequiredArgsConstructor
+public class ReportAiMetrics {
+
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+    private final Map<String, Counter> tokenCounters = new ConcurrentHashMap<>();
+    private final Map<String, AtomicLong> lastTokens = new ConcurrentHashMap<>();
+
+    public long start() {
+        return System.nanoTime();
+    }
+
+    public void recordCall(String type, String mode, long startedAt, boolean success) {
+        String outcome = success ? "success" : "error";
+        timers.computeIfAbsent(type + ':' + mode + ':' + outcome, key -> Timer.builder("report.ai.call")
+                        .description("Report AI request latency including response parsing")
+                        .tags(Tags.of("type", type, "mode", mode, "outcome", outcome))
+                        .register(meterRegistry))
+                .record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordUsage(String type, Usage usage) {
+        if (usage == null) {
+            return;
+        }
+        recordTokens(type, "prompt", usage.getPromptTokens());
+        recordTokens(type, "completion", usage.getCompletionTokens());
+    }
+
+    private void recordTokens(String type, String kind, Integer tokens) {
+        if (tokens == null || tokens <= 0) {
+            return;
+        }
+        String key = type + ':' + kind;
+        tokenCounters.computeIfAbsent(key, k -> Counter.builder("report.ai.tokens")
+                        .description("Tokens consumed by report AI calls")
+                        .tags(Tags.of("type", type, "kind", kind))
+                        .register(meterRegistry))
+                .increment(tokens);
+        lastTokens.computeIfAbsent(key, k -> meterRegistry.gauge("report.ai.tokens.last",
+                        Tags.of("type", type, "kind", kind), new AtomicLong()))
+                .set(tokens);
+    }
+}
@@ -3,10 +3,14 @@ package com.ssafy.bablog.report.service;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.ssafy.bablog.report.service.dto.ReportInsight;
 import org.springframework.ai.chat.client.ChatClient;
+import org.springframework.ai.chat.metadata.Usage;
+import org.springframework.ai.chat.model.ChatResponse;
+import org.springframework.ai.openai.OpenAiChatOptions;
 import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Service;
 
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 @Service
 @Profile("prod")
@@ -57,30 +61,115 @@ public class ReportAiService implements ReportAiClient {
         개선점은 원인과 결과를 1문장에 포함한다.
         """;
 
+    private static final String PROMPT_VERSION = ReportInsightCache.promptVersion(DAILY_SYSTEM_PROMPT, WEEKLY_SYSTEM_PROMPT);
+
+    private static final String DAILY = "daily";
+    private static final String WEEKLY = "weekly";
+
     private final ChatClient chatClient;
     private final ObjectMapper objectMapper;
+    private final ReportAiMetrics aiMetrics;
 
-    public ReportAiService(ChatClient.Builder builder, ObjectMapper objectMapper) {
+    public ReportAiService(ChatClient.Builder builder, ObjectMapper objectMapper, ReportAiMetrics aiMetrics) {
         this.chatClient = builder.build();
         this.objectMapper = objectMapper;
+        this.aiMetrics = aiMetrics;
+    }
+
+    @Override
+    public String promptVersion() {
+        return PROMPT_VERSION;
     }
 
     public <T> T generateDailyInsight(Map<String, Object> payload, Class<T> resultType) {
-        return generateInsight(payload, DAILY_SYSTEM_PROMPT, resultType);
+        return generateInsight(payload, DAILY, DAILY_SYSTEM_PROMPT, resultType);
     }
 
     public <T> T generateWeeklyInsight(Map<String, Object> payload, Class<T> resultType) {
-        return generateInsight(payload, WEEKLY_SYSTEM_PROMPT, resultType);
+        return generateInsight(payload, WEEKLY, WEEKLY_SYSTEM_PROMPT, resultType);
+    }
+
+    public <T> CompletableFuture<T> generateDailyInsightAsync(Map<String, Object> payload, Class<T> resultType) {
+        return generateInsightAsync(payload, DAILY, DAILY_SYSTEM_PROMPT, resultType);
     }
 
-    private <T> T generateInsight(Map<String, Object> payload, String systemPrompt, Class<T> resultType) {
+    public <T> CompletableFuture<T> generateWeeklyInsightAsync(Map<String, Object> payload, Class<T> resultType) {
+        return generateInsightAsync(payload, WEEKLY, WEEKLY_SYSTEM_PROMPT, resultType);
+    }
+
+    private <T> T generateInsight(Map<String, Object> payload, String type, String systemPrompt, Class<T> resultType) {
+        long started = aiMetrics.start();
+        boolean success = false;
         try {
             String userPrompt = objectMapper.writeValueAsString(payload);
-            String content = chatClient.prompt()
+            ChatResponse response = chatClient.prompt()
                     .system(systemPrompt)
                     .user(userPrompt)
                     .call()
-                    .content();
+                    .chatResponse();
+            aiMetrics.recordUsage(type, usageOf(response));
+            T result = objectMapper.readValue(textOf(response), resultType);
+            success = true;
+            return result;
+        } catch (Exception e) {
+            throw new IllegalStateException("AI 응답 파싱 실패", e);
+        } finally {
+            aiMetrics.recordCall(type, "sync", started, success);
+        }
+    }
+
+    // 스트리밍 응답(Flux)을 모아 한 번에 파싱한다. 응답 대기 중에는 스레드를 점유하지 않는다.
+    // 토큰 사용량은 마지막 chunk의 메타데이터에만 들어 있으므로 chunk를 모두 모은 뒤 기록한다.
+    // OpenAI는 stream_options.include_usage를 보내야 사용량 chunk를 주므로 설정과 관계없이 요청마다 켠다.
+    private <T> CompletableFuture<T> generateInsightAsync(Map<String, Object> payload,
+                                                          String type,
+                                                          String systemPrompt,
+                                                          Class<T> resultType) {
+        String userPrompt;
+        try {
+            userPrompt = objectMapper.writeValueAsString(payload);
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(new IllegalStateException("AI 요청 직렬화 실패", e));
+        }
+        long started = aiMetrics.start();
+        return chatClient.prompt()
+                .system(systemPrompt)
+                .user(userPrompt)
+                .options(OpenAiChatOptions.builder().streamUsage(true).build())
+                .stream()
+                .chatResponse()
+                .collectList()
+                .map(responses -> {
+                    StringBuilder content = new StringBuilder();
+                    Usage usage = null;
+                    for (ChatResponse response : responses) {
+                        content.append(textOf(response));
+                        Usage chunkUsage = usageOf(response);
+                        if (chunkUsage != null && chunkUsage.getTotalTokens() != null && chunkUsage.getTotalTokens() > 0) {
+                            usage = chunkUsage;
+                        }
+                    }
+                    aiMetrics.recordUsage(type, usage);
+                    return parse(content.toString(), resultType);
+                })
+                .toFuture()
+                .whenComplete((result, error) -> aiMetrics.recordCall(type, "stream", started, error == null));
+    }
+
+    private static String textOf(ChatResponse response) {
+        if (response == null || response.getResult() == null || response.getResult().getOutput() == null) {
+            return "";
+        }
+        String text = response.getResult().getOutput().getText();
+        return text == null ? "" : text;
+    }
+
+    private static Usage usageOf(ChatResponse response) {
+        return response == null || response.getMetadata() == null ? null : response.getMetadata().getUsage();
+    }
+
+    private <T> T parse(String content, Class<T> resultType) {
+        try {
             return objectMapper.readValue(content, resultType);
         } catch (Exception e) {
             throw new IllegalStateException("AI 응답 파싱 실패", e);
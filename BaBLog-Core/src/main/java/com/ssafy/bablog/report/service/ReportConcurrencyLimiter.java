@@ -0,0 +1,66 @@
+package com.ssafy.bablog.report.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.function.Supplier;
+
+/**
+ * 리포트 생성 시 동시에 진행되는 AI 호출 수와 DB 조회 수를 각각 제한한다.
+ * 워커 스레드 수(가상 스레드 포함)와 무관하게 LLM rate limit / 커넥션 풀 크기에 맞춰 조절하기 위함.
+ */
+@Component
+public class ReportConcurrencyLimiter {
+
+    private final Semaphore aiPermits;
+    private final Semaphore dbPermits;
+
+    public ReportConcurrencyLimiter(@Value("${report.concurrency.ai-permits:8}") int aiPermits,
+                                    @Value("${report.concurrency.db-permits:8}") int dbPermits) {
+        this.aiPermits = new Semaphore(Math.max(1, aiPermits), true);
+        this.dbPermits = new Semaphore(Math.max(1, dbPermits), true);
+    }
+
+    public <T> T withAiPermit(Supplier<T> call) {
+        return withPermit(aiPermits, call);
+    }
+
+    /**
+     * 비동기 AI 호출용. 퍼밋은 호출 시점에 받고 future가 완료될 때 반납한다.
+     */
+    public <T> CompletableFuture<T> withAiPermitAsync(Supplier<CompletableFuture<T>> call) {
+        acquire(aiPermits);
+        CompletableFuture<T> future;
+        try {
+            future = call.get();
+        } catch (RuntimeException e) {
+            aiPermits.release();
+            throw e;
+        }
+        return future.whenComplete((result, error) -> aiPermits.release());
+    }
+
+    public <T> T withDbPermit(Supplier<T> call) {
+        return withPermit(dbPermits, call);
+    }
+
+    private <T> T withPermit(Semaphore semaphore, Supplier<T> call) {
+        acquire(semaphore);
+        try {
+            return call.get();
+        } finally {
+            semaphore.release();
+        }
+    }
+
+    private void acquire(Semaphore semaphore) {
+        try {
+            semaphore.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("리포트 작업 대기 중 인터럽트가 발생했습니다.", e);
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.ssafy.bablog.report.service;
+
+/**
+ * 리포트 생성 구간. ReportPhaseTimer가 구간별 소요 시간을 모은다.
+ */
+public enum ReportPhase {
+    MEMBER,
+    TARGET,
+    DAILY_TOTAL,
+    MEALS,
+    STORED_METRICS,
+    GAP_METRICS,
+    PAYLOAD,
+    AI,
+    REPORT_JSON,
+    UPSERT,
+    // 회원 1명의 리포트 계산 전체 (upsert 제외, 비동기면 AI 응답까지)
+    TOTAL
+}
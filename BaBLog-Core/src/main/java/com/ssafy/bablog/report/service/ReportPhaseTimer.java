@@ -0,0 +1,145 @@
+package com.ssafy.bablog.report.service;
+
+import com.ssafy.bablog.report.service.dto.ReportPhaseStats;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 리포트 생성 구간별 소요 시간과 DB 호출 수 계측 (벤치마크용).
+ * 꺼져 있으면 start()가 0을 돌려주고 record()는 바로 반환하므로 System.nanoTime 호출도 하지 않는다.
+ * 시간은 구간마다 로그 히스토그램(2의 거듭제곱 구간을 16칸으로 나눔)에 넣어 p50/p99를 구한다.
+ */
+@Component
+public class ReportPhaseTimer {
+
+    private static final int SUB_BUCKET_BITS = 4;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKETS = (64 - SUB_BUCKET_BITS + 1) * SUB_BUCKETS;
+
+    @Value("${report.phase-timing.enabled:false}")
+    private volatile boolean enabled;
+
+    private final Map<ReportPhase, Histogram> histograms = new EnumMap<>(ReportPhase.class);
+    private final LongAdder statements = new LongAdder();
+
+    public ReportPhaseTimer() {
+        for (ReportPhase phase : ReportPhase.values()) {
+            histograms.put(phase, new Histogram());
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public long start() {
+        return enabled ? System.nanoTime() : 0L;
+    }
+
+    public void record(ReportPhase phase, long startedAt) {
+        if (startedAt == 0L || !enabled) {
+            return;
+        }
+        histograms.get(phase).record(System.nanoTime() - startedAt);
+    }
+
+    /**
+     * MyBatis 인터셉터 등에서 SQL 실행 1회마다 호출
+     */
+    public void countStatement() {
+        if (enabled) {
+            statements.increment();
+        }
+    }
+
+    public long statementCount() {
+        return statements.sum();
+    }
+
+    public Map<ReportPhase, ReportPhaseStats> snapshot() {
+        Map<ReportPhase, ReportPhaseStats> result = new EnumMap<>(ReportPhase.class);
+        histograms.forEach((phase, histogram) -> result.put(phase, histogram.stats()));
+        return result;
+    }
+
+    public void reset() {
+        histograms.values().forEach(Histogram::reset);
+        statements.reset();
+    }
+
+    private static final class Histogram {
+        private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+        private final LongAdder total = new LongAdder();
+        private final AtomicLong max = new AtomicLong();
+
+        private void record(long nanos) {
+            long value = Math.max(nanos, 0L);
+            counts.incrementAndGet(bucketOf(value));
+            total.add(value);
+            max.accumulateAndGet(value, Math::max);
+        }
+
+        private ReportPhaseStats stats() {
+            long[] snapshot = new long[BUCKETS];
+            long recorded = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                snapshot[i] = counts.get(i);
+                recorded += snapshot[i];
+            }
+            return new ReportPhaseStats(recorded, total.sum(),
+                    percentile(snapshot, recorded, 0.50), percentile(snapshot, recorded, 0.99), max.get());
+        }
+
+        private void reset() {
+            for (int i = 0; i < BUCKETS; i++) {
+                counts.set(i, 0L);
+            }
+            total.reset();
+            max.set(0L);
+        }
+
+        private long percentile(long[] snapshot, long recorded, double quantile) {
+            if (recorded == 0) {
+                return 0L;
+            }
+            long rank = (long) Math.ceil(recorded * quantile);
+            long seen = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                seen += snapshot[i];
+                if (seen >= rank) {
+                    return Math.min(upperBoundOf(i), max.get());
+                }
+            }
+            return max.get();
+        }
+
+        // 0~15는 그대로, 그 이상은 최상위 비트 위치(exponent)와 다음 4비트(sub)로 구간을 정한다
+        private static int bucketOf(long value) {
+            if (value < SUB_BUCKETS) {
+                return (int) value;
+            }
+            int exponent = 63 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+            int sub = (int) (value >>> exponent) & (SUB_BUCKETS - 1);
+            return (exponent + 1) * SUB_BUCKETS + sub;
+        }
+
+        private static long upperBoundOf(int bucket) {
+            if (bucket < SUB_BUCKETS) {
+                return bucket;
+            }
+            int exponent = bucket / SUB_BUCKETS - 1;
+            long sub = bucket % SUB_BUCKETS;
+            return ((SUB_BUCKETS + sub + 1) << exponent) - 1;
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.ssafy.bablog.report.service;
+
+/**
+ * 일간 리포트 점수 산정 방식 (report.scoring.mode).
+ */
+public enum ReportScoringMode {
+    // 점수/등급/항목 점수까지 모두 AI가 작성 (기존 동작)
+    AI,
+    // 점수는 DailyScoreCalculator가 계산하고 AI는 문장만 작성
+    HYBRID,
+    // AI 호출 없이 규칙 기반 점수와 정형 문구로만 작성
+    FAST
+}
@@ -1,10 +1,9 @@
 package com.ssafy.bablog.report.service;
 
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.ssafy.bablog.meal.repository.mapper.MealFoodWithFood;
 import com.ssafy.bablog.meal.service.MealService;
 import com.ssafy.bablog.meal.service.dto.MealAggregate;
-import com.ssafy.bablog.meal.util.NutritionCalculator;
 import com.ssafy.bablog.meal_log.repository.MealLogRepository;
 import com.ssafy.bablog.meal_log.repository.mapper.MealLogDailyTotal;
 import com.ssafy.bablog.member.domain.Member;
@@ -17,22 +16,26 @@ import com.ssafy.bablog.report.repository.DailyReportRepository;
 import com.ssafy.bablog.report.repository.WeeklyReportRepository;
 import com.ssafy.bablog.report.service.dto.AiDailyReportResult;
 import com.ssafy.bablog.report.service.dto.AiWeeklyReportResult;
+import com.ssafy.bablog.report.service.dto.DailyScoreResult;
 import com.ssafy.bablog.report.service.dto.NutritionSnapshot;
+import com.ssafy.bablog.report.util.ReportPayloadAssembler;
+import com.ssafy.bablog.report.util.ReportPayloadAssembler.MealPattern;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
 
-import java.math.BigDecimal;
-import java.math.RoundingMode;
 import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 @Service
 @RequiredArgsConstructor
@@ -40,6 +43,45 @@ public class ReportService {
 
     private static final String REPORT_VERSION = "v1";
 
+    private static final Map<String, Integer> RULE_MAX_SCORES = Map.of(
+            "kcal", DailyScoreCalculator.MAX_KCAL,
+            "macroBalance", DailyScoreCalculator.MAX_MACRO,
+            "protein", DailyScoreCalculator.MAX_PROTEIN,
+            "sugar", DailyScoreCalculator.MAX_SUGAR,
+            "natrium", DailyScoreCalculator.MAX_NATRIUM,
+            "saturatedFat", DailyScoreCalculator.MAX_SATURATED_FAT,
+            "transFat", DailyScoreCalculator.MAX_TRANS_FAT,
+            "cholesterol", DailyScoreCalculator.MAX_CHOLESTEROL,
+            "mealPattern", DailyScoreCalculator.MAX_MEAL_PATTERN,
+            "foodVariety", DailyScoreCalculator.MAX_FOOD_VARIETY
+    );
+
+    private static final Map<String, String> RULE_LABELS = Map.of(
+            "kcal", "열량 균형",
+            "macroBalance", "탄단지 비율",
+            "protein", "단백질 섭취",
+            "sugar", "당류",
+            "natrium", "나트륨",
+            "saturatedFat", "포화지방",
+            "transFat", "트랜스지방",
+            "cholesterol", "콜레스테롤",
+            "mealPattern", "식사 패턴",
+            "foodVariety", "식품 다양성"
+    );
+
+    private static final Map<String, String> RULE_RECOMMENDATIONS = Map.of(
+            "kcal", "내일은 목표 열량의 95~105% 범위로 세 끼 양을 맞추기",
+            "macroBalance", "내일 점심에 밥 양을 조절하고 단백질 반찬 1가지 추가하기",
+            "protein", "내일 아침에 달걀 2개 또는 두부 반 모 추가하기",
+            "sugar", "내일 간식은 단 음료 대신 물이나 무가당 차로 바꾸기",
+            "natrium", "내일 저녁에 국물은 절반만 먹기",
+            "saturatedFat", "내일 한 끼는 튀김 대신 구이나 찜 메뉴 고르기",
+            "transFat", "내일은 가공 과자/빵 간식을 과일 1회분으로 바꾸기",
+            "cholesterol", "내일은 내장류/가공육 대신 생선 1토막 먹기",
+            "mealPattern", "내일은 아침·점심·저녁 세 끼를 모두 기록하기",
+            "foodVariety", "내일 식단에 채소 2종을 새로 추가하기"
+    );
+
     private final MemberRepository memberRepository;
     private final MemberNutrientService memberNutrientService;
     private final MealLogRepository mealLogRepository;
@@ -48,20 +90,175 @@ public class ReportService {
     private final WeeklyReportRepository weeklyReportRepository;
     private final ReportAiClient reportAiService;
     private final ObjectMapper objectMapper;
+    private final ReportConcurrencyLimiter concurrencyLimiter;
+    private final ReportInsightCache insightCache;
+    private final DailyScoreCalculator scoreCalculator;
+    private final ReportPhaseTimer phaseTimer;
+
+    @Value("${report.scoring.mode:AI}")
+    private ReportScoringMode scoringMode;
 
     @Transactional
     public DailyReport generateDailyReport(Long memberId, LocalDate date) {
-        Member member = getMember(memberId);
-        MemberNutrientDaily target = memberNutrientService.getDaily(memberId, date);
-        MealLogDailyTotal dailyTotal = mealLogRepository.findDailyTotal(memberId, date);
-        NutritionSnapshot actual = NutritionSnapshot.from(dailyTotal);
-        List<MealAggregate> meals = mealService.getMeals(memberId, date);
+        DailyReport report = buildDailyReport(memberId, date);
+        dailyReportRepository.upsert(report);
+        return report;
+    }
+
+    /**
+     * 일간 리포트를 계산만 하고 저장하지 않는다. 배치에서는 writer가 chunk 단위로 모아 저장한다.
+     * AI 응답을 기다리는 동안 커넥션을 잡고 있지 않도록 트랜잭션 없이 조회 구간만 DB 퍼밋을 받는다.
+     */
+    public DailyReport buildDailyReport(Long memberId, LocalDate date) {
+        long started = phaseTimer.start();
+        DailyInput input = concurrencyLimiter.withDbPermit(() -> loadDailyInput(memberId, date));
+        NutritionSnapshot actual = input.actual();
+
+        long payloadStarted = phaseTimer.start();
+        MealPattern pattern = ReportPayloadAssembler.analyzeMealPattern(input.meals());
+        Map<String, Object> metrics = ReportPayloadAssembler.buildDailyMetrics(actual, input.target(), pattern);
+        DailyScoreResult ruleScore = scoreDaily(actual, input.target(), pattern);
+
+        AiDailyReportResult aiResult;
+        if (actual.isEmpty()) {
+            aiResult = buildEmptyDailyAiResult();
+            phaseTimer.record(ReportPhase.PAYLOAD, payloadStarted);
+        } else if (scoringMode == ReportScoringMode.FAST) {
+            aiResult = buildRuleBasedDailyResult(ruleScore);
+            phaseTimer.record(ReportPhase.PAYLOAD, payloadStarted);
+        } else {
+            Map<String, Object> prompt = ReportPayloadAssembler.buildDailyPrompt(
+                    input.member(), date, actual, input.target(), metrics, input.meals(), ruleScore);
+            phaseTimer.record(ReportPhase.PAYLOAD, payloadStarted);
+            long aiStarted = phaseTimer.start();
+            aiResult = applyRuleScore(requestDailyAiReport(prompt), ruleScore);
+            phaseTimer.record(ReportPhase.AI, aiStarted);
+        }
+        DailyReport report = toDailyReport(memberId, date, aiResult, metrics);
+        phaseTimer.record(ReportPhase.TOTAL, started);
+        return report;
+    }
+
+    /**
+     * 조회는 호출 스레드에서 끝내고 AI 호출만 비동기로 넘긴다.
+     * 배치 writer가 chunk 안의 future를 모아 기다리므로 여러 회원의 AI 호출이 동시에 진행된다.
+     */
+    public CompletableFuture<DailyReport> buildDailyReportAsync(Long memberId, LocalDate date) {
+        long started = phaseTimer.start();
+        DailyInput input = concurrencyLimiter.withDbPermit(() -> loadDailyInput(memberId, date));
+        NutritionSnapshot actual = input.actual();
+
+        long payloadStarted = phaseTimer.start();
+        MealPattern pattern = ReportPayloadAssembler.analyzeMealPattern(input.meals());
+        Map<String, Object> metrics = ReportPayloadAssembler.buildDailyMetrics(actual, input.target(), pattern);
+        DailyScoreResult ruleScore = scoreDaily(actual, input.target(), pattern);
+
+        CompletableFuture<AiDailyReportResult> aiResult;
+        if (actual.isEmpty()) {
+            aiResult = CompletableFuture.completedFuture(buildEmptyDailyAiResult());
+            phaseTimer.record(ReportPhase.PAYLOAD, payloadStarted);
+        } else if (scoringMode == ReportScoringMode.FAST) {
+            aiResult = CompletableFuture.completedFuture(buildRuleBasedDailyResult(ruleScore));
+            phaseTimer.record(ReportPhase.PAYLOAD, payloadStarted);
+        } else {
+            Map<String, Object> prompt = ReportPayloadAssembler.buildDailyPrompt(
+                    input.member(), date, actual, input.target(), metrics, input.meals(), ruleScore);
+            phaseTimer.record(ReportPhase.PAYLOAD, payloadStarted);
+            long aiStarted = phaseTimer.start();
+            aiResult = requestDailyAiReportAsync(prompt)
+                    .whenComplete((result, e) -> phaseTimer.record(ReportPhase.AI, aiStarted))
+                    .thenApply(result -> applyRuleScore(result, ruleScore));
+        }
+        return aiResult.thenApply(result -> {
+            DailyReport report = toDailyReport(memberId, date, result, metrics);
+            phaseTimer.record(ReportPhase.TOTAL, started);
+            return report;
+        });
+    }
+
+    @Transactional
+    public void saveDailyReports(List<DailyReport> reports) {
+        long started = phaseTimer.start();
+        dailyReportRepository.upsertAll(reports);
+        phaseTimer.record(ReportPhase.UPSERT, started);
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<DailyReport> getDailyReport(Long memberId, LocalDate date) {
+        return dailyReportRepository.findByMemberAndDate(memberId, date);
+    }
+
+    @Transactional
+    public WeeklyReport generateWeeklyReport(Long memberId, LocalDate startDate, LocalDate endDate) {
+        WeeklyReport report = buildWeeklyReport(memberId, startDate, endDate);
+        weeklyReportRepository.upsert(report);
+        return report;
+    }
 
-        Map<String, Object> metrics = buildDailyMetrics(actual, target, meals);
-        AiDailyReportResult aiResult = actual.isEmpty()
-                ? buildEmptyDailyAiResult()
-                : requestDailyAiReport(buildDailyPrompt(member, date, actual, target, metrics, meals));
+    /**
+     * 주간 리포트를 계산만 하고 저장하지 않는다.
+     */
+    public WeeklyReport buildWeeklyReport(Long memberId, LocalDate startDate, LocalDate endDate) {
+        long started = phaseTimer.start();
+        WeeklyInput input = concurrencyLimiter.withDbPermit(() -> loadWeeklyInput(memberId, startDate, endDate));
+
+        long payloadStarted = phaseTimer.start();
+        Map<String, Object> prompt = ReportPayloadAssembler.buildWeeklyPrompt(input.member(), startDate, endDate, input.dailyMetrics());
+        phaseTimer.record(ReportPhase.PAYLOAD, payloadStarted);
+        long aiStarted = phaseTimer.start();
+        AiWeeklyReportResult aiResult = applyRuleRiskFlags(requestWeeklyAiReport(prompt), input.dailyMetrics());
+        phaseTimer.record(ReportPhase.AI, aiStarted);
+        WeeklyReport report = toWeeklyReport(memberId, startDate, endDate, aiResult);
+        phaseTimer.record(ReportPhase.TOTAL, started);
+        return report;
+    }
+
+    public CompletableFuture<WeeklyReport> buildWeeklyReportAsync(Long memberId, LocalDate startDate, LocalDate endDate) {
+        long started = phaseTimer.start();
+        WeeklyInput input = concurrencyLimiter.withDbPermit(() -> loadWeeklyInput(memberId, startDate, endDate));
+
+        long payloadStarted = phaseTimer.start();
+        Map<String, Object> prompt = ReportPayloadAssembler.buildWeeklyPrompt(input.member(), startDate, endDate, input.dailyMetrics());
+        phaseTimer.record(ReportPhase.PAYLOAD, payloadStarted);
+        long aiStarted = phaseTimer.start();
+        return requestWeeklyAiReportAsync(prompt)
+                .whenComplete((result, e) -> phaseTimer.record(ReportPhase.AI, aiStarted))
+                .thenApply(result -> {
+                    WeeklyReport report = toWeeklyReport(memberId, startDate, endDate,
+                            applyRuleRiskFlags(result, input.dailyMetrics()));
+                    phaseTimer.record(ReportPhase.TOTAL, started);
+                    return report;
+                });
+    }
+
+    @Transactional
+    public void saveWeeklyReports(List<WeeklyReport> reports) {
+        long started = phaseTimer.start();
+        weeklyReportRepository.upsertAll(reports);
+        phaseTimer.record(ReportPhase.UPSERT, started);
+    }
 
+    @Transactional(readOnly = true)
+    public Optional<WeeklyReport> getWeeklyReport(Long memberId, LocalDate date) {
+        LocalDate startDate = date.with(DayOfWeek.MONDAY);
+        LocalDate endDate = startDate.plusDays(6);
+        return weeklyReportRepository.findByMemberAndRange(memberId, startDate, endDate);
+    }
+
+
+    public LocalDate weekStart(LocalDate date) {
+        return date.with(DayOfWeek.MONDAY);
+    }
+
+    public LocalDate weekEnd(LocalDate date) {
+        return weekStart(date).plusDays(6);
+    }
+
+    private DailyReport toDailyReport(Long memberId,
+                                      LocalDate date,
+                                      AiDailyReportResult aiResult,
+                                      Map<String, Object> metrics) {
+        long started = phaseTimer.start();
         DailyReport report = DailyReport.builder()
                 .memberId(memberId)
                 .reportDate(date)
@@ -76,33 +273,15 @@ public class ReportService {
                 .metrics(toJson(metrics))
                 .reportVersion(REPORT_VERSION)
                 .build();
-
-        dailyReportRepository.upsert(report);
+        phaseTimer.record(ReportPhase.REPORT_JSON, started);
         return report;
     }
 
-    @Transactional(readOnly = true)
-    public Optional<DailyReport> getDailyReport(Long memberId, LocalDate date) {
-        return dailyReportRepository.findByMemberAndDate(memberId, date);
-    }
-
-    @Transactional
-    public WeeklyReport generateWeeklyReport(Long memberId, LocalDate startDate, LocalDate endDate) {
-        Member member = getMember(memberId);
-        List<LocalDate> dates = buildDateRange(startDate, endDate);
-        List<Map<String, Object>> dailyMetrics = new ArrayList<>();
-
-        for (LocalDate date : dates) {
-            MemberNutrientDaily target = memberNutrientService.getDaily(memberId, date);
-            MealLogDailyTotal dailyTotal = mealLogRepository.findDailyTotal(memberId, date);
-            NutritionSnapshot actual = NutritionSnapshot.from(dailyTotal);
-            List<MealAggregate> meals = mealService.getMeals(memberId, date);
-            Map<String, Object> metrics = buildDailyMetrics(actual, target, meals);
-            metrics.put("date", date.toString());
-            dailyMetrics.add(metrics);
-        }
-
-        AiWeeklyReportResult aiResult = requestWeeklyAiReport(buildWeeklyPrompt(member, startDate, endDate, dailyMetrics));
+    private WeeklyReport toWeeklyReport(Long memberId,
+                                        LocalDate startDate,
+                                        LocalDate endDate,
+                                        AiWeeklyReportResult aiResult) {
+        long started = phaseTimer.start();
         LocalDate bestDay = normalizeDate(parseDate(aiResult.getBestDay()), startDate, endDate);
         LocalDate worstDay = normalizeDate(parseDate(aiResult.getWorstDay()), startDate, endDate);
 
@@ -127,25 +306,98 @@ public class ReportService {
                 .consistencyScore(aiResult.getConsistencyScore())
                 .reportVersion(REPORT_VERSION)
                 .build();
-
-        weeklyReportRepository.upsert(report);
+        phaseTimer.record(ReportPhase.REPORT_JSON, started);
         return report;
     }
 
-    @Transactional(readOnly = true)
-    public Optional<WeeklyReport> getWeeklyReport(Long memberId, LocalDate date) {
-        LocalDate startDate = date.with(DayOfWeek.MONDAY);
-        LocalDate endDate = startDate.plusDays(6);
-        return weeklyReportRepository.findByMemberAndRange(memberId, startDate, endDate);
+    private DailyInput loadDailyInput(Long memberId, LocalDate date) {
+        long started = phaseTimer.start();
+        Member member = getMember(memberId);
+        phaseTimer.record(ReportPhase.MEMBER, started);
+        started = phaseTimer.start();
+        MemberNutrientDaily target = memberNutrientService.getDaily(memberId, date);
+        phaseTimer.record(ReportPhase.TARGET, started);
+        started = phaseTimer.start();
+        MealLogDailyTotal dailyTotal = mealLogRepository.findDailyTotal(memberId, date);
+        phaseTimer.record(ReportPhase.DAILY_TOTAL, started);
+        started = phaseTimer.start();
+        List<MealAggregate> meals = mealService.getMeals(memberId, date);
+        phaseTimer.record(ReportPhase.MEALS, started);
+        return new DailyInput(member, target, NutritionSnapshot.from(dailyTotal), meals);
     }
 
+    /**
+     * 일간 배치가 저장한 daily_report.metrics를 한 번에 읽어 주간 입력을 만든다.
+     * 일간 리포트가 없는 날만 기간 쿼리(섭취 합계/목표 스냅샷)로 채운다.
+     */
+    private WeeklyInput loadWeeklyInput(Long memberId, LocalDate startDate, LocalDate endDate) {
+        long started = phaseTimer.start();
+        Member member = getMember(memberId);
+        phaseTimer.record(ReportPhase.MEMBER, started);
+
+        started = phaseTimer.start();
+        Map<LocalDate, Map<String, Object>> stored = new HashMap<>();
+        for (DailyReport report : dailyReportRepository.findMetricsByMemberAndRange(memberId, startDate, endDate)) {
+            Map<String, Object> metrics = parseMetrics(report.getMetrics());
+            if (metrics != null) {
+                stored.put(report.getReportDate(), metrics);
+            }
+        }
+
+        phaseTimer.record(ReportPhase.STORED_METRICS, started);
 
-    public LocalDate weekStart(LocalDate date) {
-        return date.with(DayOfWeek.MONDAY);
+        List<LocalDate> dates = buildDateRange(startDate, endDate);
+        List<LocalDate> gaps = dates.stream().filter(date -> !stored.containsKey(date)).toList();
+        if (!gaps.isEmpty()) {
+            started = phaseTimer.start();
+            stored.putAll(buildGapMetrics(memberId, gaps));
+            phaseTimer.record(ReportPhase.GAP_METRICS, started);
+        }
+
+        List<Map<String, Object>> dailyMetrics = new ArrayList<>();
+        for (LocalDate date : dates) {
+            Map<String, Object> metrics = new HashMap<>(stored.get(date));
+            metrics.put("date", date.toString());
+            dailyMetrics.add(metrics);
+        }
+        return new WeeklyInput(member, dailyMetrics);
     }
 
-    public LocalDate weekEnd(LocalDate date) {
-        return weekStart(date).plusDays(6);
+    private Map<LocalDate, Map<String, Object>> buildGapMetrics(Long memberId, List<LocalDate> gaps) {
+        LocalDate from = gaps.get(0);
+        LocalDate to = gaps.get(gaps.size() - 1);
+
+        Map<LocalDate, MealLogDailyTotal> totals = new HashMap<>();
+        for (MealLogDailyTotal total : mealLogRepository.findDailyTotalsInRange(memberId, from, to)) {
+            totals.put(total.getTargetDate(), total);
+        }
+        // 스냅샷이 없는 날은 현재 목표값으로 채워진다 (기간 조회 1회, 캐시에 있으면 0회)
+        Map<LocalDate, MemberNutrientDaily> targets = memberNutrientService.getDailyRange(memberId, from, to);
+        // 식사 패턴은 기록이 있는 날에만 필요하므로, 그런 날이 있을 때만 식단을 기간 단위로 한 번 조회한다.
+        boolean anyIntake = gaps.stream().anyMatch(date -> !NutritionSnapshot.from(totals.get(date)).isEmpty());
+        Map<LocalDate, List<MealAggregate>> mealsByDate = anyIntake
+                ? mealService.getMealsInRange(memberId, from, to)
+                : Map.of();
+
+        Map<LocalDate, Map<String, Object>> result = new HashMap<>();
+        for (LocalDate date : gaps) {
+            NutritionSnapshot actual = NutritionSnapshot.from(totals.get(date));
+            MemberNutrientDaily target = targets.get(date);
+            List<MealAggregate> meals = actual.isEmpty() ? List.of() : mealsByDate.getOrDefault(date, List.of());
+            result.put(date, ReportPayloadAssembler.buildDailyMetrics(actual, target, ReportPayloadAssembler.analyzeMealPattern(meals)));
+        }
+        return result;
+    }
+
+    private Map<String, Object> parseMetrics(String json) {
+        if (json == null || json.isBlank()) {
+            return null;
+        }
+        try {
+            return objectMapper.readValue(json, new TypeReference<Map<String, Object>>() {});
+        } catch (Exception e) {
+            return null;
+        }
     }
 
     private Member getMember(Long memberId) {
@@ -166,97 +418,6 @@ public class ReportService {
         return result;
     }
 
-    private Map<String, Object> buildDailyPrompt(Member member,
-                                                 LocalDate date,
-                                                 NutritionSnapshot actual,
-                                                 MemberNutrientDaily target,
-                                                 Map<String, Object> metrics,
-                                                 List<MealAggregate> meals) {
-        Map<String, Object> prompt = new HashMap<>();
-        prompt.put("type", "daily");
-        prompt.put("date", date.toString());
-        prompt.put("member", Map.of(
-                "gender", member.getGender(),
-                "heightCm", member.getHeightCm(),
-                "weightKg", member.getWeightKg()
-        ));
-        prompt.put("actual", toMap(actual));
-        prompt.put("target", toMap(NutritionSnapshot.from(target)));
-        prompt.put("metrics", metrics);
-        prompt.put("mealSummary", buildMealSummary(meals));
-        return prompt;
-    }
-
-    private Map<String, Object> buildWeeklyPrompt(Member member,
-                                                  LocalDate startDate,
-                                                  LocalDate endDate,
-                                                  List<Map<String, Object>> dailyMetrics) {
-        Map<String, Object> prompt = new HashMap<>();
-        prompt.put("type", "weekly");
-        prompt.put("period", Map.of(
-                "startDate", startDate.toString(),
-                "endDate", endDate.toString()
-        ));
-        prompt.put("member", Map.of(
-                "gender", member.getGender(),
-                "heightCm", member.getHeightCm(),
-                "weightKg", member.getWeightKg()
-        ));
-        prompt.put("dailyMetrics", dailyMetrics);
-        return prompt;
-    }
-
-    private Map<String, Object> buildMealSummary(List<MealAggregate> meals) {
-        Map<String, Object> summary = new HashMap<>();
-        if (meals == null) {
-            summary.put("meals", List.of());
-            return summary;
-        }
-        List<Map<String, Object>> mealList = new ArrayList<>();
-        for (MealAggregate meal : meals) {
-            Map<String, Object> item = new HashMap<>();
-            item.put("mealType", meal.getMeal().getMealType());
-            item.put("kcal", resolveMealKcal(meal));
-            item.put("foods", meal.getFoods() == null ? List.of() : meal.getFoods().stream()
-                    .map(this::toFoodSummary)
-                    .toList());
-            mealList.add(item);
-        }
-        summary.put("meals", mealList);
-        return summary;
-    }
-
-    private Map<String, Object> toFoodSummary(MealFoodWithFood row) {
-        Map<String, Object> item = new HashMap<>();
-        if (row == null || row.getFood() == null || row.getMealFood() == null) {
-            item.put("name", null);
-            item.put("intake", BigDecimal.ZERO);
-            item.put("kcal", BigDecimal.ZERO);
-            return item;
-        }
-        item.put("name", row.getFood().getName());
-        item.put("intake", row.getMealFood().getIntake());
-        item.put("kcal", NutritionCalculator.scaleNutrient(
-                row.getFood().getKcal(),
-                row.getFood(),
-                row.getMealFood().getIntake()
-        ));
-        return item;
-    }
-
-    private BigDecimal resolveMealKcal(MealAggregate meal) {
-        if (meal == null) {
-            return BigDecimal.ZERO;
-        }
-        if (meal.getMealLog() != null && meal.getMealLog().getKcal() != null) {
-            return meal.getMealLog().getKcal();
-        }
-        if (meal.getMeal() != null && meal.getMeal().getKcal() != null) {
-            return meal.getMeal().getKcal();
-        }
-        return BigDecimal.ZERO;
-    }
-
     private List<LocalDate> buildDateRange(LocalDate startDate, LocalDate endDate) {
         List<LocalDate> dates = new ArrayList<>();
         LocalDate cursor = startDate;
@@ -267,57 +428,81 @@ public class ReportService {
         return dates;
     }
 
-    private Map<String, Object> buildDailyMetrics(NutritionSnapshot actual,
-                                                  MemberNutrientDaily target,
-                                                  List<MealAggregate> meals) {
-        Map<String, Object> metrics = new HashMap<>();
-        metrics.put("actual", toMap(actual));
-        metrics.put("target", toMap(NutritionSnapshot.from(target)));
-        metrics.put("mealPattern", buildMealPatternMetrics(meals));
-        return metrics;
-    }
-
-    private Map<String, Object> buildMealPatternMetrics(List<MealAggregate> meals) {
-        int mealCount = 0;
-        BigDecimal totalKcal = BigDecimal.ZERO;
-        BigDecimal snackKcal = BigDecimal.ZERO;
-        BigDecimal dinnerKcal = BigDecimal.ZERO;
-        int foodVariety = 0;
-        if (meals != null) {
-            Map<Long, Boolean> foodMap = new HashMap<>();
-            for (MealAggregate meal : meals) {
-                if (meal.getFoods() != null && !meal.getFoods().isEmpty()) {
-                    mealCount += 1;
-                    meal.getFoods().forEach(foodRow -> {
-                        if (foodRow.getFood() != null && foodRow.getFood().getId() != null) {
-                            foodMap.put(foodRow.getFood().getId(), true);
-                        }
-                    });
-                }
-                BigDecimal kcal = resolveMealKcal(meal);
-                totalKcal = totalKcal.add(kcal);
-                if (meal.getMeal().getMealType() == com.ssafy.bablog.meal.domain.MealType.SNACK) {
-                    snackKcal = snackKcal.add(kcal);
-                }
-                if (meal.getMeal().getMealType() == com.ssafy.bablog.meal.domain.MealType.DINNER) {
-                    dinnerKcal = dinnerKcal.add(kcal);
-                }
-            }
-            foodVariety = foodMap.size();
+    private DailyScoreResult scoreDaily(NutritionSnapshot actual, MemberNutrientDaily target, MealPattern pattern) {
+        if (scoringMode == ReportScoringMode.AI) {
+            return null;
+        }
+        return scoreCalculator.calculate(
+                actual,
+                NutritionSnapshot.from(target),
+                pattern.mainMealCount(),
+                pattern.snackRatio().doubleValue(),
+                pattern.dinnerRatio().doubleValue(),
+                pattern.foodVariety()
+        );
+    }
+
+    // HYBRID 모드: AI가 쓴 문장은 그대로 두고 점수/등급/항목 점수만 규칙 기반 값으로 덮어쓴다.
+    private AiDailyReportResult applyRuleScore(AiDailyReportResult result, DailyScoreResult ruleScore) {
+        if (ruleScore == null || result == null) {
+            return result;
+        }
+        result.setScore(ruleScore.getTotalScore());
+        result.setGrade(ruleScore.getGrade());
+        result.setNutrientScores(ruleScore.getNutrientScores());
+        return result;
+    }
+
+    // AI 모드가 아니면 주간 리스크 플래그를 기간 중 날짜 수 기준의 규칙 값으로 덮어쓴다.
+    private AiWeeklyReportResult applyRuleRiskFlags(AiWeeklyReportResult result, List<Map<String, Object>> dailyMetrics) {
+        if (scoringMode == ReportScoringMode.AI || result == null) {
+            return result;
         }
-        BigDecimal snackRatio = ratio(snackKcal, totalKcal);
-        BigDecimal dinnerRatio = ratio(dinnerKcal, totalKcal);
-        Map<String, Object> result = new HashMap<>();
-        result.put("mealCount", mealCount);
-        result.put("snackRatio", snackRatio);
-        result.put("dinnerRatio", dinnerRatio);
-        result.put("foodVariety", foodVariety);
+        result.setRiskFlags(scoreCalculator.weeklyRiskFlags(dailyMetrics));
+        return result;
+    }
+
+    // FAST 모드: AI 없이 항목 점수가 높은/낮은 순으로 정형 문구를 만든다.
+    private AiDailyReportResult buildRuleBasedDailyResult(DailyScoreResult ruleScore) {
+        List<Map.Entry<String, Integer>> ranked = ruleScore.getNutrientScores().entrySet().stream()
+                .sorted(Comparator.comparingDouble(entry -> entry.getValue() / (double) maxScoreOf(entry.getKey())))
+                .toList();
+        List<String> weakest = ranked.stream()
+                .filter(entry -> entry.getValue() < maxScoreOf(entry.getKey()))
+                .limit(2)
+                .map(Map.Entry::getKey)
+                .toList();
+        List<String> strongest = ranked.stream()
+                .filter(entry -> entry.getValue() == maxScoreOf(entry.getKey()))
+                .sorted(Comparator.comparing((Map.Entry<String, Integer> entry) -> maxScoreOf(entry.getKey())).reversed())
+                .limit(2)
+                .map(Map.Entry::getKey)
+                .toList();
+
+        AiDailyReportResult result = new AiDailyReportResult();
+        result.setScore(ruleScore.getTotalScore());
+        result.setGrade(ruleScore.getGrade());
+        result.setSummary("규칙 기반 평가 결과 " + ruleScore.getTotalScore() + "점(" + ruleScore.getGrade() + ")입니다.");
+        result.setHighlights(strongest.isEmpty()
+                ? List.of("기록을 남긴 점이 좋습니다.")
+                : strongest.stream().map(key -> RULE_LABELS.get(key) + " 기준을 충족했습니다.").toList());
+        result.setImprovements(weakest.stream().map(key -> RULE_LABELS.get(key) + " 점수가 낮습니다.").toList());
+        result.setRecommendations(weakest.stream().map(RULE_RECOMMENDATIONS::get).toList());
+        // 리스크 플래그는 주간 기준(N일 이상)이라 일간 리포트에는 넣지 않는다.
+        result.setRiskFlags(List.of());
+        result.setNutrientScores(ruleScore.getNutrientScores());
         return result;
     }
 
+    private int maxScoreOf(String key) {
+        return RULE_MAX_SCORES.getOrDefault(key, 1);
+    }
+
     private AiDailyReportResult requestDailyAiReport(Map<String, Object> payload) {
         try {
-            return reportAiService.generateDailyInsight(payload, AiDailyReportResult.class);
+            return insightCache.getOrLoad("daily", reportAiService.promptVersion(), payload, AiDailyReportResult.class,
+                    () -> concurrencyLimiter.withAiPermit(
+                            () -> reportAiService.generateDailyInsight(payload, AiDailyReportResult.class)));
         } catch (Exception e) {
             return buildEmptyDailyAiResult();
         }
@@ -325,28 +510,56 @@ public class ReportService {
 
     private AiWeeklyReportResult requestWeeklyAiReport(Map<String, Object> payload) {
         try {
-            return reportAiService.generateWeeklyInsight(payload, AiWeeklyReportResult.class);
+            return insightCache.getOrLoad("weekly", reportAiService.promptVersion(), payload, AiWeeklyReportResult.class,
+                    () -> concurrencyLimiter.withAiPermit(
+                            () -> reportAiService.generateWeeklyInsight(payload, AiWeeklyReportResult.class)));
         } catch (Exception e) {
-            AiWeeklyReportResult fallback = new AiWeeklyReportResult();
-            fallback.setScore(0);
-            fallback.setGrade("집중 개선 필요");
-            fallback.setConsistencyScore(0);
-            fallback.setSummary("주간 식단 데이터를 충분히 수집하지 못했습니다.");
-            fallback.setPatternSummary("주간 패턴을 분석할 데이터가 부족합니다.");
-            fallback.setBestDay(null);
-            fallback.setBestReason("기록이 부족해 최고일을 선정할 수 없습니다.");
-            fallback.setWorstDay(null);
-            fallback.setWorstReason("기록이 부족해 최저일을 선정할 수 없습니다.");
-            fallback.setNextWeekFocus("다음 주에는 최소 3일 이상 기록해 보세요.");
-            fallback.setHighlights(List.of("기록을 꾸준히 남긴 점이 좋습니다."));
-            fallback.setImprovements(List.of("일주일 동안 최소 3일 이상 기록해 보세요."));
-            fallback.setRecommendations(List.of("다음 주에는 아침 식사부터 기록하기"));
-            fallback.setRiskFlags(List.of("기록 부족"));
-            fallback.setTrend(Map.of());
-            return fallback;
+            return buildEmptyWeeklyAiResult();
         }
     }
 
+    private CompletableFuture<AiDailyReportResult> requestDailyAiReportAsync(Map<String, Object> payload) {
+        try {
+            return insightCache.getOrLoadAsync("daily", reportAiService.promptVersion(), payload, AiDailyReportResult.class,
+                            () -> concurrencyLimiter.withAiPermitAsync(
+                                    () -> reportAiService.generateDailyInsightAsync(payload, AiDailyReportResult.class)))
+                    .exceptionally(e -> buildEmptyDailyAiResult());
+        } catch (Exception e) {
+            return CompletableFuture.completedFuture(buildEmptyDailyAiResult());
+        }
+    }
+
+    private CompletableFuture<AiWeeklyReportResult> requestWeeklyAiReportAsync(Map<String, Object> payload) {
+        try {
+            return insightCache.getOrLoadAsync("weekly", reportAiService.promptVersion(), payload, AiWeeklyReportResult.class,
+                            () -> concurrencyLimiter.withAiPermitAsync(
+                                    () -> reportAiService.generateWeeklyInsightAsync(payload, AiWeeklyReportResult.class)))
+                    .exceptionally(e -> buildEmptyWeeklyAiResult());
+        } catch (Exception e) {
+            return CompletableFuture.completedFuture(buildEmptyWeeklyAiResult());
+        }
+    }
+
+    private AiWeeklyReportResult buildEmptyWeeklyAiResult() {
+        AiWeeklyReportResult fallback = new AiWeeklyReportResult();
+        fallback.setScore(0);
+        fallback.setGrade("집중 개선 필요");
+        fallback.setConsistencyScore(0);
+        fallback.setSummary("주간 식단 데이터를 충분히 수집하지 못했습니다.");
+        fallback.setPatternSummary("주간 패턴을 분석할 데이터가 부족합니다.");
+        fallback.setBestDay(null);
+        fallback.setBestReason("기록이 부족해 최고일을 선정할 수 없습니다.");
+        fallback.setWorstDay(null);
+        fallback.setWorstReason("기록이 부족해 최저일을 선정할 수 없습니다.");
+        fallback.setNextWeekFocus("다음 주에는 최소 3일 이상 기록해 보세요.");
+        fallback.setHighlights(List.of("기록을 꾸준히 남긴 점이 좋습니다."));
+        fallback.setImprovements(List.of("일주일 동안 최소 3일 이상 기록해 보세요."));
+        fallback.setRecommendations(List.of("다음 주에는 아침 식사부터 기록하기"));
+        fallback.setRiskFlags(List.of("기록 부족"));
+        fallback.setTrend(Map.of());
+        return fallback;
+    }
+
     private String toJson(Object value) {
         try {
             return objectMapper.writeValueAsString(value);
@@ -358,27 +571,6 @@ public class ReportService {
         }
     }
 
-    private BigDecimal ratio(BigDecimal part, BigDecimal total) {
-        if (total == null || total.compareTo(BigDecimal.ZERO) <= 0) {
-            return BigDecimal.ZERO;
-        }
-        return part.divide(total, 4, RoundingMode.HALF_UP);
-    }
-
-    private Map<String, Object> toMap(NutritionSnapshot snapshot) {
-        Map<String, Object> map = new HashMap<>();
-        map.put("kcal", snapshot.getKcal());
-        map.put("protein", snapshot.getProtein());
-        map.put("fat", snapshot.getFat());
-        map.put("saturatedFat", snapshot.getSaturatedFat());
-        map.put("transFat", snapshot.getTransFat());
-        map.put("carbohydrates", snapshot.getCarbohydrates());
-        map.put("sugar", snapshot.getSugar());
-        map.put("natrium", snapshot.getNatrium());
-        map.put("cholesterol", snapshot.getCholesterol());
-        return map;
-    }
-
     private LocalDate parseDate(String raw) {
         if (raw == null || raw.isBlank()) {
             return null;
@@ -408,4 +600,13 @@ public class ReportService {
         }
         return date;
     }
+
+    private record DailyInput(Member member,
+                              MemberNutrientDaily target,
+                              NutritionSnapshot actual,
+                              List<MealAggregate> meals) {
+    }
+
+    private record WeeklyInput(Member member, List<Map<String, Object>> dailyMetrics) {
+    }
 }
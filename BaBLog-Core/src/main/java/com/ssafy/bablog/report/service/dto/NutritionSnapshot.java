@@ -1,5 +1,6 @@
 package com.ssafy.bablog.report.service.dto;
 
+import com.ssafy.bablog.meal.domain.NutrientVector;
 import com.ssafy.bablog.meal_log.repository.mapper.MealLogDailyTotal;
 import com.ssafy.bablog.member_nutrient.domain.MemberNutrientDaily;
 import lombok.Builder;
@@ -55,6 +56,24 @@ public class NutritionSnapshot {
                 .build();
     }
 
+    public static NutritionSnapshot from(NutrientVector nutrients) {
+        return NutritionSnapshot.builder()
+                .kcal(nutrients.getOrZero(NutrientVector.KCAL))
+                .protein(nutrients.getOrZero(NutrientVector.PROTEIN))
+                .fat(nutrients.getOrZero(NutrientVector.FAT))
+                .saturatedFat(nutrients.getOrZero(NutrientVector.SATURATED_FAT))
+                .transFat(nutrients.getOrZero(NutrientVector.TRANS_FAT))
+                .carbohydrates(nutrients.getOrZero(NutrientVector.CARBOHYDRATES))
+                .sugar(nutrients.getOrZero(NutrientVector.SUGAR))
+                .natrium(nutrients.getOrZero(NutrientVector.NATRIUM))
+                .cholesterol(nutrients.getOrZero(NutrientVector.CHOLESTEROL))
+                .build();
+    }
+
+    public NutrientVector toNutrientVector() {
+        return NutrientVector.of(kcal, protein, fat, saturatedFat, transFat, carbohydrates, sugar, natrium, cholesterol);
+    }
+
     public static NutritionSnapshot empty() {
         return NutritionSnapshot.builder()
                 .kcal(BigDecimal.ZERO)
@@ -0,0 +1,13 @@
+package com.ssafy.bablog.report.service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class ReportInsightCacheStats {
+    private long memoryHits;
+    private long persistentHits;
+    private long misses;
+    private int memorySize;
+}
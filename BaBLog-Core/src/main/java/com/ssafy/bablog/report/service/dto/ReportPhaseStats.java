@@ -0,0 +1,17 @@
+package com.ssafy.bablog.report.service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 구간별 소요 시간 요약 (나노초). 백분위는 히스토그램 구간 상한이라 최대 약 6% 크게 나온다.
+ */
+@Getter
+@AllArgsConstructor
+public class ReportPhaseStats {
+    private long count;
+    private long totalNanos;
+    private long p50Nanos;
+    private long p99Nanos;
+    private long maxNanos;
+}
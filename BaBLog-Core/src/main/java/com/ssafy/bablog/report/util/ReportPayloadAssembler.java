@@ -0,0 +1,213 @@
+package com.ssafy.bablog.report.util;
+
+import com.ssafy.bablog.meal.domain.MealType;
+import com.ssafy.bablog.meal.repository.mapper.MealFoodWithFood;
+import com.ssafy.bablog.meal.service.dto.MealAggregate;
+import com.ssafy.bablog.meal.util.NutritionCalculator;
+import com.ssafy.bablog.member.domain.Member;
+import com.ssafy.bablog.member_nutrient.domain.MemberNutrientDaily;
+import com.ssafy.bablog.report.service.dto.DailyScoreResult;
+import com.ssafy.bablog.report.service.dto.NutritionSnapshot;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 리포트 AI 프롬프트와 daily_report.metrics에 들어갈 Map을 만드는 순수 계산 유틸리티.
+ * DB/AI 호출이 없어 ReportService와 벤치마크(BaBLog-Bench)가 같은 코드를 사용한다.
+ */
+public final class ReportPayloadAssembler {
+
+    private ReportPayloadAssembler() {
+    }
+
+    public static Map<String, Object> buildDailyPrompt(Member member,
+                                                       LocalDate date,
+                                                       NutritionSnapshot actual,
+                                                       MemberNutrientDaily target,
+                                                       Map<String, Object> metrics,
+                                                       List<MealAggregate> meals,
+                                                       DailyScoreResult ruleScore) {
+        Map<String, Object> prompt = new HashMap<>();
+        prompt.put("type", "daily");
+        prompt.put("date", date.toString());
+        prompt.put("member", Map.of(
+                "gender", member.getGender(),
+                "heightCm", member.getHeightCm(),
+                "weightKg", member.getWeightKg()
+        ));
+        prompt.put("actual", toMap(actual));
+        prompt.put("target", toMap(NutritionSnapshot.from(target)));
+        prompt.put("metrics", metrics);
+        prompt.put("mealSummary", buildMealSummary(meals));
+        if (ruleScore != null) {
+            // HYBRID 모드: 점수는 확정값으로 전달해 문장이 점수와 어긋나지 않게 한다.
+            prompt.put("ruleScore", Map.of(
+                    "score", ruleScore.getTotalScore(),
+                    "grade", ruleScore.getGrade(),
+                    "nutrientScores", ruleScore.getNutrientScores()
+            ));
+        }
+        return prompt;
+    }
+
+    public static Map<String, Object> buildWeeklyPrompt(Member member,
+                                                        LocalDate startDate,
+                                                        LocalDate endDate,
+                                                        List<Map<String, Object>> dailyMetrics) {
+        Map<String, Object> prompt = new HashMap<>();
+        prompt.put("type", "weekly");
+        prompt.put("period", Map.of(
+                "startDate", startDate.toString(),
+                "endDate", endDate.toString()
+        ));
+        prompt.put("member", Map.of(
+                "gender", member.getGender(),
+                "heightCm", member.getHeightCm(),
+                "weightKg", member.getWeightKg()
+        ));
+        prompt.put("dailyMetrics", dailyMetrics);
+        return prompt;
+    }
+
+    public static Map<String, Object> buildDailyMetrics(NutritionSnapshot actual,
+                                                        MemberNutrientDaily target,
+                                                        MealPattern pattern) {
+        Map<String, Object> metrics = new HashMap<>();
+        metrics.put("actual", toMap(actual));
+        metrics.put("target", toMap(NutritionSnapshot.from(target)));
+        metrics.put("mealPattern", pattern.toMap());
+        return metrics;
+    }
+
+    public static MealPattern analyzeMealPattern(List<MealAggregate> meals) {
+        int mealCount = 0;
+        int mainMealCount = 0;
+        BigDecimal totalKcal = BigDecimal.ZERO;
+        BigDecimal snackKcal = BigDecimal.ZERO;
+        BigDecimal dinnerKcal = BigDecimal.ZERO;
+        int foodVariety = 0;
+        if (meals != null) {
+            Set<Long> foodIds = new HashSet<>();
+            for (MealAggregate meal : meals) {
+                if (meal.getFoods() != null && !meal.getFoods().isEmpty()) {
+                    mealCount += 1;
+                    if (meal.getMeal().getMealType() != MealType.SNACK) {
+                        mainMealCount += 1;
+                    }
+                    for (MealFoodWithFood foodRow : meal.getFoods()) {
+                        if (foodRow.getFood() != null && foodRow.getFood().getId() != null) {
+                            foodIds.add(foodRow.getFood().getId());
+                        }
+                    }
+                }
+                BigDecimal kcal = resolveMealKcal(meal);
+                totalKcal = totalKcal.add(kcal);
+                if (meal.getMeal().getMealType() == MealType.SNACK) {
+                    snackKcal = snackKcal.add(kcal);
+                }
+                if (meal.getMeal().getMealType() == MealType.DINNER) {
+                    dinnerKcal = dinnerKcal.add(kcal);
+                }
+            }
+            foodVariety = foodIds.size();
+        }
+        return new MealPattern(mealCount, mainMealCount, ratio(snackKcal, totalKcal), ratio(dinnerKcal, totalKcal), foodVariety);
+    }
+
+    public static Map<String, Object> toMap(NutritionSnapshot snapshot) {
+        Map<String, Object> map = new HashMap<>();
+        map.put("kcal", snapshot.getKcal());
+        map.put("protein", snapshot.getProtein());
+        map.put("fat", snapshot.getFat());
+        map.put("saturatedFat", snapshot.getSaturatedFat());
+        map.put("transFat", snapshot.getTransFat());
+        map.put("carbohydrates", snapshot.getCarbohydrates());
+        map.put("sugar", snapshot.getSugar());
+        map.put("natrium", snapshot.getNatrium());
+        map.put("cholesterol", snapshot.getCholesterol());
+        return map;
+    }
+
+    private static Map<String, Object> buildMealSummary(List<MealAggregate> meals) {
+        Map<String, Object> summary = new HashMap<>();
+        if (meals == null) {
+            summary.put("meals", List.of());
+            return summary;
+        }
+        List<Map<String, Object>> mealList = new ArrayList<>();
+        for (MealAggregate meal : meals) {
+            Map<String, Object> item = new HashMap<>();
+            item.put("mealType", meal.getMeal().getMealType());
+            item.put("kcal", resolveMealKcal(meal));
+            item.put("foods", meal.getFoods() == null ? List.of() : meal.getFoods().stream()
+                    .map(ReportPayloadAssembler::toFoodSummary)
+                    .toList());
+            mealList.add(item);
+        }
+        summary.put("meals", mealList);
+        return summary;
+    }
+
+    private static Map<String, Object> toFoodSummary(MealFoodWithFood row) {
+        Map<String, Object> item = new HashMap<>();
+        if (row == null || row.getFood() == null || row.getMealFood() == null) {
+            item.put("name", null);
+            item.put("intake", BigDecimal.ZERO);
+            item.put("kcal", BigDecimal.ZERO);
+            return item;
+        }
+        item.put("name", row.getFood().getName());
+        item.put("intake", row.getMealFood().getIntake());
+        item.put("kcal", NutritionCalculator.scaleNutrient(
+                row.getFood().getKcal(),
+                row.getFood(),
+                row.getMealFood().getIntake()
+        ));
+        return item;
+    }
+
+    private static BigDecimal resolveMealKcal(MealAggregate meal) {
+        if (meal == null) {
+            return BigDecimal.ZERO;
+        }
+        if (meal.getMealLog() != null && meal.getMealLog().getKcal() != null) {
+            return meal.getMealLog().getKcal();
+        }
+        if (meal.getMeal() != null && meal.getMeal().getKcal() != null) {
+            return meal.getMeal().getKcal();
+        }
+        return BigDecimal.ZERO;
+    }
+
+    private static BigDecimal ratio(BigDecimal part, BigDecimal total) {
+        if (total == null || total.compareTo(BigDecimal.ZERO) <= 0) {
+            return BigDecimal.ZERO;
+        }
+        return part.divide(total, 4, RoundingMode.HALF_UP);
+    }
+
+    public record MealPattern(int mealCount,
+                              int mainMealCount,
+                              BigDecimal snackRatio,
+                              BigDecimal dinnerRatio,
+                              int foodVariety) {
+
+        private Map<String, Object> toMap() {
+            Map<String, Object> result = new HashMap<>();
+            result.put("mealCount", mealCount);
+            result.put("mainMealCount", mainMealCount);
+            result.put("snackRatio", snackRatio);
+            result.put("dinnerRatio", dinnerRatio);
+            result.put("foodVariety", foodVariety);
+            return result;
+        }
+    }
+}
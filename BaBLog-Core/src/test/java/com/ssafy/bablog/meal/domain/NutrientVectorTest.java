@@ -0,0 +1,95 @@
+package com.ssafy.bablog.meal.domain;
+
+import com.ssafy.bablog.food.domain.Food;
+import com.ssafy.bablog.meal.util.NutritionCalculator;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NutrientVectorTest {
+
+    private static final List<Function<Food, BigDecimal>> FIELDS = List.of(
+            Food::getKcal, Food::getProtein, Food::getFat, Food::getSaturatedFat, Food::getTransFat,
+            Food::getCarbohydrates, Food::getSugar, Food::getNatrium, Food::getCholesterol);
+
+    @Test
+    void ofIntakeMatchesNutritionCalculator() {
+        Food food = food("100", "165.00", "31.02", "3.57", "1.01", "0.05", "0.00", "0.00", "74.00", "85.00");
+
+        for (String intake : List.of("150", "33.3", "0.5", "250.75", "1")) {
+            assertParity(food, new BigDecimal(intake));
+        }
+    }
+
+    @Test
+    void ofIntakeMatchesNutritionCalculatorForRepeatingFactor() {
+        // 100/300 처럼 나누어떨어지지 않는 배율
+        Food food = food("300", "10.00", "7.77", "0.10", null, "0.01", "12.34", "5.55", "999.99", "1.00");
+
+        assertParity(food, new BigDecimal("100"));
+        assertParity(food, new BigDecimal("200"));
+    }
+
+    @Test
+    void missingStandardUsesIntakeAsFactor() {
+        Food noStandard = food(null, "120.00", "4.00", "2.50", "0.30", "0.00", "20.00", "3.00", "150.00", "0.00");
+        Food zeroStandard = food("0", "120.00", "4.00", "2.50", "0.30", "0.00", "20.00", "3.00", "150.00", "0.00");
+
+        assertParity(noStandard, new BigDecimal("2"));
+        assertParity(zeroStandard, new BigDecimal("0.5"));
+        assertParity(noStandard, null);
+    }
+
+    @Test
+    void missingNutrientStaysNull() {
+        Food food = food("100", "200.00", null, "1.00", null, null, "30.00", null, "400.00", null);
+
+        NutrientVector vector = NutrientVector.ofIntake(food, new BigDecimal("50"));
+
+        assertThat(vector.get(NutrientVector.PROTEIN)).isNull();
+        assertThat(vector.getOrZero(NutrientVector.PROTEIN)).isEqualByComparingTo(BigDecimal.ZERO);
+        assertThat(vector.get(NutrientVector.KCAL)).isEqualTo(new BigDecimal("100.00"));
+        assertParity(food, new BigDecimal("50"));
+    }
+
+    private static void assertParity(Food food, BigDecimal intake) {
+        NutrientVector vector = NutrientVector.ofIntake(food, intake);
+        for (int i = 0; i < NutrientVector.SIZE; i++) {
+            BigDecimal expected = NutritionCalculator.scaleNutrient(FIELDS.get(i).apply(food), food, intake);
+            BigDecimal actual = vector.get(i);
+            if (expected == null) {
+                assertThat(actual).as("index %d, intake %s", i, intake).isNull();
+            } else {
+                assertThat(actual).as("index %d, intake %s", i, intake)
+                        .isEqualTo(expected.setScale(2, RoundingMode.HALF_UP));
+            }
+        }
+    }
+
+    private static Food food(String standard, String kcal, String protein, String fat, String saturatedFat,
+                             String transFat, String carbohydrates, String sugar, String natrium, String cholesterol) {
+        return Food.builder()
+                .id(1L)
+                .name("테스트 음식")
+                .standard(decimal(standard))
+                .kcal(decimal(kcal))
+                .protein(decimal(protein))
+                .fat(decimal(fat))
+                .saturatedFat(decimal(saturatedFat))
+                .transFat(decimal(transFat))
+                .carbohydrates(decimal(carbohydrates))
+                .sugar(decimal(sugar))
+                .natrium(decimal(natrium))
+                .cholesterol(decimal(cholesterol))
+                .build();
+    }
+
+    private static BigDecimal decimal(String value) {
+        return value == null ? null : new BigDecimal(value);
+    }
+}
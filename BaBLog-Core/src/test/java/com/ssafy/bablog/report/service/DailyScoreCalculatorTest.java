@@ -0,0 +1,190 @@
+package com.ssafy.bablog.report.service;
+
+import com.ssafy.bablog.report.service.dto.DailyScoreResult;
+import com.ssafy.bablog.report.service.dto.NutritionSnapshot;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DailyScoreCalculatorTest {
+
+    private final DailyScoreCalculator calculator = new DailyScoreCalculator();
+
+    @Test
+    void kcalBandEdges() {
+        assertThat(DailyScoreCalculator.scoreKcal(95)).isEqualTo(25);
+        assertThat(DailyScoreCalculator.scoreKcal(105)).isEqualTo(25);
+        assertThat(DailyScoreCalculator.scoreKcal(94.9)).isEqualTo(22);
+        assertThat(DailyScoreCalculator.scoreKcal(110)).isEqualTo(22);
+        assertThat(DailyScoreCalculator.scoreKcal(110.1)).isEqualTo(16);
+        assertThat(DailyScoreCalculator.scoreKcal(80)).isEqualTo(16);
+        assertThat(DailyScoreCalculator.scoreKcal(130)).isEqualTo(10);
+        assertThat(DailyScoreCalculator.scoreKcal(60)).isEqualTo(5);
+        assertThat(DailyScoreCalculator.scoreKcal(140.1)).isZero();
+        assertThat(DailyScoreCalculator.scoreKcal(59.9)).isZero();
+    }
+
+    @Test
+    void macroDeviationBands() {
+        assertThat(DailyScoreCalculator.scoreMacro(45, 45, 65, 7)).isEqualTo(7);
+        assertThat(DailyScoreCalculator.scoreMacro(65, 45, 65, 7)).isEqualTo(7);
+        assertThat(DailyScoreCalculator.scoreMacro(40, 45, 65, 7)).isEqualTo(5);
+        assertThat(DailyScoreCalculator.scoreMacro(75, 45, 65, 7)).isEqualTo(3);
+        assertThat(DailyScoreCalculator.scoreMacro(80, 45, 65, 7)).isEqualTo(1);
+        assertThat(DailyScoreCalculator.scoreMacro(80.1, 45, 65, 7)).isZero();
+        // 배점보다 큰 감점은 0점에서 멈춘다
+        assertThat(DailyScoreCalculator.scoreMacro(5, 20, 35, 6)).isZero();
+    }
+
+    @Test
+    void proteinBandEdges() {
+        assertThat(DailyScoreCalculator.scoreProtein(90)).isEqualTo(10);
+        assertThat(DailyScoreCalculator.scoreProtein(110)).isEqualTo(10);
+        assertThat(DailyScoreCalculator.scoreProtein(120)).isEqualTo(7);
+        assertThat(DailyScoreCalculator.scoreProtein(70)).isEqualTo(4);
+        assertThat(DailyScoreCalculator.scoreProtein(150)).isEqualTo(2);
+        assertThat(DailyScoreCalculator.scoreProtein(150.1)).isZero();
+    }
+
+    @Test
+    void upperLimitBandEdges() {
+        assertThat(DailyScoreCalculator.scoreUpperLimit(100, 8, 6, 3)).isEqualTo(8);
+        assertThat(DailyScoreCalculator.scoreUpperLimit(100.1, 8, 6, 3)).isEqualTo(6);
+        assertThat(DailyScoreCalculator.scoreUpperLimit(120, 8, 6, 3)).isEqualTo(6);
+        assertThat(DailyScoreCalculator.scoreUpperLimit(150, 8, 6, 3)).isEqualTo(3);
+        assertThat(DailyScoreCalculator.scoreUpperLimit(150.1, 8, 6, 3)).isZero();
+        assertThat(DailyScoreCalculator.scoreTransFat(100)).isEqualTo(3);
+        assertThat(DailyScoreCalculator.scoreTransFat(110)).isEqualTo(1);
+        assertThat(DailyScoreCalculator.scoreTransFat(110.1)).isZero();
+    }
+
+    @Test
+    void mealPatternAndVarietyBands() {
+        assertThat(DailyScoreCalculator.scoreMealPattern(3, 0.30, 0.50)).isEqualTo(10);
+        assertThat(DailyScoreCalculator.scoreMealPattern(3, 0.31, 0.51)).isEqualTo(8);
+        assertThat(DailyScoreCalculator.scoreMealPattern(2, 0, 0)).isEqualTo(6);
+        assertThat(DailyScoreCalculator.scoreMealPattern(1, 0.5, 0.6)).isZero();
+        assertThat(DailyScoreCalculator.scoreMealPattern(0, 0, 0)).isZero();
+        assertThat(DailyScoreCalculator.scoreFoodVariety(10)).isEqualTo(7);
+        assertThat(DailyScoreCalculator.scoreFoodVariety(9)).isEqualTo(5);
+        assertThat(DailyScoreCalculator.scoreFoodVariety(4)).isEqualTo(3);
+        assertThat(DailyScoreCalculator.scoreFoodVariety(1)).isEqualTo(1);
+        assertThat(DailyScoreCalculator.scoreFoodVariety(0)).isZero();
+    }
+
+    @Test
+    void gradeBandEdges() {
+        assertThat(DailyScoreCalculator.grade(90)).isEqualTo("매우 우수");
+        assertThat(DailyScoreCalculator.grade(89)).isEqualTo("우수");
+        assertThat(DailyScoreCalculator.grade(80)).isEqualTo("우수");
+        assertThat(DailyScoreCalculator.grade(70)).isEqualTo("보통");
+        assertThat(DailyScoreCalculator.grade(60)).isEqualTo("개선 필요");
+        assertThat(DailyScoreCalculator.grade(59)).isEqualTo("집중 개선 필요");
+    }
+
+    @Test
+    void calculateGivesFullScoreWhenEveryTargetIsMet() {
+        NutritionSnapshot meal = snapshot("2000", "100", "60", "250");
+
+        DailyScoreResult result = calculator.calculate(meal, meal, 3, 0.1, 0.3, 10);
+
+        assertThat(result.getTotalScore()).isEqualTo(DailyScoreCalculator.MAX_TOTAL);
+        assertThat(result.getGrade()).isEqualTo("매우 우수");
+        assertThat(result.getNutrientScores()).containsEntry("kcal", DailyScoreCalculator.MAX_KCAL)
+                .containsEntry("macroBalance", DailyScoreCalculator.MAX_MACRO)
+                .containsEntry("natrium", DailyScoreCalculator.MAX_NATRIUM);
+        assertThat(result.getMetrics()).containsEntry("kcalRatio", 100.0);
+    }
+
+    @Test
+    void calculateSkipsItemsWithoutTargetAndRescales() {
+        NutritionSnapshot actual = snapshot("2000", "100", "60", "250");
+        NutritionSnapshot noTarget = NutritionSnapshot.builder().kcal(BigDecimal.ZERO).build();
+
+        // 채점 항목: 탄단지 20 + 식사 패턴 6 + 다양성 3 = 29 / 37 → 78점
+        DailyScoreResult result = calculator.calculate(actual, noTarget, 2, 0, 0, 4);
+
+        assertThat(result.getNutrientScores()).doesNotContainKeys("kcal", "protein", "sugar", "natrium",
+                "saturatedFat", "transFat", "cholesterol");
+        assertThat(result.getTotalScore()).isEqualTo(78);
+        assertThat(result.getGrade()).isEqualTo("보통");
+        // NaN 비율은 metrics에 null로 남는다
+        assertThat(result.getMetrics()).containsEntry("kcalRatio", null).containsEntry("proteinRatio", null);
+        assertThat(DailyScoreCalculator.percent(BigDecimal.TEN, null)).isNaN();
+    }
+
+    @Test
+    void weeklyRiskFlagsCountDaysAtThreshold() {
+        List<Map<String, Object>> week = new ArrayList<>();
+        for (int i = 0; i < DailyScoreCalculator.HIGH_NATRIUM_DAYS; i++) {
+            // 목표의 정확히 150%는 위험일로 센다
+            week.add(day(2000, 3000, 10, 3, 250, 100, 60));
+        }
+        for (int i = 0; i < DailyScoreCalculator.HIGH_SUGAR_DAYS - 1; i++) {
+            week.add(day(2000, 1000, 75, 3, 250, 100, 60));
+        }
+
+        assertThat(calculator.weeklyRiskFlags(week)).containsExactly("고나트륨");
+    }
+
+    @Test
+    void weeklyRiskFlagsIgnoreEmptyDaysAndReadLegacyMealCount() {
+        List<Map<String, Object>> week = new ArrayList<>();
+        for (int i = 0; i < DailyScoreCalculator.MACRO_IMBALANCE_DAYS; i++) {
+            Map<String, Object> day = day(1800, 1000, 10, 0, 400, 20, 10);
+            Map<String, Object> pattern = new HashMap<>();
+            pattern.put("mealCount", 2);
+            day.put("mealPattern", pattern);
+            week.add(day);
+        }
+        // 기록이 없는 날(kcal 0)은 어떤 조건도 세지 않는다
+        for (int i = 0; i < 7; i++) {
+            week.add(day(0, 9000, 900, 0, 0, 0, 0));
+        }
+
+        assertThat(calculator.weeklyRiskFlags(week)).containsExactly("불규칙 식사", "영양 불균형");
+    }
+
+    private static NutritionSnapshot snapshot(String kcal, String protein, String fat, String carbohydrates) {
+        return NutritionSnapshot.builder()
+                .kcal(new BigDecimal(kcal))
+                .protein(new BigDecimal(protein))
+                .fat(new BigDecimal(fat))
+                .carbohydrates(new BigDecimal(carbohydrates))
+                .saturatedFat(BigDecimal.TEN)
+                .transFat(BigDecimal.ONE)
+                .sugar(new BigDecimal("40"))
+                .natrium(new BigDecimal("2000"))
+                .cholesterol(new BigDecimal("200"))
+                .build();
+    }
+
+    // 저장된 daily_report.metrics를 다시 읽은 형태 (숫자는 Integer)
+    private static Map<String, Object> day(int kcal, int natrium, int sugar, int mainMealCount,
+                                           int carbohydrates, int protein, int fat) {
+        Map<String, Object> actual = new HashMap<>();
+        actual.put("kcal", kcal);
+        actual.put("natrium", natrium);
+        actual.put("sugar", sugar);
+        actual.put("carbohydrates", carbohydrates);
+        actual.put("protein", protein);
+        actual.put("fat", fat);
+        Map<String, Object> target = new HashMap<>();
+        target.put("kcal", 2000);
+        target.put("natrium", 2000);
+        target.put("sugar", 50);
+        Map<String, Object> pattern = new HashMap<>();
+        pattern.put("mainMealCount", mainMealCount);
+        Map<String, Object> day = new HashMap<>();
+        day.put("actual", actual);
+        day.put("target", target);
+        day.put("mealPattern", pattern);
+        return day;
+    }
+}
@@ -0,0 +1,138 @@
+package com.ssafy.bablog.report.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssafy.bablog.report.domain.ReportInsightCacheEntry;
+import com.ssafy.bablog.report.repository.ReportInsightCacheRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReportInsightCacheTest {
+
+    // BE ReportInsightCacheTest에도 같은 값이 고정되어 있다. 한쪽 키 규칙만 바뀌면 둘 중 하나가 깨진다.
+    private static final String PINNED_KEY = "80b6719b9720bf5781adfd4d4a34e638907384f348858604d028660d18d857f7";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Map<String, ReportInsightCacheEntry> table = new HashMap<>();
+
+    @Test
+    void keyIgnoresFieldOrderAndNumberScale() {
+        ReportInsightCache cache = cache(false);
+        Map<String, Object> first = new LinkedHashMap<>();
+        first.put("kcal", 10.0);
+        first.put("days", List.of(Map.of("natrium", 2.50, "sugar", 0.0)));
+        first.put("memberId", 1);
+        Map<String, Object> second = new LinkedHashMap<>();
+        second.put("memberId", 1L);
+        second.put("days", List.of(Map.of("sugar", 0, "natrium", 2.5)));
+        second.put("kcal", 10);
+
+        assertThat(cache.cacheKey("DAILY", "p-1", first, String.class))
+                .isEqualTo(cache.cacheKey("DAILY", "p-1", second, String.class));
+    }
+
+    @Test
+    void keyKeepsTypesArrayOrderAndContext() {
+        ReportInsightCache cache = cache(false);
+        Map<String, Object> payload = Map.of("kcal", 1, "foods", List.of("밥", "국"));
+        String key = cache.cacheKey("DAILY", "p-1", payload, String.class);
+
+        assertThat(cache.cacheKey("DAILY", "p-1", Map.of("kcal", "1", "foods", List.of("밥", "국")), String.class))
+                .isNotEqualTo(key);
+        assertThat(cache.cacheKey("DAILY", "p-1", Map.of("kcal", 1, "foods", List.of("국", "밥")), String.class))
+                .isNotEqualTo(key);
+        assertThat(cache.cacheKey("WEEKLY", "p-1", payload, String.class)).isNotEqualTo(key);
+        assertThat(cache.cacheKey("DAILY", "p-2", payload, String.class)).isNotEqualTo(key);
+        assertThat(cache.cacheKey("DAILY", "p-1", payload, Map.class)).isNotEqualTo(key);
+    }
+
+    @Test
+    void canonicalizeSortsKeysRecursively() throws Exception {
+        String canonical = objectMapper.writeValueAsString(ReportInsightCache.canonicalize(
+                objectMapper.readTree("{\"b\":{\"y\":1.50,\"x\":null},\"a\":[3,0.000]}")));
+
+        assertThat(canonical).isEqualTo(objectMapper.writeValueAsString(ReportInsightCache.canonicalize(
+                objectMapper.readTree("{\"a\":[3.0,0],\"b\":{\"x\":null,\"y\":1.5}}"))));
+        assertThat(canonical.indexOf("\"a\"")).isLessThan(canonical.indexOf("\"b\""));
+        assertThat(canonical.indexOf("\"x\"")).isLessThan(canonical.indexOf("\"y\""));
+    }
+
+    @Test
+    void keyMatchesPinnedValueSharedWithBe() {
+        assertThat(cache(false).cacheKey("daily", "p-0123456789abcdef", Map.of("kcal", 1850.50, "date", "2024-01-17"),
+                Map.class)).isEqualTo(PINNED_KEY);
+    }
+
+    @Test
+    void asyncLoadIsStoredAndServedFromMemory() {
+        ReportInsightCache cache = cache(false);
+        AtomicInteger loads = new AtomicInteger();
+        Map<String, Object> payload = Map.of("kcal", 2000);
+
+        String first = cache.getOrLoadAsync("daily", "p-1", payload, String.class,
+                () -> CompletableFuture.completedFuture("insight-" + loads.incrementAndGet())).join();
+        String second = cache.getOrLoadAsync("daily", "p-1", payload, String.class,
+                () -> CompletableFuture.completedFuture("insight-" + loads.incrementAndGet())).join();
+
+        assertThat(first).isEqualTo("insight-1");
+        assertThat(second).isEqualTo("insight-1");
+        assertThat(cache.stats().getMemoryHits()).isEqualTo(1);
+        assertThat(cache.stats().getMisses()).isEqualTo(1);
+    }
+
+    @Test
+    void tableHitIsPromotedToMemoryAndCountedAsMeter() {
+        Map<String, Object> payload = Map.of("kcal", 2000);
+        // 다른 인스턴스(재시작 전 또는 다른 서버)가 남긴 행
+        cache(true).getOrLoad("daily", "p-1", payload, String.class, () -> "stored");
+        ReportInsightCache cache = cache(true);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        cache.bindTo(registry);
+
+        assertThat(cache.getOrLoad("daily", "p-1", payload, String.class, () -> "reloaded")).isEqualTo("stored");
+        assertThat(cache.getOrLoad("daily", "p-1", payload, String.class, () -> "reloaded")).isEqualTo("stored");
+
+        assertThat(registry.get("report.insight.cache.requests").tags("result", "hit", "tier", "table")
+                .functionCounter().count()).isEqualTo(1);
+        assertThat(registry.get("report.insight.cache.requests").tags("result", "hit", "tier", "memory")
+                .functionCounter().count()).isEqualTo(1);
+        assertThat(registry.get("report.insight.cache.requests").tags("result", "miss")
+                .functionCounter().count()).isZero();
+        assertThat(registry.get("report.insight.cache.size").gauge().value()).isEqualTo(1);
+    }
+
+    private ReportInsightCache cache(boolean persistentEnabled) {
+        return new ReportInsightCache(new MapRepository(table), objectMapper, 100, 24, persistentEnabled);
+    }
+
+    /**
+     * report_insight_cache 테이블 대역 (만료 시각은 보지 않는다)
+     */
+    private record MapRepository(Map<String, ReportInsightCacheEntry> rows) implements ReportInsightCacheRepository {
+
+        @Override
+        public void upsert(ReportInsightCacheEntry entry) {
+            rows.put(entry.getCacheKey(), entry);
+        }
+
+        @Override
+        public Optional<ReportInsightCacheEntry> findValid(String cacheKey, LocalDateTime now) {
+            return Optional.ofNullable(rows.get(cacheKey));
+        }
+
+        @Override
+        public int deleteExpired(LocalDateTime now) {
+            return 0;
+        }
+    }
+}